@@ -1012,6 +1012,26 @@ public final class Bindings {
     // Numbers
     // =================================================================================================================
 
+    // =================================================================================================================
+    // Fusion
+
+    /**
+     * Starts a {@link FusedNumberExpression} with the value of an {@link ObservableNumberValue}. The arithmetic
+     * operations applied to the fused expression are calculated by a single {@link NumberBinding} once {@link
+     * FusedNumberExpression#toBinding()} is called, instead of one binding per operation.
+     *
+     * @param value
+     *         the first operand
+     *
+     * @return the new {@code FusedNumberExpression}
+     *
+     * @throws NullPointerException
+     *         if the value is {@code null}
+     */
+    public static FusedNumberExpression fuse(final ObservableNumberValue value) {
+        return new FusedNumberExpression(value);
+    }
+
     // =================================================================================================================
     // Negation
 
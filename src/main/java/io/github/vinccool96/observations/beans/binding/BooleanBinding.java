@@ -2,13 +2,14 @@ package io.github.vinccool96.observations.beans.binding;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
+import io.github.vinccool96.observations.sun.binding.BooleanChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of a {@code boolean} value.
@@ -42,6 +43,8 @@ public abstract class BooleanBinding extends BooleanExpression implements Bindin
 
     private ExpressionHelper<Boolean> helper = null;
 
+    private BooleanChangeHelper primitiveHelper = null;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -61,7 +64,7 @@ public abstract class BooleanBinding extends BooleanExpression implements Bindin
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -83,7 +86,29 @@ public abstract class BooleanBinding extends BooleanExpression implements Bindin
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addBooleanChangeListener(BooleanChangeListener listener) {
+        if (!isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        if (isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return BooleanChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -166,6 +191,7 @@ public abstract class BooleanBinding extends BooleanExpression implements Bindin
             valid = false;
             onInvalidating();
             ExpressionHelper.fireValueChangedEvent(helper);
+            BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
         }
     }
 
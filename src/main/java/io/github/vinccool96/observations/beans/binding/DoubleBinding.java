@@ -3,13 +3,14 @@ package io.github.vinccool96.observations.beans.binding;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableNumberValue;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
+import io.github.vinccool96.observations.sun.binding.DoubleChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of a {@code double} value.
@@ -90,6 +91,8 @@ public abstract class DoubleBinding extends DoubleExpression implements NumberBi
 
     private ExpressionHelper<Number> helper = null;
 
+    private DoubleChangeHelper primitiveHelper = null;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -109,7 +112,7 @@ public abstract class DoubleBinding extends DoubleExpression implements NumberBi
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -131,7 +134,29 @@ public abstract class DoubleBinding extends DoubleExpression implements NumberBi
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (!isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        if (isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return DoubleChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -214,6 +239,7 @@ public abstract class DoubleBinding extends DoubleExpression implements NumberBi
             valid = false;
             onInvalidating();
             ExpressionHelper.fireValueChangedEvent(helper);
+            DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
         }
     }
 
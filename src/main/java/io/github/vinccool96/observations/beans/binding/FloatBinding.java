@@ -3,12 +3,13 @@ package io.github.vinccool96.observations.beans.binding;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
+import io.github.vinccool96.observations.sun.binding.FloatChangeHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of a {@code float} value.
@@ -37,6 +38,8 @@ public abstract class FloatBinding extends FloatExpression implements NumberBind
 
     private ExpressionHelper<Number> helper = null;
 
+    private FloatChangeHelper primitiveHelper = null;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -56,7 +59,7 @@ public abstract class FloatBinding extends FloatExpression implements NumberBind
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -78,7 +81,29 @@ public abstract class FloatBinding extends FloatExpression implements NumberBind
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        if (!isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        if (isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return FloatChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -159,6 +184,7 @@ public abstract class FloatBinding extends FloatExpression implements NumberBind
             valid = false;
             onInvalidating();
             ExpressionHelper.fireValueChangedEvent(helper);
+            FloatChangeHelper.fireValueChangedEvent(primitiveHelper);
         }
     }
 
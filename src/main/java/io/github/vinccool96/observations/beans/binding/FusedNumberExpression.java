@@ -0,0 +1,757 @@
+package io.github.vinccool96.observations.beans.binding;
+
+import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.beans.value.*;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.sun.binding.DoubleConstant;
+import io.github.vinccool96.observations.sun.binding.FloatConstant;
+import io.github.vinccool96.observations.sun.binding.IntegerConstant;
+import io.github.vinccool96.observations.sun.binding.LongConstant;
+import io.github.vinccool96.observations.sun.collections.ImmutableObservableList;
+import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * A {@code FusedNumberExpression} builds a chain of arithmetic operations, that is turned into a single {@link
+ * NumberBinding} by {@link #toBinding()}.
+ * <p>
+ * An expression like {@code a.add(b).multiply(c).subtract(d)} creates one binding per operator, each observing the
+ * binding of the previous operator. Its fused equivalent
+ *
+ * <pre>
+ * <code>
+ * NumberBinding result = Bindings.fuse(a).add(b).multiply(c).subtract(d).toBinding();
+ * </code>
+ * </pre>
+ * <p>
+ * creates a single binding, that observes {@code a}, {@code b}, {@code c} and {@code d} directly. It needs less memory
+ * and an invalidation of one of the operands only goes through a single binding.
+ * <p>
+ * Every operation follows the same rules as the corresponding method of {@link Bindings}: its result is a {@code
+ * double} if one of its operands is a {@code double}, otherwise a {@code float} if one of its operands is a {@code
+ * float}, otherwise a {@code long} if one of its operands is a {@code long}, and an {@code int} otherwise. The value of
+ * a fused binding is therefore always the same as the value of the equivalent chain of bindings.
+ * <p>
+ * A {@code FusedNumberExpression} is immutable, a chain can be forked and each branch turned into its own binding.
+ *
+ * @see Bindings#fuse(ObservableNumberValue)
+ */
+public final class FusedNumberExpression {
+
+    private static final int INTEGER = 0;
+
+    private static final int LONG = 1;
+
+    private static final int FLOAT = 2;
+
+    private static final int DOUBLE = 3;
+
+    private final Node root;
+
+    FusedNumberExpression(ObservableNumberValue value) {
+        this(operand(value));
+    }
+
+    private FusedNumberExpression(Node root) {
+        this.root = root;
+    }
+
+    private static Node operand(ObservableNumberValue value) {
+        if (value == null) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+        return new Operand(value, true);
+    }
+
+    private FusedNumberExpression apply(int operator, Node other) {
+        return new FusedNumberExpression(new Operation(operator, root, other));
+    }
+
+    // =================================================================================================================
+    // Sum
+
+    /**
+     * Adds the value of an {@link ObservableNumberValue} to this expression.
+     *
+     * @param other
+     *         the second operand
+     *
+     * @return the new {@code FusedNumberExpression}
+     *
+     * @throws NullPointerException
+     *         if {@code other} is {@code null}
+     */
+    public FusedNumberExpression add(final ObservableNumberValue other) {
+        return apply(Operation.ADD, operand(other));
+    }
+
+    /**
+     * Adds a constant value to this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression add(final double other) {
+        return apply(Operation.ADD, new Operand(DoubleConstant.valueOf(other), false));
+    }
+
+    /**
+     * Adds a constant value to this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression add(final float other) {
+        return apply(Operation.ADD, new Operand(FloatConstant.valueOf(other), false));
+    }
+
+    /**
+     * Adds a constant value to this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression add(final long other) {
+        return apply(Operation.ADD, new Operand(LongConstant.valueOf(other), false));
+    }
+
+    /**
+     * Adds a constant value to this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression add(final int other) {
+        return apply(Operation.ADD, new Operand(IntegerConstant.valueOf(other), false));
+    }
+
+    // =================================================================================================================
+    // Diff
+
+    /**
+     * Subtracts the value of an {@link ObservableNumberValue} from this expression.
+     *
+     * @param other
+     *         the second operand
+     *
+     * @return the new {@code FusedNumberExpression}
+     *
+     * @throws NullPointerException
+     *         if {@code other} is {@code null}
+     */
+    public FusedNumberExpression subtract(final ObservableNumberValue other) {
+        return apply(Operation.SUBTRACT, operand(other));
+    }
+
+    /**
+     * Subtracts a constant value from this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression subtract(final double other) {
+        return apply(Operation.SUBTRACT, new Operand(DoubleConstant.valueOf(other), false));
+    }
+
+    /**
+     * Subtracts a constant value from this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression subtract(final float other) {
+        return apply(Operation.SUBTRACT, new Operand(FloatConstant.valueOf(other), false));
+    }
+
+    /**
+     * Subtracts a constant value from this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression subtract(final long other) {
+        return apply(Operation.SUBTRACT, new Operand(LongConstant.valueOf(other), false));
+    }
+
+    /**
+     * Subtracts a constant value from this expression.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression subtract(final int other) {
+        return apply(Operation.SUBTRACT, new Operand(IntegerConstant.valueOf(other), false));
+    }
+
+    // =================================================================================================================
+    // Multiply
+
+    /**
+     * Multiplies this expression with the value of an {@link ObservableNumberValue}.
+     *
+     * @param other
+     *         the second operand
+     *
+     * @return the new {@code FusedNumberExpression}
+     *
+     * @throws NullPointerException
+     *         if {@code other} is {@code null}
+     */
+    public FusedNumberExpression multiply(final ObservableNumberValue other) {
+        return apply(Operation.MULTIPLY, operand(other));
+    }
+
+    /**
+     * Multiplies this expression with a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression multiply(final double other) {
+        return apply(Operation.MULTIPLY, new Operand(DoubleConstant.valueOf(other), false));
+    }
+
+    /**
+     * Multiplies this expression with a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression multiply(final float other) {
+        return apply(Operation.MULTIPLY, new Operand(FloatConstant.valueOf(other), false));
+    }
+
+    /**
+     * Multiplies this expression with a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression multiply(final long other) {
+        return apply(Operation.MULTIPLY, new Operand(LongConstant.valueOf(other), false));
+    }
+
+    /**
+     * Multiplies this expression with a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression multiply(final int other) {
+        return apply(Operation.MULTIPLY, new Operand(IntegerConstant.valueOf(other), false));
+    }
+
+    // =================================================================================================================
+    // Divide
+
+    /**
+     * Divides this expression by the value of an {@link ObservableNumberValue}.
+     *
+     * @param other
+     *         the second operand
+     *
+     * @return the new {@code FusedNumberExpression}
+     *
+     * @throws NullPointerException
+     *         if {@code other} is {@code null}
+     */
+    public FusedNumberExpression divide(final ObservableNumberValue other) {
+        return apply(Operation.DIVIDE, operand(other));
+    }
+
+    /**
+     * Divides this expression by a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression divide(final double other) {
+        return apply(Operation.DIVIDE, new Operand(DoubleConstant.valueOf(other), false));
+    }
+
+    /**
+     * Divides this expression by a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression divide(final float other) {
+        return apply(Operation.DIVIDE, new Operand(FloatConstant.valueOf(other), false));
+    }
+
+    /**
+     * Divides this expression by a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression divide(final long other) {
+        return apply(Operation.DIVIDE, new Operand(LongConstant.valueOf(other), false));
+    }
+
+    /**
+     * Divides this expression by a constant value.
+     *
+     * @param other
+     *         the constant value
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression divide(final int other) {
+        return apply(Operation.DIVIDE, new Operand(IntegerConstant.valueOf(other), false));
+    }
+
+    // =================================================================================================================
+    // Negation
+
+    /**
+     * Negates this expression.
+     *
+     * @return the new {@code FusedNumberExpression}
+     */
+    public FusedNumberExpression negate() {
+        return new FusedNumberExpression(new Negation(root));
+    }
+
+    // =================================================================================================================
+    // Binding
+
+    /**
+     * Creates a {@link NumberBinding} that calculates the value of this expression. The binding observes every distinct
+     * {@link ObservableNumberValue} operand of the expression directly, no intermediate binding is created.
+     * <p>
+     * The binding is a {@link DoubleBinding}, a {@link FloatBinding}, a {@link LongBinding} or an {@link
+     * IntegerBinding}, depending on the type of the result of the last operation.
+     *
+     * @return the new {@code NumberBinding}
+     */
+    public NumberBinding toBinding() {
+        final List<Observable> list = new ArrayList<>();
+        root.collectDependencies(list, new IdentityHashMap<>());
+        final Observable[] dependencies = list.toArray(new Observable[0]);
+        final Node node = root;
+
+        switch (node.type) {
+            case DOUBLE:
+                return new DoubleBinding() {
+
+                    {
+                        super.bind(dependencies);
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.unbind(dependencies);
+                    }
+
+                    @Override
+                    protected double computeValue() {
+                        return node.doubleValue();
+                    }
+
+                    @Override
+                    @ReturnsUnmodifiableCollection
+                    public ObservableList<?> getDependencies() {
+                        return FusedNumberExpression.getDependencies(dependencies);
+                    }
+                };
+            case FLOAT:
+                return new FloatBinding() {
+
+                    {
+                        super.bind(dependencies);
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.unbind(dependencies);
+                    }
+
+                    @Override
+                    protected float computeValue() {
+                        return node.floatValue();
+                    }
+
+                    @Override
+                    @ReturnsUnmodifiableCollection
+                    public ObservableList<?> getDependencies() {
+                        return FusedNumberExpression.getDependencies(dependencies);
+                    }
+                };
+            case LONG:
+                return new LongBinding() {
+
+                    {
+                        super.bind(dependencies);
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.unbind(dependencies);
+                    }
+
+                    @Override
+                    protected long computeValue() {
+                        return node.longValue();
+                    }
+
+                    @Override
+                    @ReturnsUnmodifiableCollection
+                    public ObservableList<?> getDependencies() {
+                        return FusedNumberExpression.getDependencies(dependencies);
+                    }
+                };
+            default:
+                return new IntegerBinding() {
+
+                    {
+                        super.bind(dependencies);
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.unbind(dependencies);
+                    }
+
+                    @Override
+                    protected int computeValue() {
+                        return node.intValue();
+                    }
+
+                    @Override
+                    @ReturnsUnmodifiableCollection
+                    public ObservableList<?> getDependencies() {
+                        return FusedNumberExpression.getDependencies(dependencies);
+                    }
+                };
+        }
+    }
+
+    private static ObservableList<?> getDependencies(Observable[] dependencies) {
+        return (dependencies.length == 1) ? ObservableCollections.singletonObservableList(dependencies[0]) :
+                new ImmutableObservableList<>(dependencies);
+    }
+
+    // =================================================================================================================
+    // Nodes
+
+    /**
+     * A node of the expression tree. Like a {@link Number}, it can be read as any of the four types, and the value is
+     * converted from the type of the node.
+     */
+    private abstract static class Node {
+
+        final int type;
+
+        Node(int type) {
+            this.type = type;
+        }
+
+        abstract int intValue();
+
+        abstract long longValue();
+
+        abstract float floatValue();
+
+        abstract double doubleValue();
+
+        abstract void collectDependencies(List<Observable> dependencies, IdentityHashMap<Observable, Boolean> seen);
+
+    }
+
+    private static final class Operand extends Node {
+
+        private final ObservableNumberValue value;
+
+        private final boolean dependency;
+
+        private Operand(ObservableNumberValue value, boolean dependency) {
+            super((value instanceof ObservableDoubleValue) ? DOUBLE : (value instanceof ObservableFloatValue) ? FLOAT :
+                    (value instanceof ObservableLongValue) ? LONG : INTEGER);
+            this.value = value;
+            this.dependency = dependency;
+        }
+
+        @Override
+        int intValue() {
+            return value.intValue();
+        }
+
+        @Override
+        long longValue() {
+            return value.longValue();
+        }
+
+        @Override
+        float floatValue() {
+            return value.floatValue();
+        }
+
+        @Override
+        double doubleValue() {
+            return value.doubleValue();
+        }
+
+        @Override
+        void collectDependencies(List<Observable> dependencies, IdentityHashMap<Observable, Boolean> seen) {
+            if (dependency && (seen.put(value, Boolean.TRUE) == null)) {
+                dependencies.add(value);
+            }
+        }
+
+    }
+
+    private static final class Operation extends Node {
+
+        private static final int ADD = 0;
+
+        private static final int SUBTRACT = 1;
+
+        private static final int MULTIPLY = 2;
+
+        private static final int DIVIDE = 3;
+
+        private final int operator;
+
+        private final Node op1;
+
+        private final Node op2;
+
+        private Operation(int operator, Node op1, Node op2) {
+            super(Math.max(op1.type, op2.type));
+            this.operator = operator;
+            this.op1 = op1;
+            this.op2 = op2;
+        }
+
+        private int computeInt() {
+            final int v1 = op1.intValue();
+            final int v2 = op2.intValue();
+            switch (operator) {
+                case ADD:
+                    return v1 + v2;
+                case SUBTRACT:
+                    return v1 - v2;
+                case MULTIPLY:
+                    return v1 * v2;
+                default:
+                    return v1 / v2;
+            }
+        }
+
+        private long computeLong() {
+            final long v1 = op1.longValue();
+            final long v2 = op2.longValue();
+            switch (operator) {
+                case ADD:
+                    return v1 + v2;
+                case SUBTRACT:
+                    return v1 - v2;
+                case MULTIPLY:
+                    return v1 * v2;
+                default:
+                    return v1 / v2;
+            }
+        }
+
+        private float computeFloat() {
+            final float v1 = op1.floatValue();
+            final float v2 = op2.floatValue();
+            switch (operator) {
+                case ADD:
+                    return v1 + v2;
+                case SUBTRACT:
+                    return v1 - v2;
+                case MULTIPLY:
+                    return v1 * v2;
+                default:
+                    return v1 / v2;
+            }
+        }
+
+        private double computeDouble() {
+            final double v1 = op1.doubleValue();
+            final double v2 = op2.doubleValue();
+            switch (operator) {
+                case ADD:
+                    return v1 + v2;
+                case SUBTRACT:
+                    return v1 - v2;
+                case MULTIPLY:
+                    return v1 * v2;
+                default:
+                    return v1 / v2;
+            }
+        }
+
+        @Override
+        int intValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (int) computeDouble();
+                case FLOAT:
+                    return (int) computeFloat();
+                case LONG:
+                    return (int) computeLong();
+                default:
+                    return computeInt();
+            }
+        }
+
+        @Override
+        long longValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (long) computeDouble();
+                case FLOAT:
+                    return (long) computeFloat();
+                case LONG:
+                    return computeLong();
+                default:
+                    return computeInt();
+            }
+        }
+
+        @Override
+        float floatValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (float) computeDouble();
+                case FLOAT:
+                    return computeFloat();
+                case LONG:
+                    return (float) computeLong();
+                default:
+                    return (float) computeInt();
+            }
+        }
+
+        @Override
+        double doubleValue() {
+            switch (type) {
+                case DOUBLE:
+                    return computeDouble();
+                case FLOAT:
+                    return computeFloat();
+                case LONG:
+                    return (double) computeLong();
+                default:
+                    return computeInt();
+            }
+        }
+
+        @Override
+        void collectDependencies(List<Observable> dependencies, IdentityHashMap<Observable, Boolean> seen) {
+            op1.collectDependencies(dependencies, seen);
+            op2.collectDependencies(dependencies, seen);
+        }
+
+    }
+
+    private static final class Negation extends Node {
+
+        private final Node op;
+
+        private Negation(Node op) {
+            super(op.type);
+            this.op = op;
+        }
+
+        @Override
+        int intValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (int) -op.doubleValue();
+                case FLOAT:
+                    return (int) -op.floatValue();
+                case LONG:
+                    return (int) -op.longValue();
+                default:
+                    return -op.intValue();
+            }
+        }
+
+        @Override
+        long longValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (long) -op.doubleValue();
+                case FLOAT:
+                    return (long) -op.floatValue();
+                case LONG:
+                    return -op.longValue();
+                default:
+                    return (long) -op.intValue();
+            }
+        }
+
+        @Override
+        float floatValue() {
+            switch (type) {
+                case DOUBLE:
+                    return (float) -op.doubleValue();
+                case FLOAT:
+                    return -op.floatValue();
+                case LONG:
+                    return (float) -op.longValue();
+                default:
+                    return (float) -op.intValue();
+            }
+        }
+
+        @Override
+        double doubleValue() {
+            switch (type) {
+                case DOUBLE:
+                    return -op.doubleValue();
+                case FLOAT:
+                    return -op.floatValue();
+                case LONG:
+                    return (double) -op.longValue();
+                default:
+                    return -op.intValue();
+            }
+        }
+
+        @Override
+        void collectDependencies(List<Observable> dependencies, IdentityHashMap<Observable, Boolean> seen) {
+            op.collectDependencies(dependencies, seen);
+        }
+
+    }
+
+}
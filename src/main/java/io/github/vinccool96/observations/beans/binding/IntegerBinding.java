@@ -3,12 +3,13 @@ package io.github.vinccool96.observations.beans.binding;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
+import io.github.vinccool96.observations.sun.binding.IntegerChangeHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of an {@code int} value.
@@ -37,6 +38,8 @@ public abstract class IntegerBinding extends IntegerExpression implements Number
 
     private ExpressionHelper<Number> helper = null;
 
+    private IntegerChangeHelper primitiveHelper = null;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -56,7 +59,7 @@ public abstract class IntegerBinding extends IntegerExpression implements Number
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -78,7 +81,29 @@ public abstract class IntegerBinding extends IntegerExpression implements Number
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        if (!isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        if (isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return IntegerChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -161,6 +186,7 @@ public abstract class IntegerBinding extends IntegerExpression implements Number
             valid = false;
             onInvalidating();
             ExpressionHelper.fireValueChangedEvent(helper);
+            IntegerChangeHelper.fireValueChangedEvent(primitiveHelper);
         }
     }
 
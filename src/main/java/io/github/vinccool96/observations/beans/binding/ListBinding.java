@@ -13,7 +13,6 @@ import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.ListExpressionHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of an {@link
@@ -133,7 +132,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -155,7 +154,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -174,7 +173,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
 
     @Override
     public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(this.helper.getListChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     /**
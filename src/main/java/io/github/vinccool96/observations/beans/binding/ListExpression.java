@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.Predicate;
 
 /**
  * A {@code ListExpression} is a {@link ObservableListValue} plus additional convenience methods to generate bindings in
@@ -274,6 +275,12 @@ public abstract class ListExpression<E> implements ObservableListValue<E> {
         return (list == null) ? EMPTY_LIST.retainAll(objects) : list.retainAll(objects);
     }
 
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        final ObservableList<E> list = get();
+        return (list == null) ? EMPTY_LIST.removeIf(filter) : list.removeIf(filter);
+    }
+
     @Override
     public void clear() {
         final ObservableList<E> list = get();
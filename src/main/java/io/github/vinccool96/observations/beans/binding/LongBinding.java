@@ -3,12 +3,13 @@ package io.github.vinccool96.observations.beans.binding;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
+import io.github.vinccool96.observations.sun.binding.LongChangeHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of a {@code long} value.
@@ -37,6 +38,8 @@ public abstract class LongBinding extends LongExpression implements NumberBindin
 
     private ExpressionHelper<Number> helper = null;
 
+    private LongChangeHelper primitiveHelper = null;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || isInvalidationListenerAlreadyAdded(listener)) {
@@ -51,7 +54,7 @@ public abstract class LongBinding extends LongExpression implements NumberBindin
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -73,7 +76,29 @@ public abstract class LongBinding extends LongExpression implements NumberBindin
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        if (!isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        if (isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return LongChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -156,6 +181,7 @@ public abstract class LongBinding extends LongExpression implements NumberBindin
             valid = false;
             onInvalidating();
             ExpressionHelper.fireValueChangedEvent(helper);
+            LongChangeHelper.fireValueChangedEvent(primitiveHelper);
         }
     }
 
@@ -14,7 +14,6 @@ import io.github.vinccool96.observations.collections.ObservableMap;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.MapExpressionHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of an {@link
@@ -136,7 +135,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -158,7 +157,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -177,7 +176,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getMapChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     /**
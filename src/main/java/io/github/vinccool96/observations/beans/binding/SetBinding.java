@@ -14,7 +14,6 @@ import io.github.vinccool96.observations.collections.SetChangeListener;
 import io.github.vinccool96.observations.sun.binding.BindingHelperObserver;
 import io.github.vinccool96.observations.sun.binding.SetExpressionHelper;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class that provides most of the functionality needed to implement a {@link Binding} of an {@link
@@ -134,7 +133,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -156,7 +155,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -175,7 +174,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
 
     @Override
     public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getSetChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -3,11 +3,12 @@ package io.github.vinccool96.observations.beans.property;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.binding.BooleanBinding;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableBooleanValue;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
+import io.github.vinccool96.observations.sun.binding.BooleanChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.lang.ref.WeakReference;
 
@@ -31,6 +32,8 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
 
     private ExpressionHelper<Boolean> helper = null;
 
+    private BooleanChangeHelper primitiveHelper = null;
+
     /**
      * The constructor of the {@code BooleanPropertyBase}.
      */
@@ -61,7 +64,7 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -83,7 +86,29 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addBooleanChangeListener(BooleanChangeListener listener) {
+        if (!isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        if (isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return BooleanChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -95,6 +120,7 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
@@ -4,11 +4,12 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.binding.DoubleBinding;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableDoubleValue;
 import io.github.vinccool96.observations.beans.value.ObservableNumberValue;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
+import io.github.vinccool96.observations.sun.binding.DoubleChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.lang.ref.WeakReference;
 
@@ -32,6 +33,8 @@ public abstract class DoublePropertyBase extends DoubleProperty {
 
     private ExpressionHelper<Number> helper = null;
 
+    private DoubleChangeHelper primitiveHelper = null;
+
     /**
      * The constructor of the {@code DoublePropertyBase}.
      */
@@ -64,7 +67,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -86,7 +89,29 @@ public abstract class DoublePropertyBase extends DoubleProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (!isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        if (isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return DoubleChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -98,6 +123,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
@@ -4,11 +4,12 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.binding.FloatBinding;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableFloatValue;
 import io.github.vinccool96.observations.beans.value.ObservableNumberValue;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.FloatChangeHelper;
 
 import java.lang.ref.WeakReference;
 
@@ -32,6 +33,8 @@ public abstract class FloatPropertyBase extends FloatProperty {
 
     private ExpressionHelper<Number> helper = null;
 
+    private FloatChangeHelper primitiveHelper = null;
+
     /**
      * The constructor of the {@code FloatPropertyBase}.
      */
@@ -62,7 +65,7 @@ public abstract class FloatPropertyBase extends FloatProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -84,7 +87,29 @@ public abstract class FloatPropertyBase extends FloatProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        if (!isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        if (isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return FloatChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -96,6 +121,7 @@ public abstract class FloatPropertyBase extends FloatProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        FloatChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
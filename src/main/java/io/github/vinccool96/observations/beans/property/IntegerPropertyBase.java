@@ -4,11 +4,12 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.binding.IntegerBinding;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableIntegerValue;
 import io.github.vinccool96.observations.beans.value.ObservableNumberValue;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.IntegerChangeHelper;
 
 import java.lang.ref.WeakReference;
 
@@ -32,6 +33,8 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
 
     private ExpressionHelper<Number> helper = null;
 
+    private IntegerChangeHelper primitiveHelper = null;
+
     /**
      * The constructor of the {@code IntegerPropertyBase}.
      */
@@ -62,7 +65,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -84,7 +87,29 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        if (!isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        if (isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return IntegerChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -96,6 +121,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
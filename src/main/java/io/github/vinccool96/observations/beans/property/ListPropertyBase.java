@@ -8,7 +8,6 @@ import io.github.vinccool96.observations.collections.ListChangeListener;
 import io.github.vinccool96.observations.collections.ListChangeListener.Change;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.ListExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.lang.ref.WeakReference;
 
@@ -143,7 +142,7 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -165,7 +164,7 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -184,7 +183,7 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
 
     @Override
     public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(this.helper.getListChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     /**
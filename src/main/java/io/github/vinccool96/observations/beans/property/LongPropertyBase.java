@@ -4,11 +4,12 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.beans.binding.LongBinding;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableLongValue;
 import io.github.vinccool96.observations.beans.value.ObservableNumberValue;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.LongChangeHelper;
 
 import java.lang.ref.WeakReference;
 
@@ -32,6 +33,8 @@ public abstract class LongPropertyBase extends LongProperty {
 
     private ExpressionHelper<Number> helper = null;
 
+    private LongChangeHelper primitiveHelper = null;
+
     /**
      * The constructor of the {@code LongPropertyBase}.
      */
@@ -62,7 +65,7 @@ public abstract class LongPropertyBase extends LongProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -84,7 +87,29 @@ public abstract class LongPropertyBase extends LongProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        if (!isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        if (isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return LongChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -96,6 +121,7 @@ public abstract class LongPropertyBase extends LongProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        LongChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
@@ -7,7 +7,6 @@ import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.collections.MapChangeListener;
 import io.github.vinccool96.observations.collections.ObservableMap;
 import io.github.vinccool96.observations.sun.binding.MapExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.lang.ref.WeakReference;
 
@@ -146,7 +145,7 @@ public abstract class MapPropertyBase<K, V> extends MapProperty<K, V> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -168,7 +167,7 @@ public abstract class MapPropertyBase<K, V> extends MapProperty<K, V> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -187,7 +186,7 @@ public abstract class MapPropertyBase<K, V> extends MapProperty<K, V> {
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getMapChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     /**
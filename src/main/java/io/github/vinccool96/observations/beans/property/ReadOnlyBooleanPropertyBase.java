@@ -1,9 +1,10 @@
 package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.sun.binding.BooleanChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class for all readonly properties wrapping a {@code boolean}. This class provides a default implementation to
@@ -15,6 +16,8 @@ public abstract class ReadOnlyBooleanPropertyBase extends ReadOnlyBooleanPropert
 
     ExpressionHelper<Boolean> helper;
 
+    BooleanChangeHelper primitiveHelper;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || !isInvalidationListenerAlreadyAdded(listener)) {
@@ -29,7 +32,7 @@ public abstract class ReadOnlyBooleanPropertyBase extends ReadOnlyBooleanPropert
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -51,7 +54,29 @@ public abstract class ReadOnlyBooleanPropertyBase extends ReadOnlyBooleanPropert
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addBooleanChangeListener(BooleanChangeListener listener) {
+        if (!isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        if (isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return BooleanChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -62,6 +87,7 @@ public abstract class ReadOnlyBooleanPropertyBase extends ReadOnlyBooleanPropert
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
@@ -2,8 +2,9 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
+import io.github.vinccool96.observations.sun.binding.DoubleChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class for all readonly properties wrapping a {@code double}. This class provides a default implementation to
@@ -15,6 +16,8 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
 
     ExpressionHelper<Number> helper;
 
+    DoubleChangeHelper primitiveHelper;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || !isInvalidationListenerAlreadyAdded(listener)) {
@@ -29,7 +32,7 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -51,7 +54,29 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (!isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        if (isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return DoubleChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -62,6 +87,7 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
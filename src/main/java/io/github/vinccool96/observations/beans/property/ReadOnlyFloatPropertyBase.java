@@ -2,8 +2,9 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.FloatChangeHelper;
 
 /**
  * Base class for all readonly properties wrapping a {@code float}. This class provides a default implementation to
@@ -15,6 +16,8 @@ public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
 
     ExpressionHelper<Number> helper;
 
+    FloatChangeHelper primitiveHelper;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || !isInvalidationListenerAlreadyAdded(listener)) {
@@ -29,7 +32,7 @@ public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -51,7 +54,29 @@ public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        if (!isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        if (isFloatChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = FloatChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return FloatChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -62,6 +87,7 @@ public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        FloatChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
@@ -2,8 +2,9 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.IntegerChangeHelper;
 
 /**
  * Base class for all readonly properties wrapping an {@code int}. This class provides a default implementation to
@@ -15,6 +16,8 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
 
     ExpressionHelper<Number> helper;
 
+    IntegerChangeHelper primitiveHelper;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || !isInvalidationListenerAlreadyAdded(listener)) {
@@ -29,7 +32,7 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -51,7 +54,29 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        if (!isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        if (isIntegerChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = IntegerChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return IntegerChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -62,6 +87,7 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
@@ -6,7 +6,6 @@ import io.github.vinccool96.observations.collections.ListChangeListener;
 import io.github.vinccool96.observations.collections.ListChangeListener.Change;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.ListExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class for all readonly properties wrapping a {@link ObservableList}. This class provides a default
@@ -34,7 +33,7 @@ public abstract class ReadOnlyListPropertyBase<E> extends ReadOnlyListProperty<E
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -56,7 +55,7 @@ public abstract class ReadOnlyListPropertyBase<E> extends ReadOnlyListProperty<E
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -75,7 +74,7 @@ public abstract class ReadOnlyListPropertyBase<E> extends ReadOnlyListProperty<E
 
     @Override
     public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(this.helper.getListChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -2,8 +2,9 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
+import io.github.vinccool96.observations.sun.binding.LongChangeHelper;
 
 /**
  * Base class for all readonly properties wrapping a {@code long}. This class provides a default implementation to
@@ -15,6 +16,8 @@ public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
 
     ExpressionHelper<Number> helper;
 
+    LongChangeHelper primitiveHelper;
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (helper == null || !isInvalidationListenerAlreadyAdded(listener)) {
@@ -29,7 +32,7 @@ public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -51,7 +54,29 @@ public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        if (!isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        if (isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return LongChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -62,6 +87,7 @@ public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        LongChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
@@ -5,7 +5,6 @@ import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.collections.MapChangeListener;
 import io.github.vinccool96.observations.collections.ObservableMap;
 import io.github.vinccool96.observations.sun.binding.MapExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class for all readonly properties wrapping an {@link ObservableMap}. This class provides a default
@@ -33,7 +32,7 @@ public abstract class ReadOnlyMapPropertyBase<K, V> extends ReadOnlyMapProperty<
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -55,7 +54,7 @@ public abstract class ReadOnlyMapPropertyBase<K, V> extends ReadOnlyMapProperty<
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -74,7 +73,7 @@ public abstract class ReadOnlyMapPropertyBase<K, V> extends ReadOnlyMapProperty<
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getMapChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     /**
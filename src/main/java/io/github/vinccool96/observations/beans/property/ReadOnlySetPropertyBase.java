@@ -6,7 +6,6 @@ import io.github.vinccool96.observations.collections.ObservableSet;
 import io.github.vinccool96.observations.collections.SetChangeListener;
 import io.github.vinccool96.observations.collections.SetChangeListener.Change;
 import io.github.vinccool96.observations.sun.binding.SetExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Base class for all readonly properties wrapping an {@link ObservableSet}. This class provides a default
@@ -37,7 +36,7 @@ public abstract class ReadOnlySetPropertyBase<E> extends ReadOnlySetProperty<E>
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -59,7 +58,7 @@ public abstract class ReadOnlySetPropertyBase<E> extends ReadOnlySetProperty<E>
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -78,7 +77,7 @@ public abstract class ReadOnlySetPropertyBase<E> extends ReadOnlySetProperty<E>
 
     @Override
     public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getSetChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -8,7 +8,6 @@ import io.github.vinccool96.observations.collections.ObservableSet;
 import io.github.vinccool96.observations.collections.SetChangeListener;
 import io.github.vinccool96.observations.collections.SetChangeListener.Change;
 import io.github.vinccool96.observations.sun.binding.SetExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.lang.ref.WeakReference;
 
@@ -145,7 +144,7 @@ public abstract class SetPropertyBase<E> extends SetProperty<E> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -167,7 +166,7 @@ public abstract class SetPropertyBase<E> extends SetProperty<E> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -186,7 +185,7 @@ public abstract class SetPropertyBase<E> extends SetProperty<E> {
 
     @Override
     public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getSetChangeListeners(), listener);
+        return SetExpressionHelper.containsListener(helper, listener);
     }
 
     /**
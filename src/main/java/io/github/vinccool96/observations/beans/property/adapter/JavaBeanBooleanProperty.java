@@ -2,12 +2,13 @@ package io.github.vinccool96.observations.beans.property.adapter;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.property.BooleanProperty;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
+import io.github.vinccool96.observations.sun.binding.BooleanChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
 import io.github.vinccool96.observations.sun.property.adapter.Disposer;
 import io.github.vinccool96.observations.sun.property.adapter.PropertyDescriptor;
-import io.github.vinccool96.observations.util.ArrayUtils;
 import sun.reflect.misc.MethodUtil;
 
 import java.lang.reflect.InvocationTargetException;
@@ -42,6 +43,8 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
 
     private ExpressionHelper<Boolean> helper = null;
 
+    private BooleanChangeHelper primitiveHelper = null;
+
     private final AccessControlContext acc = AccessController.getContext();
 
     JavaBeanBooleanProperty(PropertyDescriptor descriptor, Object bean) {
@@ -88,6 +91,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
             try {
                 MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[]{value});
                 ExpressionHelper.fireValueChangedEvent(helper);
+                BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -174,7 +178,35 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addBooleanChangeListener(BooleanChangeListener listener) {
+        if (!isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        if (isBooleanChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = BooleanChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return BooleanChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -197,7 +229,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -206,6 +238,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
     @Override
     public void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     /**
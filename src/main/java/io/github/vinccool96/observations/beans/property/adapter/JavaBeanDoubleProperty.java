@@ -3,11 +3,12 @@ package io.github.vinccool96.observations.beans.property.adapter;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.property.DoubleProperty;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
+import io.github.vinccool96.observations.sun.binding.DoubleChangeHelper;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
 import io.github.vinccool96.observations.sun.property.adapter.Disposer;
 import io.github.vinccool96.observations.sun.property.adapter.PropertyDescriptor;
-import io.github.vinccool96.observations.util.ArrayUtils;
 import sun.reflect.misc.MethodUtil;
 
 import java.lang.reflect.InvocationTargetException;
@@ -42,6 +43,8 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
 
     private ExpressionHelper<Number> helper = null;
 
+    private DoubleChangeHelper primitiveHelper = null;
+
     private final AccessControlContext acc = AccessController.getContext();
 
     JavaBeanDoubleProperty(PropertyDescriptor descriptor, Object bean) {
@@ -89,6 +92,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
             try {
                 MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[]{value});
                 ExpressionHelper.fireValueChangedEvent(helper);
+                DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -175,7 +179,35 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (!isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        if (isDoubleChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return DoubleChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -198,7 +230,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -207,6 +239,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
     @Override
     public void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     /**
@@ -3,11 +3,12 @@ package io.github.vinccool96.observations.beans.property.adapter;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.property.LongProperty;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
+import io.github.vinccool96.observations.sun.binding.LongChangeHelper;
 import io.github.vinccool96.observations.sun.property.adapter.Disposer;
 import io.github.vinccool96.observations.sun.property.adapter.PropertyDescriptor;
-import io.github.vinccool96.observations.util.ArrayUtils;
 import sun.reflect.misc.MethodUtil;
 
 import java.lang.reflect.InvocationTargetException;
@@ -42,6 +43,8 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
 
     private ExpressionHelper<Number> helper = null;
 
+    private LongChangeHelper primitiveHelper = null;
+
     private final AccessControlContext acc = AccessController.getContext();
 
     JavaBeanLongProperty(PropertyDescriptor descriptor, Object bean) {
@@ -88,6 +91,7 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
             try {
                 MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[]{value});
                 ExpressionHelper.fireValueChangedEvent(helper);
+                LongChangeHelper.fireValueChangedEvent(primitiveHelper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -174,7 +178,35 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        if (!isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.addListener(primitiveHelper, this, listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        if (isLongChangeListenerAlreadyAdded(listener)) {
+            primitiveHelper = LongChangeHelper.removeListener(primitiveHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return LongChangeHelper.containsListener(primitiveHelper, listener);
     }
 
     /**
@@ -197,7 +229,7 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -206,6 +238,7 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
     @Override
     public void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        LongChangeHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     /**
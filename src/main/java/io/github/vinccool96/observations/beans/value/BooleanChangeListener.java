@@ -0,0 +1,35 @@
+package io.github.vinccool96.observations.beans.value;
+
+/**
+ * A {@code BooleanChangeListener} is notified whenever the value of an {@link ObservableBooleanValue} changes. It can
+ * be registered and unregistered with {@link ObservableBooleanValue#addBooleanChangeListener(BooleanChangeListener)}
+ * respectively {@link ObservableBooleanValue#removeBooleanChangeListener(BooleanChangeListener)}
+ * <p>
+ * It is the primitive specialization of {@link ChangeListener}: the old and the new value are passed as {@code
+ * boolean}, so notifying a {@code BooleanChangeListener} never boxes the value.
+ * <p>
+ * The same instance of {@code BooleanChangeListener} can be registered to listen to multiple {@code
+ * ObservableBooleanValues}.
+ *
+ * @see ObservableBooleanValue
+ * @see ChangeListener
+ */
+@FunctionalInterface
+public interface BooleanChangeListener {
+
+    /**
+     * This method needs to be provided by an implementation of {@code BooleanChangeListener}. It is called if the value
+     * of an {@link ObservableBooleanValue} changes.
+     * <p>
+     * In general is is considered bad practice to modify the observed value in this method.
+     *
+     * @param observable
+     *         The {@code ObservableBooleanValue} which value changed
+     * @param oldValue
+     *         The old value
+     * @param newValue
+     *         The new value
+     */
+    void changed(ObservableBooleanValue observable, boolean oldValue, boolean newValue);
+
+}
@@ -0,0 +1,35 @@
+package io.github.vinccool96.observations.beans.value;
+
+/**
+ * A {@code DoubleChangeListener} is notified whenever the value of an {@link ObservableDoubleValue} changes. It can be
+ * registered and unregistered with {@link ObservableDoubleValue#addDoubleChangeListener(DoubleChangeListener)}
+ * respectively {@link ObservableDoubleValue#removeDoubleChangeListener(DoubleChangeListener)}
+ * <p>
+ * It is the primitive specialization of {@link ChangeListener}: the old and the new value are passed as {@code double},
+ * so notifying a {@code DoubleChangeListener} never boxes the value.
+ * <p>
+ * The same instance of {@code DoubleChangeListener} can be registered to listen to multiple {@code
+ * ObservableDoubleValues}.
+ *
+ * @see ObservableDoubleValue
+ * @see ChangeListener
+ */
+@FunctionalInterface
+public interface DoubleChangeListener {
+
+    /**
+     * This method needs to be provided by an implementation of {@code DoubleChangeListener}. It is called if the value
+     * of an {@link ObservableDoubleValue} changes.
+     * <p>
+     * In general is is considered bad practice to modify the observed value in this method.
+     *
+     * @param observable
+     *         The {@code ObservableDoubleValue} which value changed
+     * @param oldValue
+     *         The old value
+     * @param newValue
+     *         The new value
+     */
+    void changed(ObservableDoubleValue observable, double oldValue, double newValue);
+
+}
@@ -0,0 +1,35 @@
+package io.github.vinccool96.observations.beans.value;
+
+/**
+ * A {@code FloatChangeListener} is notified whenever the value of an {@link ObservableFloatValue} changes. It can be
+ * registered and unregistered with {@link ObservableFloatValue#addFloatChangeListener(FloatChangeListener)}
+ * respectively {@link ObservableFloatValue#removeFloatChangeListener(FloatChangeListener)}
+ * <p>
+ * It is the primitive specialization of {@link ChangeListener}: the old and the new value are passed as {@code float},
+ * so notifying a {@code FloatChangeListener} never boxes the value.
+ * <p>
+ * The same instance of {@code FloatChangeListener} can be registered to listen to multiple {@code
+ * ObservableFloatValues}.
+ *
+ * @see ObservableFloatValue
+ * @see ChangeListener
+ */
+@FunctionalInterface
+public interface FloatChangeListener {
+
+    /**
+     * This method needs to be provided by an implementation of {@code FloatChangeListener}. It is called if the value
+     * of an {@link ObservableFloatValue} changes.
+     * <p>
+     * In general is is considered bad practice to modify the observed value in this method.
+     *
+     * @param observable
+     *         The {@code ObservableFloatValue} which value changed
+     * @param oldValue
+     *         The old value
+     * @param newValue
+     *         The new value
+     */
+    void changed(ObservableFloatValue observable, float oldValue, float newValue);
+
+}
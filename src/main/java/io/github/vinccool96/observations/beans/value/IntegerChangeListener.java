@@ -0,0 +1,35 @@
+package io.github.vinccool96.observations.beans.value;
+
+/**
+ * An {@code IntegerChangeListener} is notified whenever the value of an {@link ObservableIntegerValue} changes. It can
+ * be registered and unregistered with {@link ObservableIntegerValue#addIntegerChangeListener(IntegerChangeListener)}
+ * respectively {@link ObservableIntegerValue#removeIntegerChangeListener(IntegerChangeListener)}
+ * <p>
+ * It is the primitive specialization of {@link ChangeListener}: the old and the new value are passed as {@code int},
+ * so notifying an {@code IntegerChangeListener} never boxes the value.
+ * <p>
+ * The same instance of {@code IntegerChangeListener} can be registered to listen to multiple {@code
+ * ObservableIntegerValues}.
+ *
+ * @see ObservableIntegerValue
+ * @see ChangeListener
+ */
+@FunctionalInterface
+public interface IntegerChangeListener {
+
+    /**
+     * This method needs to be provided by an implementation of {@code IntegerChangeListener}. It is called if the value
+     * of an {@link ObservableIntegerValue} changes.
+     * <p>
+     * In general is is considered bad practice to modify the observed value in this method.
+     *
+     * @param observable
+     *         The {@code ObservableIntegerValue} which value changed
+     * @param oldValue
+     *         The old value
+     * @param newValue
+     *         The new value
+     */
+    void changed(ObservableIntegerValue observable, int oldValue, int newValue);
+
+}
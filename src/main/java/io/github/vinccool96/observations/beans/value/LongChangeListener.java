@@ -0,0 +1,35 @@
+package io.github.vinccool96.observations.beans.value;
+
+/**
+ * A {@code LongChangeListener} is notified whenever the value of an {@link ObservableLongValue} changes. It can be
+ * registered and unregistered with {@link ObservableLongValue#addLongChangeListener(LongChangeListener)}
+ * respectively {@link ObservableLongValue#removeLongChangeListener(LongChangeListener)}
+ * <p>
+ * It is the primitive specialization of {@link ChangeListener}: the old and the new value are passed as {@code long},
+ * so notifying a {@code LongChangeListener} never boxes the value.
+ * <p>
+ * The same instance of {@code LongChangeListener} can be registered to listen to multiple {@code
+ * ObservableLongValues}.
+ *
+ * @see ObservableLongValue
+ * @see ChangeListener
+ */
+@FunctionalInterface
+public interface LongChangeListener {
+
+    /**
+     * This method needs to be provided by an implementation of {@code LongChangeListener}. It is called if the value
+     * of an {@link ObservableLongValue} changes.
+     * <p>
+     * In general is is considered bad practice to modify the observed value in this method.
+     *
+     * @param observable
+     *         The {@code ObservableLongValue} which value changed
+     * @param oldValue
+     *         The old value
+     * @param newValue
+     *         The new value
+     */
+    void changed(ObservableLongValue observable, long oldValue, long newValue);
+
+}
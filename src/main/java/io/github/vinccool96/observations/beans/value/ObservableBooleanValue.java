@@ -14,4 +14,56 @@ public interface ObservableBooleanValue extends ObservableValue<Boolean> {
      */
     boolean get();
 
+    /**
+     * Adds a {@link BooleanChangeListener} which will be notified whenever the value of the {@code
+     * ObservableBooleanValue} changes. If the listener was already added, it is not added again.
+     * <p>
+     * Unlike a {@link ChangeListener}, a {@code BooleanChangeListener} receives the old and the new value unboxed.
+     * <p>
+     * The default implementation registers a {@code ChangeListener} that unboxes the values for the listener. The
+     * observable values of this library override it, so that the values are never boxed.
+     *
+     * @param listener
+     *         The listener to register
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #removeBooleanChangeListener(BooleanChangeListener)
+     */
+    default void addBooleanChangeListener(BooleanChangeListener listener) {
+        if (!isBooleanChangeListenerAlreadyAdded(listener)) {
+            addListener(PrimitiveChangeListenerAdapter.of(this, listener));
+        }
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the {@code
+     * ObservableBooleanValue} changes.
+     * <p>
+     * If the given listener has not been previously registered (i.e. it was never added) then this method call is a
+     * no-op. If it had been previously added then it will be removed.
+     *
+     * @param listener
+     *         The listener to remove
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #addBooleanChangeListener(BooleanChangeListener)
+     */
+    default void removeBooleanChangeListener(BooleanChangeListener listener) {
+        removeListener(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
+    /**
+     * Verify if the specified {@code BooleanChangeListener} already exists for this {@code ObservableBooleanValue}.
+     *
+     * @param listener
+     *         the {@code BooleanChangeListener} to verify
+     *
+     * @return {@code true}, if the listener already listens, {@code false}, otherwise.
+     */
+    default boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        return isChangeListenerAlreadyAdded(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
 }
@@ -15,4 +15,56 @@ public interface ObservableDoubleValue extends ObservableNumberValue {
      */
     double get();
 
+    /**
+     * Adds a {@link DoubleChangeListener} which will be notified whenever the value of the {@code
+     * ObservableDoubleValue} changes. If the listener was already added, it is not added again.
+     * <p>
+     * Unlike a {@link ChangeListener}, a {@code DoubleChangeListener} receives the old and the new value unboxed.
+     * <p>
+     * The default implementation registers a {@code ChangeListener} that unboxes the values for the listener. The
+     * observable values of this library override it, so that the values are never boxed.
+     *
+     * @param listener
+     *         The listener to register
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #removeDoubleChangeListener(DoubleChangeListener)
+     */
+    default void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (!isDoubleChangeListenerAlreadyAdded(listener)) {
+            addListener(PrimitiveChangeListenerAdapter.of(this, listener));
+        }
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the {@code
+     * ObservableDoubleValue} changes.
+     * <p>
+     * If the given listener has not been previously registered (i.e. it was never added) then this method call is a
+     * no-op. If it had been previously added then it will be removed.
+     *
+     * @param listener
+     *         The listener to remove
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #addDoubleChangeListener(DoubleChangeListener)
+     */
+    default void removeDoubleChangeListener(DoubleChangeListener listener) {
+        removeListener(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
+    /**
+     * Verify if the specified {@code DoubleChangeListener} already exists for this {@code ObservableDoubleValue}.
+     *
+     * @param listener
+     *         the {@code DoubleChangeListener} to verify
+     *
+     * @return {@code true}, if the listener already listens, {@code false}, otherwise.
+     */
+    default boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        return isChangeListenerAlreadyAdded(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
 }
@@ -15,4 +15,56 @@ public interface ObservableFloatValue extends ObservableNumberValue {
      */
     float get();
 
+    /**
+     * Adds a {@link FloatChangeListener} which will be notified whenever the value of the {@code ObservableFloatValue}
+     * changes. If the listener was already added, it is not added again.
+     * <p>
+     * Unlike a {@link ChangeListener}, a {@code FloatChangeListener} receives the old and the new value unboxed.
+     * <p>
+     * The default implementation registers a {@code ChangeListener} that unboxes the values for the listener. The
+     * observable values of this library override it, so that the values are never boxed.
+     *
+     * @param listener
+     *         The listener to register
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #removeFloatChangeListener(FloatChangeListener)
+     */
+    default void addFloatChangeListener(FloatChangeListener listener) {
+        if (!isFloatChangeListenerAlreadyAdded(listener)) {
+            addListener(PrimitiveChangeListenerAdapter.of(this, listener));
+        }
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the {@code
+     * ObservableFloatValue} changes.
+     * <p>
+     * If the given listener has not been previously registered (i.e. it was never added) then this method call is a
+     * no-op. If it had been previously added then it will be removed.
+     *
+     * @param listener
+     *         The listener to remove
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #addFloatChangeListener(FloatChangeListener)
+     */
+    default void removeFloatChangeListener(FloatChangeListener listener) {
+        removeListener(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
+    /**
+     * Verify if the specified {@code FloatChangeListener} already exists for this {@code ObservableFloatValue}.
+     *
+     * @param listener
+     *         the {@code FloatChangeListener} to verify
+     *
+     * @return {@code true}, if the listener already listens, {@code false}, otherwise.
+     */
+    default boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        return isChangeListenerAlreadyAdded(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
 }
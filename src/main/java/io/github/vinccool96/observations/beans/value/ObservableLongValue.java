@@ -15,4 +15,56 @@ public interface ObservableLongValue extends ObservableNumberValue {
      */
     long get();
 
+    /**
+     * Adds a {@link LongChangeListener} which will be notified whenever the value of the {@code ObservableLongValue}
+     * changes. If the listener was already added, it is not added again.
+     * <p>
+     * Unlike a {@link ChangeListener}, a {@code LongChangeListener} receives the old and the new value unboxed.
+     * <p>
+     * The default implementation registers a {@code ChangeListener} that unboxes the values for the listener. The
+     * observable values of this library override it, so that the values are never boxed.
+     *
+     * @param listener
+     *         The listener to register
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #removeLongChangeListener(LongChangeListener)
+     */
+    default void addLongChangeListener(LongChangeListener listener) {
+        if (!isLongChangeListenerAlreadyAdded(listener)) {
+            addListener(PrimitiveChangeListenerAdapter.of(this, listener));
+        }
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the {@code
+     * ObservableLongValue} changes.
+     * <p>
+     * If the given listener has not been previously registered (i.e. it was never added) then this method call is a
+     * no-op. If it had been previously added then it will be removed.
+     *
+     * @param listener
+     *         The listener to remove
+     *
+     * @throws NullPointerException
+     *         if the listener is null
+     * @see #addLongChangeListener(LongChangeListener)
+     */
+    default void removeLongChangeListener(LongChangeListener listener) {
+        removeListener(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
+    /**
+     * Verify if the specified {@code LongChangeListener} already exists for this {@code ObservableLongValue}.
+     *
+     * @param listener
+     *         the {@code LongChangeListener} to verify
+     *
+     * @return {@code true}, if the listener already listens, {@code false}, otherwise.
+     */
+    default boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        return isChangeListenerAlreadyAdded(PrimitiveChangeListenerAdapter.of(this, listener));
+    }
+
 }
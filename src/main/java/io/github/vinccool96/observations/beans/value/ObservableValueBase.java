@@ -2,7 +2,6 @@ package io.github.vinccool96.observations.beans.value;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * A convenience class for creating implementations of {@link ObservableValue}. It contains all of the infrastructure
@@ -43,7 +42,7 @@ public abstract class ObservableValueBase<T> implements ObservableValue<T> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -71,7 +70,7 @@ public abstract class ObservableValueBase<T> implements ObservableValue<T> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -0,0 +1,71 @@
+package io.github.vinccool96.observations.beans.value;
+
+import java.util.Objects;
+
+/**
+ * A {@link ChangeListener} that notifies a primitive change listener, like a {@link DoubleChangeListener}. The
+ * observable primitive values register it in the default implementations of their methods for these listeners, so an
+ * implementation that doesn't override them still notifies the primitive change listeners, with unboxed values.
+ * <p>
+ * Two adapters are equal if they notify the same listener, so an adapter created to remove a listener or to look for it
+ * finds the one that was registered.
+ *
+ * @param <T>
+ *         the type of the observed value
+ */
+final class PrimitiveChangeListenerAdapter<T> implements ChangeListener<T> {
+
+    private final Object listener;
+
+    private final ChangeListener<T> notifier;
+
+    private PrimitiveChangeListenerAdapter(Object listener, ChangeListener<T> notifier) {
+        this.listener = Objects.requireNonNull(listener);
+        this.notifier = notifier;
+    }
+
+    static ChangeListener<Boolean> of(ObservableBooleanValue observable, BooleanChangeListener listener) {
+        return new PrimitiveChangeListenerAdapter<>(listener,
+                (obs, oldValue, newValue) -> listener.changed(observable, oldValue, newValue));
+    }
+
+    static ChangeListener<Number> of(ObservableDoubleValue observable, DoubleChangeListener listener) {
+        return new PrimitiveChangeListenerAdapter<>(listener,
+                (obs, oldValue, newValue) -> listener.changed(observable, oldValue.doubleValue(),
+                        newValue.doubleValue()));
+    }
+
+    static ChangeListener<Number> of(ObservableFloatValue observable, FloatChangeListener listener) {
+        return new PrimitiveChangeListenerAdapter<>(listener,
+                (obs, oldValue, newValue) -> listener.changed(observable, oldValue.floatValue(),
+                        newValue.floatValue()));
+    }
+
+    static ChangeListener<Number> of(ObservableIntegerValue observable, IntegerChangeListener listener) {
+        return new PrimitiveChangeListenerAdapter<>(listener,
+                (obs, oldValue, newValue) -> listener.changed(observable, oldValue.intValue(), newValue.intValue()));
+    }
+
+    static ChangeListener<Number> of(ObservableLongValue observable, LongChangeListener listener) {
+        return new PrimitiveChangeListenerAdapter<>(listener,
+                (obs, oldValue, newValue) -> listener.changed(observable, oldValue.longValue(),
+                        newValue.longValue()));
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends T> observable, T oldValue, T newValue) {
+        notifier.changed(observable, oldValue, newValue);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PrimitiveChangeListenerAdapter &&
+                listener.equals(((PrimitiveChangeListenerAdapter<?>) obj).listener);
+    }
+
+    @Override
+    public int hashCode() {
+        return listener.hashCode();
+    }
+
+}
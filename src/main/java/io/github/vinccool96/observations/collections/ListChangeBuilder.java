@@ -15,15 +15,15 @@ final class ListChangeBuilder<E> {
 
     private int changeLock;
 
-    private List<SubChange<E>> addRemoveChanges;
+    private SubChangeList<E> addRemoveChanges;
 
-    private List<SubChange<E>> updateChanges;
+    private SubChangeList<E> updateChanges;
 
     private SubChange<E> permutationChange;
 
     private void checkAddRemoveList() {
         if (addRemoveChanges == null) {
-            addRemoveChanges = new ArrayList<>();
+            addRemoveChanges = new SubChangeList<>();
         }
     }
 
@@ -33,27 +33,8 @@ final class ListChangeBuilder<E> {
         }
     }
 
-    private int findSubChange(int idx, final List<SubChange<E>> list) {
-        int from = 0;
-        int to = list.size() - 1;
-
-        while (from <= to) {
-            int changeIdx = (from + to) / 2;
-            SubChange<E> change = list.get(changeIdx);
-
-            if (idx >= change.to) {
-                from = changeIdx + 1;
-            } else if (idx < change.from) {
-                to = changeIdx - 1;
-            } else {
-                return changeIdx;
-            }
-        }
-        return ~from;
-    }
-
     private void insertUpdate(int pos) {
-        int idx = findSubChange(pos, updateChanges);
+        int idx = updateChanges.find(pos);
         if (idx < 0) { //If not found
             idx = ~idx;
             SubChange<E> change;
@@ -68,7 +49,7 @@ final class ListChangeBuilder<E> {
     }
 
     private void insertRemoved(int pos, final E removed) {
-        int idx = findSubChange(pos, addRemoveChanges);
+        int idx = addRemoveChanges.find(pos);
         if (idx < 0) { // Not found
             idx = ~idx;
             SubChange<E> change;
@@ -92,15 +73,11 @@ final class ListChangeBuilder<E> {
                 addRemoveChanges.remove(idx);
             }
         }
-        for (int i = idx + 1; i < addRemoveChanges.size(); ++i) {
-            SubChange<E> change = addRemoveChanges.get(i);
-            change.from--;
-            change.to--;
-        }
+        addRemoveChanges.shift(idx + 1, -1);
     }
 
     private void insertAdd(int from, int to) {
-        int idx = findSubChange(from, addRemoveChanges);
+        int idx = addRemoveChanges.find(from);
         final int numberOfAdded = to - from;
 
         if (idx < 0) { // Not found
@@ -118,11 +95,7 @@ final class ListChangeBuilder<E> {
             change.to += numberOfAdded;
         }
 
-        for (int i = idx + 1; i < addRemoveChanges.size(); ++i) {
-            SubChange<E> change = addRemoveChanges.get(i);
-            change.from += numberOfAdded;
-            change.to += numberOfAdded;
-        }
+        addRemoveChanges.shift(idx + 1, numberOfAdded);
     }
 
     private int compress(List<SubChange<E>> list) {
@@ -169,6 +142,222 @@ final class ListChangeBuilder<E> {
 
     }
 
+    /**
+     * The sub-changes of one kind, ordered by position. They are kept in a treap ordered by rank instead of an array, so
+     * that inserting or removing a sub-change, and shifting the positions of all the sub-changes after it, only costs a
+     * logarithmic time. A shift is recorded on the root of the shifted subtree and only applied to the sub-changes
+     * below it when they are reached.
+     */
+    private static class SubChangeList<E> {
+
+        private static class Node<E> {
+
+            final SubChange<E> change;
+
+            final int priority;
+
+            int count = 1;
+
+            int shift;
+
+            Node<E> left, right;
+
+            Node(SubChange<E> change, int priority) {
+                this.change = change;
+                this.priority = priority;
+            }
+
+        }
+
+        private Node<E> root;
+
+        private int seed = 0x2545F491;
+
+        // results of split(Node, int)
+        private Node<E> splitLeft, splitRight;
+
+        int size() {
+            return count(root);
+        }
+
+        boolean isEmpty() {
+            return root == null;
+        }
+
+        SubChange<E> get(int index) {
+            Node<E> node = root;
+            while (true) {
+                push(node);
+                final int leftCount = count(node.left);
+                if (index < leftCount) {
+                    node = node.left;
+                } else if (index == leftCount) {
+                    return node.change;
+                } else {
+                    index -= leftCount + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        /**
+         * Finds the sub-change that contains the position {@code idx}. The search probes the same sub-changes as a binary
+         * search over an array of the sub-changes would.
+         *
+         * @param idx
+         *         the position
+         *
+         * @return the index of the sub-change, or {@code ~insertionIndex} if no sub-change contains {@code idx}
+         */
+        int find(int idx) {
+            int from = 0;
+            int to = size() - 1;
+
+            while (from <= to) {
+                int changeIdx = (from + to) / 2;
+                SubChange<E> change = get(changeIdx);
+
+                if (idx >= change.to) {
+                    from = changeIdx + 1;
+                } else if (idx < change.from) {
+                    to = changeIdx - 1;
+                } else {
+                    return changeIdx;
+                }
+            }
+            return ~from;
+        }
+
+        void add(SubChange<E> change) {
+            root = merge(root, new Node<>(change, nextPriority()));
+        }
+
+        void add(int index, SubChange<E> change) {
+            split(root, index);
+            final Node<E> right = splitRight;
+            root = merge(merge(splitLeft, new Node<>(change, nextPriority())), right);
+        }
+
+        void remove(int index) {
+            split(root, index);
+            final Node<E> left = splitLeft;
+            split(splitRight, 1);
+            root = merge(left, splitRight);
+        }
+
+        /**
+         * Moves the positions of every sub-change from {@code index} on by {@code delta}.
+         *
+         * @param index
+         *         the index of the first sub-change to move
+         * @param delta
+         *         the distance to move the sub-changes by
+         */
+        void shift(int index, int delta) {
+            if (delta != 0 && index < size()) {
+                split(root, index);
+                final Node<E> left = splitLeft;
+                final Node<E> right = splitRight;
+                move(right, delta);
+                root = merge(left, right);
+            }
+        }
+
+        void clear() {
+            root = null;
+        }
+
+        List<SubChange<E>> toList() {
+            final List<SubChange<E>> result = new ArrayList<>(size());
+            addTo(root, result);
+            return result;
+        }
+
+        private void addTo(Node<E> node, List<SubChange<E>> result) {
+            if (node != null) {
+                push(node);
+                addTo(node.left, result);
+                result.add(node.change);
+                addTo(node.right, result);
+            }
+        }
+
+        private int nextPriority() {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            return seed;
+        }
+
+        private static int count(Node<?> node) {
+            return node == null ? 0 : node.count;
+        }
+
+        private static void move(Node<?> node, int delta) {
+            if (node != null) {
+                node.change.from += delta;
+                node.change.to += delta;
+                node.shift += delta;
+            }
+        }
+
+        private static void push(Node<?> node) {
+            if (node.shift != 0) {
+                move(node.left, node.shift);
+                move(node.right, node.shift);
+                node.shift = 0;
+            }
+        }
+
+        private static void update(Node<?> node) {
+            node.count = count(node.left) + count(node.right) + 1;
+        }
+
+        /**
+         * Splits the subtree of {@code node} in {@code splitLeft}, holding its first {@code k} sub-changes, and {@code
+         * splitRight}, holding the others.
+         */
+        private void split(Node<E> node, int k) {
+            if (node == null) {
+                splitLeft = null;
+                splitRight = null;
+            } else {
+                push(node);
+                final int leftCount = count(node.left);
+                if (leftCount < k) {
+                    split(node.right, k - leftCount - 1);
+                    node.right = splitLeft;
+                    update(node);
+                    splitLeft = node;
+                } else {
+                    split(node.left, k);
+                    node.left = splitRight;
+                    update(node);
+                    splitRight = node;
+                }
+            }
+        }
+
+        private Node<E> merge(Node<E> left, Node<E> right) {
+            if (left == null) {
+                return right;
+            } else if (right == null) {
+                return left;
+            } else if (left.priority > right.priority) {
+                push(left);
+                left.right = merge(left.right, right);
+                update(left);
+                return left;
+            } else {
+                push(right);
+                right.left = merge(left, right.left);
+                update(right);
+                return right;
+            }
+        }
+
+    }
+
     ListChangeBuilder(ObservableListBase<E> list) {
         this.list = list;
     }
@@ -191,7 +380,7 @@ final class ListChangeBuilder<E> {
         }
 
         if (updateChanges != null && !updateChanges.isEmpty()) {
-            int uPos = findSubChange(idx, updateChanges);
+            int uPos = updateChanges.find(idx);
             if (uPos < 0) {
                 uPos = ~uPos;
             } else {
@@ -203,10 +392,7 @@ final class ListChangeBuilder<E> {
                     ++uPos; // Do the update from the next position
                 }
             }
-            for (int i = uPos; i < updateChanges.size(); ++i) {
-                updateChanges.get(i).from--;
-                updateChanges.get(i).to--;
-            }
+            updateChanges.shift(uPos, -1);
         }
 
     }
@@ -235,7 +421,7 @@ final class ListChangeBuilder<E> {
         }
 
         if (updateChanges != null && !updateChanges.isEmpty()) {
-            int uPos = findSubChange(from, updateChanges);
+            int uPos = updateChanges.find(from);
             if (uPos < 0) {
                 uPos = ~uPos;
             } else {
@@ -245,10 +431,7 @@ final class ListChangeBuilder<E> {
                 change.to = from;
                 uPos += 2; // skip those 2 for the update
             }
-            for (int i = uPos; i < updateChanges.size(); ++i) {
-                updateChanges.get(i).from += numberOfAdded;
-                updateChanges.get(i).to += numberOfAdded;
-            }
+            updateChanges.shift(uPos, numberOfAdded);
         }
 
     }
@@ -276,8 +459,7 @@ final class ListChangeBuilder<E> {
             Set<Integer> removed = new TreeSet<>();
             int last = 0;
             int offset = 0;
-            for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
-                SubChange<E> change = addRemoveChanges.get(i);
+            for (SubChange<E> change : addRemoveChanges.toList()) {
                 for (int j = last; j < change.from; ++j) {
                     mapToOriginal[j < from || j >= to ? j : perm[j - from]] = j + offset;
                 }
@@ -352,8 +534,7 @@ final class ListChangeBuilder<E> {
         if ((addRemoveChanges != null && !addRemoveChanges.isEmpty())) {
             Set<Integer> newAdded = new TreeSet<>();
             Map<Integer, List<E>> newRemoved = new HashMap<>();
-            for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
-                SubChange<E> change = addRemoveChanges.get(i);
+            for (SubChange<E> change : addRemoveChanges.toList()) {
                 for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
                     if (cIndex < from || cIndex >= to) {
                         newAdded.add(cIndex);
@@ -390,7 +571,7 @@ final class ListChangeBuilder<E> {
 
             for (Entry<Integer, List<E>> e : newRemoved.entrySet()) {
                 final Integer at = e.getKey();
-                int idx = findSubChange(at, addRemoveChanges);
+                int idx = addRemoveChanges.find(at);
                 assert (idx < 0);
                 addRemoveChanges.add(~idx, new SubChange<>(at, at, e.getValue(), new int[0], false));
             }
@@ -398,8 +579,7 @@ final class ListChangeBuilder<E> {
 
         if (updateChanges != null && !updateChanges.isEmpty()) {
             Set<Integer> newUpdated = new TreeSet<>();
-            for (int i = 0, sz = updateChanges.size(); i < sz; ++i) {
-                SubChange<E> change = updateChanges.get(i);
+            for (SubChange<E> change : updateChanges.toList()) {
                 for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
                     if (cIndex < from || cIndex >= to) {
                         newUpdated.add(cIndex);
@@ -435,7 +615,7 @@ final class ListChangeBuilder<E> {
     public void nextUpdate(int idx) {
         checkState();
         if (updateChanges == null) {
-            updateChanges = new ArrayList<>();
+            updateChanges = new SubChangeList<>();
         }
         final SubChange<E> last = updateChanges.isEmpty() ? null : updateChanges.get(updateChanges.size() - 1);
         if (last != null && last.to == idx) {
@@ -466,12 +646,14 @@ final class ListChangeBuilder<E> {
                     permutationChange = null;
                 }
             } else {
+                final List<SubChange<E>> updateList = updateNotEmpty ? updateChanges.toList() : null;
+                final List<SubChange<E>> addRemoveList = addRemoveNotEmpty ? addRemoveChanges.toList() : null;
                 if (updateNotEmpty) {
-                    int removed = compress(updateChanges);
+                    int removed = compress(updateList);
                     totalSize -= removed;
                 }
                 if (addRemoveNotEmpty) {
-                    int removed = compress(addRemoveChanges);
+                    int removed = compress(addRemoveList);
                     totalSize -= removed;
                 }
 
@@ -481,18 +663,18 @@ final class ListChangeBuilder<E> {
                     array[ptr++] = permutationChange;
                 }
                 if (addRemoveNotEmpty) {
-                    int sz = addRemoveChanges.size();
+                    int sz = addRemoveList.size();
                     for (int i = 0; i < sz; ++i) {
-                        final SubChange<E> change = addRemoveChanges.get(i);
+                        final SubChange<E> change = addRemoveList.get(i);
                         if (change != null) {
                             array[ptr++] = change;
                         }
                     }
                 }
                 if (updateNotEmpty) {
-                    int sz = updateChanges.size();
+                    int sz = updateList.size();
                     for (int i = 0; i < sz; ++i) {
-                        final SubChange<E> change = updateChanges.get(i);
+                        final SubChange<E> change = updateList.get(i);
                         if (change != null) {
                             array[ptr++] = change;
                         }
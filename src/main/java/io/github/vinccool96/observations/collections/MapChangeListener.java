@@ -15,6 +15,22 @@ public interface MapChangeListener<K, V> {
      * An elementary change done to an ObservableMap. Change contains information about a put or remove operation. Note
      * that put operation might remove an element if there was already a value associated with the same key. In this
      * case wasAdded() and wasRemoved() will both return true.
+     * <p>
+     * A bulk operation, like {@code putAll} or {@code clear}, may report all its entries in a single change. The change
+     * then works like {@link ListChangeListener.Change}: each call to {@link #next()} moves to the next entry, and the
+     * other methods describe the current one. Before the first call to {@code next()}, they describe the first entry.
+     * The typical usage is:
+     * <pre>
+     * <strong>public void</strong> onChanged(Change&lt;? extends K, ? extends V&gt; c) {
+     *     <strong>while</strong> (c.next()) {
+     *         <strong>if</strong> (c.wasRemoved()) {
+     *             // handle c.getKey() and c.getValueRemoved()
+     *         }
+     *         <strong>if</strong> (c.wasAdded()) {
+     *             // handle c.getKey() and c.getValueAdded()
+     *         }
+     *     }
+     * }</pre>
      *
      * @param <K>
      *         key type
@@ -25,6 +41,8 @@ public interface MapChangeListener<K, V> {
 
         private final ObservableMap<K, V> map;
 
+        private boolean started;
+
         /**
          * Constructs a change associated with a map.
          *
@@ -44,6 +62,27 @@ public interface MapChangeListener<K, V> {
             return map;
         }
 
+        /**
+         * Goes to the next entry of the change. A change made of a single entry returns {@code true} the first time
+         * only.
+         *
+         * @return true if there is an entry to process
+         */
+        public boolean next() {
+            if (started) {
+                return false;
+            }
+            started = true;
+            return true;
+        }
+
+        /**
+         * Resets the change to its initial state, so it can be iterated again from its first entry.
+         */
+        public void reset() {
+            started = false;
+        }
+
         /**
          * If this change is a result of add operation.
          *
@@ -85,9 +124,9 @@ public interface MapChangeListener<K, V> {
     }
 
     /**
-     * Called after a change has been made to an ObservableMap. This method is called on every elementary change
-     * (put/remove) once. This means, complex changes like keySet().removeAll(Collection) or clear() may result in more
-     * than one call of onChanged method.
+     * Called after a change has been made to an ObservableMap. This method is called once for every put or remove, and
+     * once for a bulk operation like putAll(Map), keySet().removeAll(Collection) or clear(), in which case the change
+     * contains an entry for each key that changed.
      *
      * @param change
      *         the change that was made
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.Predicate;
 
 /**
  * Abstract class that serves as a base class for {@link ObservableList} implementations that are modifiable.
@@ -119,6 +120,16 @@ public abstract class ModifiableObservableListBase<E> extends ObservableListBase
         }
     }
 
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        beginChange();
+        try {
+            return super.removeIf(filter);
+        } finally {
+            endChange();
+        }
+    }
+
     @Override
     public void add(int index, E element) {
         doAdd(index, element);
@@ -2,12 +2,12 @@ package io.github.vinccool96.observations.collections;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.sun.collections.ArrayListenerHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 /**
  * Abstract class that serves as a base class for {@link ObservableArray} implementations. The base class provides
  * listener handling functionality by implementing {@code addListener} and {@code removeListener} methods. {@link
- * #fireChange(boolean, int, int)} method is provided for notifying the listeners.
+ * #fireChange(boolean, int, int)} method is provided for notifying the listeners, and {@link #beginChange()} and
+ * {@link #endChange()} group several changes into a single notification.
  *
  * @param <T>
  *         actual array instance type
@@ -20,6 +20,16 @@ public abstract class ObservableArrayBase<T extends ObservableArray<T>> implemen
 
     private ArrayListenerHelper<T> helper;
 
+    private int changeDepth;
+
+    private boolean pendingChange;
+
+    private boolean pendingSizeChanged;
+
+    private int pendingFrom;
+
+    private int pendingTo;
+
     @Override
     public final void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -39,7 +49,7 @@ public abstract class ObservableArrayBase<T extends ObservableArray<T>> implemen
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ArrayListenerHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -58,11 +68,44 @@ public abstract class ObservableArrayBase<T extends ObservableArray<T>> implemen
 
     @Override
     public boolean isArrayChangeListenerAlreadyAdded(ArrayChangeListener<T> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(this.helper.getChangeListeners(), listener);
+        return ArrayListenerHelper.containsListener(helper, listener);
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endChange()}, the changes made to the array are not
+     * reported to the listeners. Batches can be nested.
+     */
+    public final void beginChange() {
+        changeDepth++;
     }
 
     /**
-     * Notifies all listeners of a change
+     * Ends a batch of changes started by {@link #beginChange()}. When the outermost batch ends, the listeners are
+     * notified once, with the range covering every element that changed during the batch, and whether the size
+     * changed.
+     *
+     * @throws IllegalStateException
+     *         if there is no batch to end
+     */
+    public final void endChange() {
+        if (changeDepth <= 0) {
+            throw new IllegalStateException("Called endChange before beginChange");
+        }
+        changeDepth--;
+        if (changeDepth == 0 && pendingChange) {
+            pendingChange = false;
+            // the array may have shrunk after some of its elements changed
+            final int to = Math.min(pendingTo, size());
+            final int from = Math.min(pendingFrom, to);
+            if (pendingSizeChanged || from < to) {
+                ArrayListenerHelper.fireValueChangedEvent(helper, pendingSizeChanged, from, to);
+            }
+        }
+    }
+
+    /**
+     * Notifies all listeners of a change. During a batch, the change is merged with the other changes of the batch
+     * instead.
      *
      * @param sizeChanged
      *         if the size changed
@@ -72,7 +115,20 @@ public abstract class ObservableArrayBase<T extends ObservableArray<T>> implemen
      *         index of the change to
      */
     protected final void fireChange(boolean sizeChanged, int from, int to) {
-        ArrayListenerHelper.fireValueChangedEvent(helper, sizeChanged, from, to);
+        if (changeDepth > 0) {
+            if (pendingChange) {
+                pendingSizeChanged |= sizeChanged;
+                pendingFrom = Math.min(pendingFrom, from);
+                pendingTo = Math.max(pendingTo, to);
+            } else {
+                pendingChange = true;
+                pendingSizeChanged = sizeChanged;
+                pendingFrom = from;
+                pendingTo = to;
+            }
+        } else {
+            ArrayListenerHelper.fireValueChangedEvent(helper, sizeChanged, from, to);
+        }
     }
 
 }
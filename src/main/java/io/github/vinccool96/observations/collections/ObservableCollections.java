@@ -4,12 +4,20 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.Observable;
 import io.github.vinccool96.observations.sun.collections.*;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 import io.github.vinccool96.observations.util.Callback;
 import io.github.vinccool96.observations.util.Pair;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.nio.channels.FileChannel;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Utility class that consists of static methods that are 1:1 copies of Collections methods, as well as other utility
@@ -253,6 +261,26 @@ public class ObservableCollections {
         return new SynchronizedObservableMap<>(map);
     }
 
+    /**
+     * Creates a new empty observable map that is safe to use from several threads, backed by a
+     * {@link java.util.concurrent.ConcurrentHashMap}. Unlike {@link #synchronizedObservableMap(ObservableMap)}, reads
+     * never lock and writes to different keys don't block each other. Every write, including {@code putIfAbsent},
+     * {@code compute} and {@code merge}, is atomic for its key.
+     * <p>
+     * The changes are delivered to the listeners one at a time, in the order they were made for each key, by one of
+     * the writing threads. A write may therefore return before its listeners are notified.
+     *
+     * @param <K>
+     *         the type of keys maintained by this map
+     * @param <V>
+     *         the type of mapped values
+     *
+     * @return a newly created concurrent ObservableMap
+     */
+    public static <K, V> ObservableMap<K, V> concurrentObservableMap() {
+        return new ObservableConcurrentMapWrapper<>();
+    }
+
     /**
      * Creates and empty unmodifiable observable map.
      *
@@ -322,6 +350,43 @@ public class ObservableCollections {
         return new ObservableDoubleArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable double array that stores its elements in a direct buffer, outside of the heap.
+     *
+     * @param initialCapacity
+     *         the number of elements the array can contain before it has to grow
+     *
+     * @return a newly created ObservableDoubleArray
+     *
+     * @throws IllegalArgumentException
+     *         if {@code initialCapacity} is negative or too large for a buffer
+     */
+    public static ObservableDoubleArray directObservableDoubleArray(int initialCapacity) {
+        return new ObservableDoubleBufferArrayImpl(initialCapacity);
+    }
+
+    /**
+     * Creates a new observable double array that stores its elements in a region of a file mapped in memory. The
+     * {@code size} elements already in the region, in the native byte order, are the initial values of the array, and
+     * every change made to the array is written to the file.
+     *
+     * @param channel
+     *         the channel of the file, opened for reading and writing
+     * @param position
+     *         the position in the file at which the region starts
+     * @param size
+     *         the initial size of the array
+     *
+     * @return a newly created ObservableDoubleArray
+     *
+     * @throws IOException
+     *         if the file can't be mapped
+     */
+    public static ObservableDoubleArray mappedObservableDoubleArray(FileChannel channel, long position, int size)
+            throws IOException {
+        return new ObservableDoubleBufferArrayImpl(channel, position, size);
+    }
+
     /**
      * Creates a new empty observable float array.
      *
@@ -421,6 +486,45 @@ public class ObservableCollections {
         return new ObservableLongArrayImpl(array);
     }
 
+    /**
+     * Creates a new observable integer list with {@code values} set to it. The list stores its elements in an
+     * {@code int[]} array, without boxing them.
+     *
+     * @param values
+     *         the values that will be in the new observable integer list
+     *
+     * @return a newly created ObservableIntegerList
+     */
+    public static ObservableIntegerList observableIntegerList(int... values) {
+        return new ObservableIntegerListImpl(values);
+    }
+
+    /**
+     * Creates a new observable long list with {@code values} set to it. The list stores its elements in a
+     * {@code long[]} array, without boxing them.
+     *
+     * @param values
+     *         the values that will be in the new observable long list
+     *
+     * @return a newly created ObservableLongList
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
+    /**
+     * Creates a new observable double list with {@code values} set to it. The list stores its elements in a
+     * {@code double[]} array, without boxing them.
+     *
+     * @param values
+     *         the values that will be in the new observable double list
+     *
+     * @return a newly created ObservableDoubleList
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an arraylist.
      *
@@ -488,6 +592,70 @@ public class ObservableCollections {
         return list;
     }
 
+    /**
+     * Creates a new empty copy-on-write observable list. Every mutation copies the elements to a new array, so reads
+     * and iteration never lock and are safe from any thread, while the listeners still receive the usual changes. It
+     * suits lists that are read much more often than they are modified.
+     * <p>
+     * The iterator of the list traverses the elements it had when it was created, and doesn't support {@code remove}.
+     *
+     * @param <E>
+     *         the list element type
+     *
+     * @return a newly created copy-on-write ObservableList
+     *
+     * @see java.util.concurrent.CopyOnWriteArrayList
+     */
+    public static <E> ObservableList<E> copyOnWriteObservableList() {
+        return new CopyOnWriteObservableList<>();
+    }
+
+    /**
+     * Creates a new copy-on-write observable list that contains the elements of a collection.
+     *
+     * @param col
+     *         a collection which content should be added to the copy-on-write observable list
+     * @param <E>
+     *         the list element type
+     *
+     * @return a newly created copy-on-write ObservableList
+     *
+     * @see #copyOnWriteObservableList()
+     */
+    public static <E> ObservableList<E> copyOnWriteObservableList(Collection<? extends E> col) {
+        return new CopyOnWriteObservableList<>(col);
+    }
+
+    /**
+     * Creates a new empty observable list that is backed by a balanced tree. Unlike an arraylist, it inserts and removes
+     * elements anywhere in the list in {@code O(log n)} time, and unlike a linked list, it gets the element at any index
+     * in {@code O(log n)} time, which suits large lists that are edited in the middle.
+     *
+     * @param <E>
+     *         the list element type
+     *
+     * @return a newly created tree-backed ObservableList
+     */
+    public static <E> ObservableList<E> observableTreeList() {
+        return new ObservableListWrapper<>(new TreeList<>());
+    }
+
+    /**
+     * Creates a new observable list that is backed by a balanced tree and contains the elements of a collection.
+     *
+     * @param col
+     *         a collection which content should be added to the tree-backed observable list
+     * @param <E>
+     *         the list element type
+     *
+     * @return a newly created tree-backed ObservableList
+     *
+     * @see #observableTreeList()
+     */
+    public static <E> ObservableList<E> observableTreeList(Collection<? extends E> col) {
+        return new ObservableListWrapper<>(new TreeList<>(col));
+    }
+
     /**
      * Creates a new empty observable map that is backed by a HashMap.
      *
@@ -532,6 +700,8 @@ public class ObservableCollections {
      *         lists to concatenate
      *
      * @return new observable array list concatenated from the arguments
+     *
+     * @see io.github.vinccool96.observations.collections.transformation.ConcatenatedList
      */
     public static <E> ObservableList<E> concat(ObservableList<E>... lists) {
         if (lists.length == 0) {
@@ -608,6 +778,36 @@ public class ObservableCollections {
         return new SynchronizedObservableList<>(list);
     }
 
+    /**
+     * Creates and returns a thread-safe wrapper on top of provided observable list, that lets readers run concurrently.
+     * Unlike {@link #synchronizedObservableList(ObservableList)}, {@code get}, {@code size} and {@code contains} use
+     * optimistic reads that take no lock unless a write happens at the same time. Iteration copies the list with a
+     * read lock, and mutations take a write lock.
+     * <p>
+     * The changes are copied while the write lock is held, and delivered to the listeners after it is released, one at
+     * a time and in order, so a listener can't block the writers. The list may therefore already contain later
+     * changes when a listener is notified.
+     * <p>
+     * The provided list must only be modified through the returned wrapper, and must tolerate being read while it is
+     * modified, as {@code ObservableCollections.observableArrayList()} does: a read that overlaps a write is retried
+     * with the read lock.
+     *
+     * @param <E>
+     *         the list element type
+     * @param list
+     *         the list to be wrapped
+     *
+     * @return a thread-safe list that reads without blocking other readers
+     *
+     * @see java.util.concurrent.locks.StampedLock
+     */
+    public static <E> ObservableList<E> concurrentReadObservableList(ObservableList<E> list) {
+        if (list == null) {
+            throw new NullPointerException();
+        }
+        return new ConcurrentReadObservableList<>(list);
+    }
+
     /**
      * Creates an empty unmodifiable observable list.
      *
@@ -1390,6 +1590,13 @@ public class ObservableCollections {
             }
         }
 
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            synchronized (mutex) {
+                return backingList.removeIf(filter);
+            }
+        }
+
         @Override
         public void clear() {
             synchronized (mutex) {
@@ -1567,7 +1774,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+            return ListListenerHelper.containsListener(helper, listener);
         }
 
         @Override
@@ -1590,7 +1797,350 @@ public class ObservableCollections {
 
         @Override
         public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super T> listener) {
-            return helper != null && ArrayUtils.getInstance().contains(this.helper.getChangeListeners(), listener);
+            return ListListenerHelper.containsListener(helper, listener);
+        }
+
+    }
+
+    private static class ConcurrentReadObservableList<T> extends AbstractList<T> implements ObservableList<T> {
+
+        private final StampedLock lock = new StampedLock();
+
+        private final Object listenerLock = new Object();
+
+        private final ObservableList<T> backingList;
+
+        private final ListChangeListener<T> listener;
+
+        private final Queue<ListChangeListener.Change<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+
+        private volatile ListListenerHelper<T> helper;
+
+        ConcurrentReadObservableList(ObservableList<T> list) {
+            this.backingList = list;
+            listener = c -> {
+                if (helper != null) {
+                    pendingChanges.add(new RecordedChange<>(ConcurrentReadObservableList.this, c));
+                    if (!lock.isWriteLocked()) {
+                        dispatch(); // the backing list was modified directly
+                    }
+                }
+            };
+            backingList.addListener(new WeakListChangeListener<>(listener));
+        }
+
+        /**
+         * Notifies the listeners of the recorded changes, unless another thread is already doing it. It is called after
+         * the write lock is released, so a listener can't block the writers.
+         */
+        private void dispatch() {
+            while (!pendingChanges.isEmpty() && dispatching.compareAndSet(false, true)) {
+                try {
+                    ListChangeListener.Change<T> change;
+                    while ((change = pendingChanges.poll()) != null) {
+                        synchronized (listenerLock) {
+                            ListListenerHelper.fireValueChangedEvent(helper, change);
+                        }
+                    }
+                } finally {
+                    dispatching.set(false);
+                }
+            }
+        }
+
+        private <R> R optimisticRead(Supplier<R> reader) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    R result = reader.get();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                    // the list was modified during the read, which is retried with the read lock
+                }
+            }
+            return read(reader);
+        }
+
+        private int optimisticReadInt(IntSupplier reader) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    int result = reader.getAsInt();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                }
+            }
+            long readStamp = lock.readLock();
+            try {
+                return reader.getAsInt();
+            } finally {
+                lock.unlockRead(readStamp);
+            }
+        }
+
+        private <R> R read(Supplier<R> reader) {
+            long stamp = lock.readLock();
+            try {
+                return reader.get();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private <R> R write(Supplier<R> writer) {
+            long stamp = lock.writeLock();
+            int oldSize = backingList.size();
+            try {
+                return writer.get();
+            } finally {
+                if (backingList.size() != oldSize) {
+                    modCount++; // for the sub lists
+                }
+                lock.unlockWrite(stamp);
+                dispatch();
+            }
+        }
+
+        @Override
+        public int size() {
+            return optimisticReadInt(backingList::size);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return optimisticReadInt(backingList::size) == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return optimisticRead(() -> backingList.contains(o));
+        }
+
+        @Override
+        public T get(int index) {
+            return optimisticRead(() -> backingList.get(index));
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return read(() -> backingList.indexOf(o));
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return read(() -> backingList.lastIndexOf(o));
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            return read(() -> backingList.containsAll(c));
+        }
+
+        @Override
+        public Object[] toArray() {
+            return read(backingList::toArray);
+        }
+
+        @Override
+        public <E> E[] toArray(E[] a) {
+            return read(() -> backingList.toArray(a));
+        }
+
+        /**
+         * Returns an iterator over a copy of the list, taken with the read lock. It doesn't support {@code remove}.
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableList(read(() -> new ArrayList<>(backingList))).iterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            read(() -> {
+                backingList.forEach(action);
+                return null;
+            });
+        }
+
+        @Override
+        public boolean add(T e) {
+            return write(() -> backingList.add(e));
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return write(() -> backingList.remove(o));
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> c) {
+            return write(() -> backingList.addAll(c));
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> c) {
+            return write(() -> backingList.addAll(index, c));
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            return write(() -> backingList.removeAll(c));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            return write(() -> backingList.retainAll(c));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            return write(() -> backingList.removeIf(filter));
+        }
+
+        @Override
+        public void clear() {
+            write(() -> {
+                backingList.clear();
+                return null;
+            });
+        }
+
+        @Override
+        public T set(int index, T element) {
+            return write(() -> backingList.set(index, element));
+        }
+
+        @Override
+        public void add(int index, T element) {
+            write(() -> {
+                backingList.add(index, element);
+                return null;
+            });
+        }
+
+        @Override
+        public T remove(int index) {
+            return write(() -> backingList.remove(index));
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            remove(fromIndex, toIndex);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean addAll(T... elements) {
+            return write(() -> backingList.addAll(elements));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean setAll(T... elements) {
+            return write(() -> backingList.setAll(elements));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean removeAll(T... elements) {
+            return write(() -> backingList.removeAll(elements));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean retainAll(T... elements) {
+            return write(() -> backingList.retainAll(elements));
+        }
+
+        @Override
+        public void remove(int from, int to) {
+            write(() -> {
+                backingList.remove(from, to);
+                return null;
+            });
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends T> col) {
+            return write(() -> backingList.setAll(col));
+        }
+
+        @Override
+        public String toString() {
+            return read(backingList::toString);
+        }
+
+        @Override
+        public int hashCode() {
+            return read(backingList::hashCode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || read(() -> backingList.equals(o));
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            synchronized (listenerLock) {
+                if (!ListListenerHelper.containsListener(helper, listener)) {
+                    helper = ListListenerHelper.addListener(helper, listener);
+                }
+            }
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            synchronized (listenerLock) {
+                if (ListListenerHelper.containsListener(helper, listener)) {
+                    helper = ListListenerHelper.removeListener(helper, listener);
+                }
+            }
+        }
+
+        @Override
+        public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
+            synchronized (listenerLock) {
+                return ListListenerHelper.containsListener(helper, listener);
+            }
+        }
+
+        @Override
+        public void addListener(ListChangeListener<? super T> listener) {
+            synchronized (listenerLock) {
+                if (!ListListenerHelper.containsListener(helper, listener)) {
+                    helper = ListListenerHelper.addListener(helper, listener);
+                }
+            }
+        }
+
+        @Override
+        public void removeListener(ListChangeListener<? super T> listener) {
+            synchronized (listenerLock) {
+                if (ListListenerHelper.containsListener(helper, listener)) {
+                    helper = ListListenerHelper.removeListener(helper, listener);
+                }
+            }
+        }
+
+        @Override
+        public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super T> listener) {
+            synchronized (listenerLock) {
+                return ListListenerHelper.containsListener(helper, listener);
+            }
         }
 
     }
@@ -1670,6 +2220,11 @@ public class ObservableCollections {
             return list.retainAll(coll);
         }
 
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            return list.removeIf(filter);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public boolean removeAll(T... elements) {
@@ -2110,8 +2665,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2131,8 +2685,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getSetChangeListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2330,8 +2883,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2354,8 +2906,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getSetChangeListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
     }
@@ -2407,8 +2958,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2427,8 +2977,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getSetChangeListeners(), listener);
+            return SetListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2740,8 +3289,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+            return MapListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2760,8 +3308,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getMapChangeListeners(), listener);
+            return MapListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -2809,17 +3356,15 @@ public class ObservableCollections {
             // - protection from malicious t
             // - correct behavior if t is a concurrent map
             Object[] entries = t.entrySet().toArray();
-            List<Map.Entry<K, V>> checked = new ArrayList<>(entries.length);
+            Map<K, V> checked = new LinkedHashMap<>(entries.length * 4 / 3 + 1);
             for (Object o : entries) {
                 Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
                 Object k = e.getKey();
                 Object v = e.getValue();
                 typeCheck(k, v);
-                checked.add(new AbstractMap.SimpleImmutableEntry<>((K) k, (V) v));
-            }
-            for (Map.Entry<K, V> e : checked) {
-                backingMap.put(e.getKey(), e.getValue());
+                checked.put((K) k, (V) v);
             }
+            backingMap.putAll(checked);
         }
 
         @Override
@@ -3281,8 +3826,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+            return MapListenerHelper.containsListener(listenerHelper, listener);
         }
 
         @Override
@@ -3305,8 +3849,7 @@ public class ObservableCollections {
 
         @Override
         public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-            return listenerHelper != null &&
-                    ArrayUtils.getInstance().contains(listenerHelper.getMapChangeListeners(), listener);
+            return MapListenerHelper.containsListener(listenerHelper, listener);
         }
 
     }
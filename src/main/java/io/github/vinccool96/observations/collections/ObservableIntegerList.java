@@ -0,0 +1,112 @@
+package io.github.vinccool96.observations.collections;
+
+/**
+ * {@code ObservableIntegerList} is an {@link ObservableList} of integers that stores its elements in an {@code int[]}
+ * array instead of boxing them. It can be used anywhere an {@code ObservableList<Integer>} is expected, and the
+ * methods that take or return an {@code int} access the elements without boxing them.
+ * <p>
+ * The list does not accept {@code null} elements.
+ *
+ * @see ObservableCollections#observableIntegerList(int...)
+ */
+public interface ObservableIntegerList extends ObservableList<Integer> {
+
+    /**
+     * Gets the element at the specified position in this list.
+     *
+     * @param index
+     *         index of the element to get
+     *
+     * @return the element at the specified position in this list
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    int getInt(int index);
+
+    /**
+     * Replaces the element at the specified position in this list.
+     *
+     * @param index
+     *         index of the element to replace
+     * @param value
+     *         the new element
+     *
+     * @return the element previously at the specified position
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    int setInt(int index, int value);
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value
+     *         the element to append
+     */
+    void addInt(int value);
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index
+     *         index at which the element is to be inserted
+     * @param value
+     *         the element to insert
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    void addInt(int index, int value);
+
+    /**
+     * Appends the given {@code elements} to the end of this list, in a single change.
+     *
+     * @param elements
+     *         the elements to append
+     */
+    void addAllInts(int... elements);
+
+    /**
+     * Appends a portion of the given array to the end of this list, in a single change.
+     *
+     * @param src
+     *         source array
+     * @param srcIndex
+     *         starting position in source array
+     * @param length
+     *         length of portion to append
+     *
+     * @throws ArrayIndexOutOfBoundsException
+     *         if the portion is outside the bounds of {@code src}
+     */
+    void addAllInts(int[] src, int srcIndex, int length);
+
+    /**
+     * Replaces the content of this list with the given {@code elements}, in a single change.
+     *
+     * @param elements
+     *         the new elements
+     */
+    void setAllInts(int... elements);
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element.
+     *
+     * @param value
+     *         the element to search for
+     *
+     * @return the index of the first occurrence of the element, or -1
+     */
+    int indexOfInt(int value);
+
+    /**
+     * Returns an array containing all the elements of this list.
+     *
+     * @return a new array containing the elements of this list
+     */
+    int[] toIntArray();
+
+}
@@ -2,7 +2,6 @@ package io.github.vinccool96.observations.collections;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.sun.collections.ListListenerHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.AbstractList;
 import java.util.Arrays;
@@ -219,7 +218,7 @@ public abstract class ObservableListBase<E> extends AbstractList<E> implements O
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+        return ListListenerHelper.containsListener(listenerHelper, listener);
     }
 
     @Override
@@ -236,7 +235,7 @@ public abstract class ObservableListBase<E> extends AbstractList<E> implements O
 
     @Override
     public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super E> listener) {
-        return ArrayUtils.getInstance().contains(this.listenerHelper.getChangeListeners(), listener);
+        return ListListenerHelper.containsListener(listenerHelper, listener);
     }
 
     /**
@@ -0,0 +1,112 @@
+package io.github.vinccool96.observations.collections;
+
+/**
+ * {@code ObservableLongList} is an {@link ObservableList} of longs that stores its elements in a {@code long[]}
+ * array instead of boxing them. It can be used anywhere an {@code ObservableList<Long>} is expected, and the
+ * methods that take or return a {@code long} access the elements without boxing them.
+ * <p>
+ * The list does not accept {@code null} elements.
+ *
+ * @see ObservableCollections#observableLongList(long...)
+ */
+public interface ObservableLongList extends ObservableList<Long> {
+
+    /**
+     * Gets the element at the specified position in this list.
+     *
+     * @param index
+     *         index of the element to get
+     *
+     * @return the element at the specified position in this list
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    long getLong(int index);
+
+    /**
+     * Replaces the element at the specified position in this list.
+     *
+     * @param index
+     *         index of the element to replace
+     * @param value
+     *         the new element
+     *
+     * @return the element previously at the specified position
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    long setLong(int index, long value);
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value
+     *         the element to append
+     */
+    void addLong(long value);
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index
+     *         index at which the element is to be inserted
+     * @param value
+     *         the element to insert
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code index} is outside the list bounds
+     */
+    void addLong(int index, long value);
+
+    /**
+     * Appends the given {@code elements} to the end of this list, in a single change.
+     *
+     * @param elements
+     *         the elements to append
+     */
+    void addAllLongs(long... elements);
+
+    /**
+     * Appends a portion of the given array to the end of this list, in a single change.
+     *
+     * @param src
+     *         source array
+     * @param srcIndex
+     *         starting position in source array
+     * @param length
+     *         length of portion to append
+     *
+     * @throws ArrayIndexOutOfBoundsException
+     *         if the portion is outside the bounds of {@code src}
+     */
+    void addAllLongs(long[] src, int srcIndex, int length);
+
+    /**
+     * Replaces the content of this list with the given {@code elements}, in a single change.
+     *
+     * @param elements
+     *         the new elements
+     */
+    void setAllLongs(long... elements);
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element.
+     *
+     * @param value
+     *         the element to search for
+     *
+     * @return the index of the first occurrence of the element, or -1
+     */
+    int indexOfLong(long value);
+
+    /**
+     * Returns an array containing all the elements of this list.
+     *
+     * @return a new array containing the elements of this list
+     */
+    long[] toLongArray();
+
+}
@@ -12,6 +12,22 @@ public interface SetChangeListener<E> {
     /**
      * An elementary change done to an ObservableSet. Change contains information about an add or remove operation. Note
      * that adding element that is already in the set does not modify the set and hence no change will be generated.
+     * <p>
+     * A bulk operation, like {@code addAll} or {@code clear}, may report all its elements in a single change. The
+     * change then works like {@link ListChangeListener.Change}: each call to {@link #next()} moves to the next element,
+     * and the other methods describe the current one. Before the first call to {@code next()}, they describe the first
+     * element.
+     * The typical usage is:
+     * <pre>
+     * <strong>public void</strong> onChanged(Change&lt;? extends E&gt; c) {
+     *     <strong>while</strong> (c.next()) {
+     *         <strong>if</strong> (c.wasRemoved()) {
+     *             // handle c.getElementRemoved()
+     *         } <strong>else</strong> {
+     *             // handle c.getElementAdded()
+     *         }
+     *     }
+     * }</pre>
      *
      * @param <E>
      *         element type
@@ -20,6 +36,8 @@ public interface SetChangeListener<E> {
 
         private final ObservableSet<E> set;
 
+        private boolean started;
+
         /**
          * Constructs a change associated with a set.
          *
@@ -39,6 +57,27 @@ public interface SetChangeListener<E> {
             return set;
         }
 
+        /**
+         * Goes to the next element of the change. A change made of a single element returns {@code true} the first
+         * time only.
+         *
+         * @return true if there is an element to process
+         */
+        public boolean next() {
+            if (started) {
+                return false;
+            }
+            started = true;
+            return true;
+        }
+
+        /**
+         * Resets the change to its initial state, so it can be iterated again from its first element.
+         */
+        public void reset() {
+            started = false;
+        }
+
         /**
          * If this change is a result of add operation.
          *
@@ -70,9 +109,9 @@ public interface SetChangeListener<E> {
     }
 
     /**
-     * Called after a change has been made to an ObservableSet. This method is called on every elementary change
-     * (add/remove) once. This means, complex changes like removeAll(Collection) or clear() may result in more than one
-     * call of onChanged method.
+     * Called after a change has been made to an ObservableSet. This method is called once for every add or remove, and
+     * once for a bulk operation like addAll(Collection), removeAll(Collection) or clear(), in which case the change
+     * contains an entry for each element that was added or removed.
      *
      * @param change
      *         the change that was made
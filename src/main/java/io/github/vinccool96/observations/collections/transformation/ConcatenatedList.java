@@ -0,0 +1,143 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.ObservableListBase;
+import io.github.vinccool96.observations.collections.WeakListChangeListener;
+
+import java.util.*;
+
+/**
+ * An unmodifiable view of several ObservableLists one after the other. The elements are not copied: the view keeps the
+ * offset of each source list in the view, finds the source of an element by a binary search over the offsets, and
+ * propagates the changes of the sources immediately, shifted by the offset of their source.
+ * <p>
+ * A list can't be a source of the view more than once.
+ *
+ * @see io.github.vinccool96.observations.collections.ObservableCollections#concat(ObservableList[])
+ */
+public final class ConcatenatedList<E> extends ObservableListBase<E> {
+
+    private final List<ObservableList<? extends E>> sources;
+
+    /**
+     * {@code offsets[k]} is the index in this list of the first element of {@code sources.get(k)}, and
+     * {@code offsets[sources.size()]} is the size of this list.
+     */
+    private final int[] offsets;
+
+    private final List<ListChangeListener<E>> sourceListeners;
+
+    /**
+     * Constructs a new ConcatenatedList view of the source lists.
+     *
+     * @param sources
+     *         the lists to concatenate
+     *
+     * @throws IllegalArgumentException
+     *         if a list is given more than once
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public ConcatenatedList(@NamedArg("sources") ObservableList<? extends E>... sources) {
+        // the array doesn't escape: the other constructor copies the list
+        this(Arrays.asList(sources));
+    }
+
+    /**
+     * Constructs a new ConcatenatedList view of the source lists.
+     *
+     * @param sources
+     *         the lists to concatenate
+     *
+     * @throws IllegalArgumentException
+     *         if a list is given more than once
+     */
+    @SuppressWarnings("unchecked")
+    public ConcatenatedList(@NamedArg("sources") List<? extends ObservableList<? extends E>> sources) {
+        this.sources = new ArrayList<>(sources);
+        this.offsets = new int[this.sources.size() + 1];
+        this.sourceListeners = new ArrayList<>(this.sources.size());
+        Set<ObservableList<?>> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int k = 0; k < this.sources.size(); k++) {
+            ObservableList<? extends E> source = this.sources.get(k);
+            if (source == null) {
+                throw new NullPointerException();
+            }
+            if (!distinct.add(source)) {
+                throw new IllegalArgumentException("A list can't be concatenated more than once");
+            }
+            offsets[k + 1] = offsets[k] + source.size();
+            final int sourceIndex = k;
+            ListChangeListener<E> listener = c -> sourceChanged(sourceIndex, c);
+            sourceListeners.add(listener);
+            ((ObservableList<E>) source).addListener(new WeakListChangeListener<>(listener));
+        }
+    }
+
+    private void sourceChanged(int k, Change<? extends E> c) {
+        final int offset = offsets[k];
+        final int delta = sources.get(k).size() - (offsets[k + 1] - offset);
+        for (int i = k + 1; i < offsets.length; i++) {
+            offsets[i] += delta;
+        }
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int from = c.getFrom();
+                int to = c.getTo();
+                int[] perm = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    perm[i - from] = c.getPermutation(i) + offset;
+                }
+                nextPermutation(from + offset, to + offset, perm);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i + offset);
+                }
+            } else if (c.wasReplaced()) {
+                nextReplace(c.getFrom() + offset, c.getTo() + offset, c.getRemoved());
+            } else if (c.wasRemoved()) {
+                nextRemove(c.getFrom() + offset, c.getRemoved());
+            } else if (c.wasAdded()) {
+                nextAdd(c.getFrom() + offset, c.getTo() + offset);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Finds the source of the element at {@code index}: the last source whose offset is not after {@code index}, which
+     * skips the empty sources.
+     */
+    private int sourceOf(int index) {
+        int low = 0;
+        int high = sources.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int k = sourceOf(index);
+        return sources.get(k).get(index - offsets[k]);
+    }
+
+    @Override
+    public int size() {
+        return offsets[sources.size()];
+    }
+
+}
@@ -0,0 +1,430 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.sun.collections.TreeList;
+
+import java.util.*;
+
+/**
+ * Wraps an ObservableList and keeps a single occurrence of each of its elements, in the order of their first occurrence
+ * in the source list. Two elements are the same if they are equal, according to {@link Object#equals(Object)}.
+ * <p>
+ * The list counts the occurrences of each element of the source list, so an element is only added to this list when
+ * its first occurrence is added to the source list, and only removed when its last occurrence is removed. A change of
+ * the source list that doesn't add a new element or remove the last occurrence of an element, and doesn't move the
+ * first occurrence of an element before another one, is not reported by this list.
+ * <p>
+ * Each element of the source list is remembered with the occurrences it was counted in, so an element that the source
+ * list reports as updated is counted again with the elements it is now equal to, like a removal followed by an addition.
+ * <p>
+ * Appending elements to the source list, or removing the last occurrence of an element, costs O(1) per element plus
+ * the removals from this list. Any other change, that is a permutation, an update, an insertion before the end of the
+ * source list or the removal of an element that has other occurrences, can move first occurrences, so it also costs a
+ * single O(n) pass over the source list.
+ *
+ * @param <E>
+ *         the type of the elements of the list
+ *
+ * @see TransformationList
+ */
+public final class DistinctList<E> extends TransformationList<E, E> {
+
+    private final Map<Key<E>, Occurrences<E>> occurrences = new HashMap<>();
+
+    /**
+     * {@code slots.get(i)} is the element at {@code i} in the source list, with the occurrences it is counted in.
+     */
+    private final List<Slot<E>> slots = new TreeList<>();
+
+    private final List<Occurrences<E>> distinct = new ArrayList<>();
+
+    /**
+     * Constructs a new DistinctList wrapper around the source list.
+     *
+     * @param source
+     *         the source list
+     */
+    public DistinctList(@NamedArg("source") ObservableList<E> source) {
+        super(source);
+        for (E element : source) {
+            Slot<E> slot = new Slot<>(element);
+            slot.occurrences = occurrences(element);
+            slots.add(slot);
+            if (slot.occurrences.count++ == 0) {
+                slot.occurrences.inList = true;
+                distinct.add(slot.occurrences);
+            }
+        }
+    }
+
+    /**
+     * The key of the occurrences of an element, which keeps the hash code the element had when the key was created, so
+     * the occurrences can still be found and removed after the element was modified.
+     */
+    private static final class Key<E> {
+
+        private final E element;
+
+        private final int hash;
+
+        private Key(E element) {
+            this.element = element;
+            this.hash = Objects.hashCode(element);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this || obj instanceof Key && Objects.equals(element, ((Key<?>) obj).element);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    private static final class Occurrences<E> {
+
+        /**
+         * The key of the occurrences, whose element is the one shown by this list.
+         */
+        private Key<E> key;
+
+        private int count;
+
+        /**
+         * If the occurrences are in {@link #distinct}, which can stay {@code true} during a change after the count went
+         * down to 0, until the element is removed.
+         */
+        private boolean inList;
+
+        /**
+         * If the occurrences are in {@link #occurrences}. They are taken out when the element of their key is modified,
+         * until they get a new key.
+         */
+        private boolean mapped;
+
+    }
+
+    private static final class Slot<E> {
+
+        private final E element;
+
+        /**
+         * The occurrences the element is counted in, or {@code null} for an element added during the current change.
+         */
+        private Occurrences<E> occurrences;
+
+        private Slot(E element) {
+            this.element = element;
+        }
+
+    }
+
+    private Occurrences<E> occurrences(E element) {
+        Key<E> key = new Key<>(element);
+        Occurrences<E> o = occurrences.get(key);
+        if (o == null) {
+            o = new Occurrences<>();
+            map(o, key);
+        }
+        return o;
+    }
+
+    private void map(Occurrences<E> o, Key<E> key) {
+        o.key = key;
+        o.mapped = true;
+        occurrences.put(key, o);
+    }
+
+    private void unmap(Occurrences<E> o) {
+        if (o.mapped) {
+            o.mapped = false;
+            occurrences.remove(o.key, o);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return distinct.get(index).key.element;
+    }
+
+    @Override
+    public int size() {
+        return distinct.size();
+    }
+
+    /**
+     * Returns the index of the first occurrence of the element in the source list, which is found by a linear search.
+     *
+     * @param index
+     *         the index in this list
+     *
+     * @return the index of the first occurrence of the element in the source list
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        Occurrences<E> o = distinct.get(index);
+        int i = 0;
+        for (Slot<E> slot : slots) {
+            if (slot.occurrences == o) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        final ObservableList<? extends E> source = getSource();
+        boolean removed = false;
+        boolean reorder = false;
+        // the added and updated elements, which are counted once the whole change is known
+        Set<Slot<E>> pending = new LinkedHashSet<>();
+        Set<Slot<E>> updated = new LinkedHashSet<>();
+        // the occurrences whose key was modified, which need a new one
+        List<Occurrences<E>> modified = new ArrayList<>();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permutate(c);
+                reorder = true;
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    Slot<E> slot = slots.get(i);
+                    if (pending.add(slot)) {
+                        Occurrences<E> o = slot.occurrences;
+                        o.count--;
+                        if (o.key.element == slot.element && o.mapped) {
+                            unmap(o);
+                            modified.add(o);
+                        }
+                    }
+                    updated.add(slot);
+                }
+                reorder = true;
+            } else {
+                List<Slot<E>> removedSlots = slots.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                for (Slot<E> slot : removedSlots) {
+                    removed = true;
+                    updated.remove(slot);
+                    if (!pending.remove(slot) && --slot.occurrences.count > 0) {
+                        // the first occurrence of the element may have moved after another element
+                        reorder = true;
+                    }
+                }
+                removedSlots.clear();
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    Slot<E> slot = new Slot<>(source.get(i));
+                    slots.add(i, slot);
+                    pending.add(slot);
+                }
+                if (c.wasAdded() && (c.wasRemoved() || c.getTo() < source.size())) {
+                    // only the elements appended to the source list are known to come after every other one
+                    reorder = true;
+                }
+            }
+        }
+        Map<Occurrences<E>, E> replaced = rekey(modified, pending);
+        for (Slot<E> slot : pending) {
+            Occurrences<E> previous = slot.occurrences;
+            Occurrences<E> o = occurrences.get(new Key<>(slot.element));
+            if (o == null && previous != null && !previous.mapped && previous.count == 0 &&
+                    previous.key.element == slot.element) {
+                // the element is still shown by this list, with its new value
+                map(previous, new Key<>(slot.element));
+                o = previous;
+            } else if (o == null) {
+                o = occurrences(slot.element);
+            }
+            slot.occurrences = o;
+            if (o.count++ == 0 && o.inList) {
+                // the element was removed earlier in this change
+                reorder = true;
+            }
+        }
+
+        beginChange();
+        Map<Occurrences<E>, Slot<E>> firstSlots = null;
+        Set<Occurrences<E>> shown = null;
+        if (reorder) {
+            firstSlots = firstSlots();
+            List<Occurrences<E>> firstOccurrences = new ArrayList<>(firstSlots.keySet());
+            reorder(firstOccurrences);
+            removeMissing();
+            shown = Collections.newSetFromMap(new IdentityHashMap<>());
+            shown.addAll(distinct);
+            addNew(firstOccurrences);
+        } else {
+            if (removed) {
+                removeMissing();
+            }
+            addAppended(pending);
+        }
+        if (!replaced.isEmpty() || !updated.isEmpty()) {
+            Map<Occurrences<E>, Integer> indexes = new IdentityHashMap<>();
+            for (int i = 0; i < distinct.size(); i++) {
+                indexes.put(distinct.get(i), i);
+            }
+            for (Map.Entry<Occurrences<E>, E> entry : replaced.entrySet()) {
+                Integer index = indexes.get(entry.getKey());
+                if (index != null && entry.getKey().count > 0) {
+                    nextSet(index, entry.getValue());
+                }
+            }
+            for (Slot<E> slot : updated) {
+                Occurrences<E> o = slot.occurrences;
+                if (shown.contains(o) && !replaced.containsKey(o) && firstSlots.get(o) == slot) {
+                    nextUpdate(indexes.get(o));
+                }
+            }
+        }
+        endChange();
+    }
+
+    private void permutate(Change<? extends E> c) {
+        final int from = c.getFrom();
+        final int to = c.getTo();
+        List<Slot<E>> permutated = new ArrayList<>(slots.subList(from, to));
+        for (int i = from; i < to; i++) {
+            permutated.set(c.getPermutation(i) - from, slots.get(i));
+        }
+        for (int i = from; i < to; i++) {
+            slots.set(i, permutated.get(i - from));
+        }
+    }
+
+    /**
+     * Gives a new key to the occurrences whose element was modified and that still count other elements, with the first
+     * of them that is not pending. The element stays the same if this other element is still equal to it.
+     *
+     * @return the occurrences whose element changed, with their previous element
+     */
+    private Map<Occurrences<E>, E> rekey(List<Occurrences<E>> modified, Set<Slot<E>> pending) {
+        Map<Occurrences<E>, E> replaced = new IdentityHashMap<>();
+        int left = 0;
+        for (Occurrences<E> o : modified) {
+            if (o.count > 0) {
+                left++;
+            }
+        }
+        for (Iterator<Slot<E>> it = slots.iterator(); left > 0 && it.hasNext(); ) {
+            Slot<E> slot = it.next();
+            Occurrences<E> o = slot.occurrences;
+            if (o != null && !o.mapped && o.count > 0 && !pending.contains(slot)) {
+                E element = o.key.element;
+                if (Objects.equals(element, slot.element)) {
+                    map(o, new Key<>(element));
+                } else {
+                    map(o, new Key<>(slot.element));
+                    replaced.put(o, element);
+                }
+                left--;
+            }
+        }
+        return replaced;
+    }
+
+    /**
+     * Removes the elements whose last occurrence was removed from the source list.
+     */
+    private void removeMissing() {
+        for (int i = distinct.size() - 1; i >= 0; i--) {
+            Occurrences<E> o = distinct.get(i);
+            if (o.count == 0) {
+                unmap(o);
+                o.inList = false;
+                distinct.remove(i);
+                nextRemove(i, o.key.element);
+            }
+        }
+    }
+
+    /**
+     * Sorts the elements that stay in this list by their first occurrence in the source list. The elements that will be
+     * removed keep their positions, so the permutation is reported before any other change.
+     */
+    private void reorder(List<Occurrences<E>> firstOccurrences) {
+        List<Integer> positions = new ArrayList<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i++) {
+            if (distinct.get(i).count > 0) {
+                positions.add(i);
+            }
+        }
+        Map<Occurrences<E>, Integer> newIndexes = new IdentityHashMap<>();
+        for (Occurrences<E> o : firstOccurrences) {
+            if (o.inList) {
+                newIndexes.put(o, positions.get(newIndexes.size()));
+            }
+        }
+        int from = distinct.size();
+        int to = 0;
+        for (int position : positions) {
+            if (newIndexes.get(distinct.get(position)) != position) {
+                from = Math.min(from, position);
+                to = position + 1;
+            }
+        }
+        if (from >= to) {
+            return;
+        }
+        int[] perm = new int[to - from];
+        List<Occurrences<E>> permutated = new ArrayList<>(distinct.subList(from, to));
+        for (int i = from; i < to; i++) {
+            Occurrences<E> o = distinct.get(i);
+            int newIndex = o.count > 0 ? newIndexes.get(o) : i;
+            perm[i - from] = newIndex;
+            permutated.set(newIndex - from, o);
+        }
+        for (int i = from; i < to; i++) {
+            distinct.set(i, permutated.get(i - from));
+        }
+        nextPermutation(from, to, perm);
+    }
+
+    /**
+     * Adds the elements whose first occurrence was added to the source list, at the position of their first occurrence
+     * among the other elements.
+     */
+    private void addNew(List<Occurrences<E>> firstOccurrences) {
+        for (int i = 0; i < firstOccurrences.size(); i++) {
+            Occurrences<E> o = firstOccurrences.get(i);
+            if (!o.inList) {
+                o.inList = true;
+                distinct.add(i, o);
+                nextAdd(i, i + 1);
+            }
+        }
+    }
+
+    /**
+     * Adds the new elements of a change that only appended elements to the source list, so their first occurrences
+     * come after every other element, in the order of the change.
+     */
+    private void addAppended(Set<Slot<E>> added) {
+        for (Slot<E> slot : added) {
+            Occurrences<E> o = slot.occurrences;
+            if (!o.inList) {
+                o.inList = true;
+                distinct.add(o);
+                nextAdd(distinct.size() - 1, distinct.size());
+            }
+        }
+    }
+
+    /**
+     * Finds the first occurrence of each element in the source list.
+     *
+     * @return the slot of the first occurrence of each element, in the order of the source list
+     */
+    private Map<Occurrences<E>, Slot<E>> firstSlots() {
+        Map<Occurrences<E>, Slot<E>> firstSlots = new LinkedHashMap<>();
+        // the tree is walked in order, without looking each index up
+        slots.forEach(slot -> firstSlots.putIfAbsent(slot.occurrences, slot));
+        return firstSlots;
+    }
+
+}
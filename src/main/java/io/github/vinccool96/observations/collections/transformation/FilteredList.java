@@ -5,11 +5,14 @@ import io.github.vinccool96.observations.beans.property.ObjectProperty;
 import io.github.vinccool96.observations.beans.property.ObjectPropertyBase;
 import io.github.vinccool96.observations.collections.ListChangeListener.Change;
 import io.github.vinccool96.observations.collections.ObservableList;
-import io.github.vinccool96.observations.sun.collections.NonIterableChange.GenericAddRemoveChange;
+import io.github.vinccool96.observations.sun.collections.ChunkedIndexList;
+import io.github.vinccool96.observations.sun.collections.ChangeHelper;
 import io.github.vinccool96.observations.sun.collections.SortHelper;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * Wraps an ObservableList and filters its content using the provided Predicate. All changes in the ObservableList are
@@ -19,12 +22,16 @@ import java.util.function.Predicate;
  */
 public final class FilteredList<E> extends TransformationList<E, E> {
 
-    private int[] filtered;
+    private static final int REFILTER_CHUNK_SIZE = 8192;
 
-    private int size;
+    private static final int[] EMPTY_PERM = new int[0];
+
+    private final ChunkedIndexList filtered = new ChunkedIndexList();
 
     private SortHelper helper;
 
+    private boolean parallelRefilter;
+
     @SuppressWarnings("rawtypes")
     private static final Predicate ALWAYS_TRUE = t -> true;
 
@@ -41,13 +48,14 @@ public final class FilteredList<E> extends TransformationList<E, E> {
     public FilteredList(@NamedArg("source") ObservableList<E> source,
             @NamedArg("predicate") Predicate<? super E> predicate) {
         super(source);
-        filtered = new int[source.size() * 3 / 2 + 1];
         if (predicate != null) {
             setPredicate(predicate);
         } else {
-            for (size = 0; size < source.size(); size++) {
-                filtered[size] = size;
+            int[] indexes = new int[source.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = i;
             }
+            filtered.setAll(indexes, indexes.length);
         }
     }
 
@@ -102,6 +110,31 @@ public final class FilteredList<E> extends TransformationList<E, E> {
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Returns whether the predicate is tested in parallel when it changes.
+     *
+     * @return {@code true} if the list is refiltered in parallel
+     *
+     * @see #setParallelRefilter(boolean)
+     */
+    public final boolean isParallelRefilter() {
+        return parallelRefilter;
+    }
+
+    /**
+     * Sets whether the predicate is tested in parallel when it changes. When enabled and the source is a large
+     * {@link RandomAccess} list, the source is split in chunks that are filtered in the common {@link ForkJoinPool}.
+     * Changes of the source are always filtered on the calling thread.
+     * <p>
+     * The predicate must then be safe to call from several threads at once.
+     *
+     * @param parallelRefilter
+     *         {@code true} to refilter in parallel
+     */
+    public final void setParallelRefilter(boolean parallelRefilter) {
+        this.parallelRefilter = parallelRefilter;
+    }
+
     @SuppressWarnings("unchecked")
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
@@ -132,7 +165,7 @@ public final class FilteredList<E> extends TransformationList<E, E> {
      */
     @Override
     public int size() {
-        return size;
+        return filtered.size();
     }
 
     /**
@@ -148,18 +181,18 @@ public final class FilteredList<E> extends TransformationList<E, E> {
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
+        if (index >= filtered.size()) {
             throw new IndexOutOfBoundsException();
         }
-        return getSource().get(filtered[index]);
+        return getSource().get(filtered.get(index));
     }
 
     @Override
     public int getSourceIndex(int index) {
-        if (index >= size) {
+        if (index >= filtered.size()) {
             throw new IndexOutOfBoundsException();
         }
-        return filtered[index];
+        return filtered.get(index);
     }
 
     private SortHelper getSortHelper() {
@@ -170,60 +203,49 @@ public final class FilteredList<E> extends TransformationList<E, E> {
     }
 
     private int findPosition(int p) {
-        if (filtered.length == 0) {
+        if (filtered.size() == 0) {
             return 0;
         }
         if (p == 0) {
             return 0;
         }
-        int pos = Arrays.binarySearch(filtered, 0, size, p);
+        int pos = filtered.binarySearch(p);
         if (pos < 0) {
             pos = ~pos;
         }
         return pos;
     }
 
-    private void ensureSize(int size) {
-        if (filtered.length < size) {
-            int[] replacement = new int[size * 3 / 2 + 1];
-            System.arraycopy(filtered, 0, replacement, 0, this.size);
-            filtered = replacement;
-        }
-    }
-
-    private void updateIndexes(int from, int delta) {
-        for (int i = from; i < size; ++i) {
-            filtered[i] += delta;
-        }
-    }
-
     private void permutate(Change<? extends E> c) {
         int from = findPosition(c.getFrom());
         int to = findPosition(c.getTo());
 
         if (to > from) {
+            int[] indexes = new int[to - from];
             for (int i = from; i < to; ++i) {
-                filtered[i] = c.getPermutation(filtered[i]);
+                indexes[i - from] = c.getPermutation(filtered.get(i));
             }
 
-            int[] perm = getSortHelper().sort(filtered, from, to);
+            int[] perm = getSortHelper().sort(indexes, 0, indexes.length);
+            for (int i = from; i < to; ++i) {
+                filtered.set(i, indexes[i - from]);
+            }
             nextPermutation(from, to, perm);
         }
     }
 
     private void addRemove(Change<? extends E> c) {
         Predicate<? super E> pred = getPredicateImpl();
-        ensureSize(getSource().size());
         final int from = findPosition(c.getFrom());
         final int to = findPosition(c.getFrom() + c.getRemovedSize());
 
         // Mark the nodes that are going to be removed
         for (int i = from; i < to; ++i) {
-            nextRemove(from, c.getRemoved().get(filtered[i] - c.getFrom()));
+            nextRemove(from, c.getRemoved().get(filtered.get(i) - c.getFrom()));
         }
 
         // Update indexes of the sublist following the last element that was removed
-        updateIndexes(to, c.getAddedSize() - c.getRemovedSize());
+        filtered.addToAll(to, c.getAddedSize() - c.getRemovedSize());
 
         // Replace as many removed elements as possible
         int fpos = from;
@@ -232,7 +254,7 @@ public final class FilteredList<E> extends TransformationList<E, E> {
         ListIterator<? extends E> it = getSource().listIterator(pos);
         while (fpos < to && it.nextIndex() < c.getTo()) {
             if (pred.test(it.next())) {
-                filtered[fpos] = it.previousIndex();
+                filtered.set(fpos, it.previousIndex());
                 nextAdd(fpos, fpos + 1);
                 ++fpos;
             }
@@ -240,17 +262,14 @@ public final class FilteredList<E> extends TransformationList<E, E> {
 
         if (fpos < to) {
             // If there were more removed elements than added
-            System.arraycopy(filtered, to, filtered, fpos, size - to);
-            size -= to - fpos;
+            filtered.removeRange(fpos, to);
         } else {
             // Add the remaining elements
             while (it.nextIndex() < c.getTo()) {
                 if (pred.test(it.next())) {
-                    System.arraycopy(filtered, fpos, filtered, fpos + 1, size - fpos);
-                    filtered[fpos] = it.previousIndex();
+                    filtered.add(fpos, it.previousIndex());
                     nextAdd(fpos, fpos + 1);
                     ++fpos;
-                    ++size;
                 }
                 ++pos;
             }
@@ -259,7 +278,6 @@ public final class FilteredList<E> extends TransformationList<E, E> {
 
     private void update(Change<? extends E> c) {
         Predicate<? super E> pred = getPredicateImpl();
-        ensureSize(getSource().size());
         int sourceFrom = c.getFrom();
         int sourceTo = c.getTo();
         int filterFrom = findPosition(sourceFrom);
@@ -268,11 +286,10 @@ public final class FilteredList<E> extends TransformationList<E, E> {
         int pos = filterFrom;
         while (pos < filterTo || sourceFrom < sourceTo) {
             E el = it.next();
-            if (pos < size && filtered[pos] == sourceFrom) {
+            if (pos < filtered.size() && filtered.get(pos) == sourceFrom) {
                 if (!pred.test(el)) {
                     nextRemove(pos, el);
-                    System.arraycopy(filtered, pos + 1, filtered, pos, size - pos - 1);
-                    --size;
+                    filtered.remove(pos);
                     --filterTo;
                 } else {
                     nextUpdate(pos);
@@ -281,9 +298,7 @@ public final class FilteredList<E> extends TransformationList<E, E> {
             } else {
                 if (pred.test(el)) {
                     nextAdd(pos, pos + 1);
-                    System.arraycopy(filtered, pos, filtered, pos + 1, size - pos);
-                    filtered[pos] = sourceFrom;
-                    ++size;
+                    filtered.add(pos, sourceFrom);
                     ++pos;
                     ++filterTo;
                 }
@@ -292,26 +307,208 @@ public final class FilteredList<E> extends TransformationList<E, E> {
         }
     }
 
-    @SuppressWarnings("ForLoopReplaceableByForEach")
     private void refilter() {
-        ensureSize(getSource().size());
-        List<E> removed = null;
-        if (hasListeners()) {
-            removed = new ArrayList<>(this);
+        final int[] old = hasListeners() ? filtered.toArray() : null;
+        final List<? extends E> source = getSource();
+        final Predicate<? super E> pred = getPredicateImpl();
+        final int[] indexes = new int[source.size()];
+        final int size;
+        if (parallelRefilter && source instanceof RandomAccess && indexes.length > REFILTER_CHUNK_SIZE) {
+            size = parallelFilter(source, pred, indexes);
+        } else {
+            int count = 0;
+            int i = 0;
+            for (Iterator<? extends E> it = source.iterator(); it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    indexes[count++] = i;
+                }
+                ++i;
+            }
+            size = count;
         }
-        size = 0;
-        int i = 0;
-        Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator(); it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        filtered.setAll(indexes, size);
+        if (old != null) {
+            final RefilterChange<E> change = new RefilterChange<>(this, old, indexes, size);
+            if (change.count > 0) {
+                fireChange(change);
             }
-            ++i;
         }
-        if (hasListeners()) {
-            fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
+    }
+
+    private static <E> int parallelFilter(List<? extends E> source, Predicate<? super E> pred, int[] indexes) {
+        final int chunkCount = (indexes.length + REFILTER_CHUNK_SIZE - 1) / REFILTER_CHUNK_SIZE;
+        final int[] counts = new int[chunkCount];
+        // each chunk writes the indexes it matches at the start of its own range of the array
+        IntStream.range(0, chunkCount).parallel().forEach(c -> {
+            final int from = c * REFILTER_CHUNK_SIZE;
+            final int to = Math.min(indexes.length, from + REFILTER_CHUNK_SIZE);
+            int count = from;
+            for (int i = from; i < to; i++) {
+                if (pred.test(source.get(i))) {
+                    indexes[count++] = i;
+                }
+            }
+            counts[c] = count - from;
+        });
+        int size = counts[0];
+        for (int c = 1; c < chunkCount; c++) {
+            System.arraycopy(indexes, c * REFILTER_CHUNK_SIZE, indexes, size, counts[c]);
+            size += counts[c];
         }
+        return size;
+    }
+
+    /**
+     * The change fired when the list is refiltered. It is computed by merging the source indexes before and after the
+     * refilter, so it only contains the elements that were removed or added.
+     */
+    private static class RefilterChange<E> extends Change<E> {
+
+        private final List<? extends E> source;
+
+        private final int[] old;
+
+        // from, to, and the range of the old indexes that were removed, for each sub-change
+        private int[] changes = new int[16];
+
+        private final int count;
+
+        private int cursor = -1;
+
+        private List<E> removed;
+
+        RefilterChange(FilteredList<E> list, int[] old, int[] indexes, int size) {
+            super(list);
+            this.source = list.getSource();
+            this.old = old;
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < old.length || j < size) {
+                if (i < old.length && j < size && old[i] == indexes[j]) {
+                    i++;
+                    j++;
+                    continue;
+                }
+                final int oldFrom = i;
+                final int from = j;
+                while (i < old.length || j < size) {
+                    if (i < old.length && (j == size || old[i] < indexes[j])) {
+                        i++;
+                    } else if (i == old.length || indexes[j] < old[i]) {
+                        j++;
+                    } else {
+                        break;
+                    }
+                }
+                if (n + 4 > changes.length) {
+                    changes = Arrays.copyOf(changes, changes.length * 2);
+                }
+                changes[n++] = from;
+                changes[n++] = j;
+                changes[n++] = oldFrom;
+                changes[n++] = i;
+            }
+            this.count = n / 4;
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor + 1 < count) {
+                cursor++;
+                removed = null;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+            removed = null;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return changes[cursor * 4];
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return changes[cursor * 4 + 1];
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            checkState();
+            if (removed == null) {
+                removed = removed(cursor);
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return getRemovedSize() > 0;
+        }
+
+        @Override
+        public int getRemovedSize() {
+            checkState();
+            return changes[cursor * 4 + 3] - changes[cursor * 4 + 2];
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return EMPTY_PERM;
+        }
+
+        // the removed elements are only copied from the source, which did not change, when they are first accessed
+        private List<E> removed(int c) {
+            final int from = changes[c * 4 + 2];
+            final int to = changes[c * 4 + 3];
+            final List<E> result = new ArrayList<>(to - from);
+            if (source instanceof RandomAccess) {
+                for (int i = from; i < to; i++) {
+                    result.add(source.get(old[i]));
+                }
+            } else if (from < to) {
+                final ListIterator<? extends E> it = source.listIterator(old[from]);
+                for (int i = from; i < to; i++) {
+                    while (it.nextIndex() < old[i]) {
+                        it.next();
+                    }
+                    result.add(it.next());
+                }
+            }
+            return result;
+        }
+
+        private void checkState() {
+            if (cursor == -1) {
+                throw new IllegalStateException(
+                        "Invalid Change state: next() must be called before inspecting the Change.");
+            }
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder b = new StringBuilder("{ ");
+            for (int c = 0; c < count; c++) {
+                b.append(ChangeHelper.addRemoveChangeToString(changes[c * 4], changes[c * 4 + 1], getList(),
+                        removed(c)));
+                if (c != count - 1) {
+                    b.append(", ");
+                }
+            }
+            b.append(" }");
+            return b.toString();
+        }
+
     }
 
 }
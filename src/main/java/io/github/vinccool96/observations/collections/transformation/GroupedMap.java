@@ -0,0 +1,256 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.WeakListChangeListener;
+import io.github.vinccool96.observations.sun.collections.ObservableMapWrapper;
+import io.github.vinccool96.observations.sun.collections.TreeList;
+import io.github.vinccool96.observations.sun.collections.UnmodifiableObservableMap;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable view that groups the elements of an ObservableList by the key the classifier gives them. Each key is
+ * mapped to an unmodifiable ObservableList of the elements with this key, in the order of the source list.
+ * <p>
+ * The groups are maintained incrementally: each change of the source list only moves the elements it affects between
+ * the groups, adds the group of a new key and removes the groups that become empty. The elements are classified again
+ * when the source list reports them as updated, so a source list with an extractor moves its elements to their new
+ * group when the observed properties change. The changes made to the groups by a single change of the source list are
+ * reported to the map listeners at once.
+ * <p>
+ * The position of an element in its group is found by counting the elements of each group on the shorter side of the
+ * change in the source list, so appending elements to the source list or removing its last elements only costs the
+ * number of elements changed, and a change in the middle of the source list costs at most half of its size.
+ *
+ * @param <K>
+ *         the type of the keys of the groups
+ * @param <E>
+ *         the type of the elements of the source list
+ */
+public final class GroupedMap<K, E> extends UnmodifiableObservableMap<K, ObservableList<E>> {
+
+    private final ObservableList<? extends E> source;
+
+    private final Function<? super E, ? extends K> classifier;
+
+    private final ObservableMapWrapper<K, ObservableList<E>> groups;
+
+    /**
+     * The modifiable lists behind the groups of {@link #groups}.
+     */
+    private final Map<K, ObservableList<E>> lists = new HashMap<>();
+
+    /**
+     * {@code keys.get(i)} is the key of the element at {@code i} in the source list.
+     */
+    private final TreeList<K> keys = new TreeList<>();
+
+    /**
+     * The keys whose group lost its last element during the current change of the source list. The group is removed at
+     * the end of the change if it is still empty, so an element replaced by another one with the same key keeps its
+     * group.
+     */
+    private final Set<K> emptied = new HashSet<>();
+
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+
+    /**
+     * Constructs a new GroupedMap view of the source list.
+     *
+     * @param source
+     *         the source list
+     * @param classifier
+     *         the function that gives the key of the group of an element
+     */
+    public GroupedMap(@NamedArg("source") ObservableList<? extends E> source,
+            @NamedArg("classifier") Function<? super E, ? extends K> classifier) {
+        this(source, classifier, new ObservableMapWrapper<>(new LinkedHashMap<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private GroupedMap(ObservableList<? extends E> source, Function<? super E, ? extends K> classifier,
+            ObservableMapWrapper<K, ObservableList<E>> groups) {
+        super(groups);
+        if (source == null || classifier == null) {
+            throw new NullPointerException();
+        }
+        this.source = source;
+        this.classifier = classifier;
+        this.groups = groups;
+        added(0, source.size());
+        ((ObservableList<E>) source).addListener(new WeakListChangeListener<>(sourceListener));
+    }
+
+    /**
+     * The source list specified in the constructor of this grouping.
+     *
+     * @return the source list
+     */
+    public ObservableList<? extends E> getSource() {
+        return source;
+    }
+
+    private void sourceChanged(Change<? extends E> c) {
+        groups.beginChange();
+        try {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    permutated(c);
+                } else if (c.wasUpdated()) {
+                    updated(c.getFrom(), c.getTo());
+                } else {
+                    if (c.wasRemoved()) {
+                        removed(c.getFrom(), c.getRemovedSize());
+                    }
+                    if (c.wasAdded()) {
+                        added(c.getFrom(), c.getTo());
+                    }
+                }
+            }
+            for (K key : emptied) {
+                if (lists.get(key).isEmpty()) {
+                    lists.remove(key);
+                    groups.remove(key);
+                }
+            }
+        } finally {
+            emptied.clear();
+            groups.endChange();
+        }
+    }
+
+    /**
+     * The position in its group of the next element of each key, from an index of the source list.
+     */
+    private final class Positions {
+
+        private final Map<K, int[]> positions = new HashMap<>();
+
+        /**
+         * If the positions were counted from the end of the source list, so a key that wasn't counted is after all the
+         * elements of its group.
+         */
+        private final boolean fromEnd;
+
+        /**
+         * Counts the elements of each group before {@code index} in the source list. When {@code index} is closer to
+         * the end of the source list, the elements after it are subtracted from the size of their group instead.
+         */
+        private Positions(int index) {
+            fromEnd = index > keys.size() - index;
+            if (fromEnd) {
+                keys.forEach(index, keys.size(), key -> of(key)[0]--);
+            } else {
+                keys.forEach(0, index, key -> of(key)[0]++);
+            }
+        }
+
+        private int[] of(K key) {
+            return positions.computeIfAbsent(key, k -> new int[]{fromEnd ? groupSize(k) : 0});
+        }
+
+    }
+
+    private int groupSize(K key) {
+        ObservableList<E> list = lists.get(key);
+        return list == null ? 0 : list.size();
+    }
+
+    private void added(int from, int to) {
+        Positions positions = new Positions(from);
+        for (int i = from; i < to; i++) {
+            E element = source.get(i);
+            K key = classifier.apply(element);
+            keys.add(i, key);
+            insert(key, positions.of(key)[0]++, element);
+        }
+    }
+
+    private void removed(int from, int removedSize) {
+        Positions positions = new Positions(from);
+        List<K> removedKeys = keys.subList(from, from + removedSize);
+        for (K key : removedKeys) {
+            remove(key, positions.of(key)[0]);
+        }
+        removedKeys.clear();
+    }
+
+    private void updated(int from, int to) {
+        Positions positions = new Positions(from);
+        for (int i = from; i < to; i++) {
+            E element = source.get(i);
+            K oldKey = keys.get(i);
+            K newKey = classifier.apply(element);
+            if (!Objects.equals(oldKey, newKey)) {
+                remove(oldKey, positions.of(oldKey)[0]);
+                keys.set(i, newKey);
+                insert(newKey, positions.of(newKey)[0], element);
+            }
+            positions.of(newKey)[0]++;
+        }
+    }
+
+    private void permutated(Change<? extends E> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        List<K> permutated = new ArrayList<>(keys.subList(from, to));
+        for (int i = from; i < to; i++) {
+            permutated.set(c.getPermutation(i) - from, keys.get(i));
+        }
+        Map<K, List<E>> reordered = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            keys.set(i, permutated.get(i - from));
+            reordered.put(keys.get(i), new ArrayList<>());
+        }
+        // only the groups with elements in the permutated range can change their order
+        int[] index = new int[1];
+        keys.forEach(key -> {
+            List<E> elements = reordered.get(key);
+            if (elements != null) {
+                elements.add(source.get(index[0]));
+            }
+            index[0]++;
+        });
+        for (Map.Entry<K, List<E>> entry : reordered.entrySet()) {
+            ObservableList<E> list = lists.get(entry.getKey());
+            if (!sameElements(list, entry.getValue())) {
+                list.setAll(entry.getValue());
+            }
+        }
+    }
+
+    private static boolean sameElements(List<?> list, List<?> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            if (list.get(i) != elements.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insert(K key, int position, E element) {
+        ObservableList<E> list = lists.get(key);
+        if (list == null) {
+            list = ObservableCollections.observableArrayList();
+            list.add(element);
+            lists.put(key, list);
+            groups.put(key, ObservableCollections.unmodifiableObservableList(list));
+        } else {
+            list.add(position, element);
+        }
+    }
+
+    private void remove(K key, int position) {
+        ObservableList<E> list = lists.get(key);
+        list.remove(position);
+        if (list.isEmpty()) {
+            emptied.add(key);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Wraps an ObservableList and maps each of its elements with the provided function. The elements are mapped lazily, on
+ * {@link #get(int)}, and are not copied: all changes in the ObservableList are propagated immediately to the MappedList,
+ * at the same indexes.
+ * <p>
+ * The mapped elements can be cached, up to a maximum number of elements. The cache is keyed by the identity of the
+ * source elements, so adding, removing or permuting elements of the source list keeps the mapped elements of the
+ * others. An element is mapped again when the source list reports it as updated, or after it was replaced or removed.
+ * The removed elements of a change are taken from the cache while the listeners are notified, and are mapped again
+ * without being cached if they are read afterwards.
+ * <p>
+ * The mapping function should only depend on the source element, since a cached element is not mapped again until the
+ * source list reports a change.
+ *
+ * @param <S>
+ *         the type of the elements of the source list
+ * @param <T>
+ *         the type of the mapped elements
+ *
+ * @see TransformationList
+ */
+public final class MappedList<S, T> extends TransformationList<T, S> {
+
+    private final Function<? super S, ? extends T> mapper;
+
+    private final Map<ElementKey, T> cache;
+
+    /**
+     * Constructs a new MappedList wrapper around the source list, without cache: every call to {@link #get(int)} maps
+     * the source element again.
+     *
+     * @param source
+     *         the source list
+     * @param mapper
+     *         the function that maps the source elements
+     */
+    public MappedList(@NamedArg("source") ObservableList<? extends S> source,
+            @NamedArg("mapper") Function<? super S, ? extends T> mapper) {
+        this(source, mapper, 0);
+    }
+
+    /**
+     * Constructs a new MappedList wrapper around the source list, that caches up to {@code cacheSize} mapped elements.
+     * When the cache is full, the element that was used least recently is evicted.
+     *
+     * @param source
+     *         the source list
+     * @param mapper
+     *         the function that maps the source elements
+     * @param cacheSize
+     *         the maximum number of mapped elements to keep, or {@code 0} to disable the cache
+     *
+     * @throws IllegalArgumentException
+     *         if {@code cacheSize} is negative
+     */
+    public MappedList(@NamedArg("source") ObservableList<? extends S> source,
+            @NamedArg("mapper") Function<? super S, ? extends T> mapper, @NamedArg("cacheSize") int cacheSize) {
+        super(source);
+        if (mapper == null) {
+            throw new NullPointerException();
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Illegal cache size: " + cacheSize);
+        }
+        this.mapper = mapper;
+        this.cache = cacheSize == 0 ? null : new LinkedHashMap<ElementKey, T>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ElementKey, T> eldest) {
+                return size() > cacheSize;
+            }
+
+        };
+    }
+
+    /**
+     * Wraps a source element, so the cache compares the elements by identity.
+     */
+    private static final class ElementKey {
+
+        private final Object element;
+
+        private ElementKey(Object element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ElementKey && ((ElementKey) obj).element == element;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(element);
+        }
+
+    }
+
+    private T map(S element) {
+        if (cache == null) {
+            return mapper.apply(element);
+        }
+        ElementKey key = new ElementKey(element);
+        T mapped = cache.get(key);
+        if (mapped == null && !cache.containsKey(key)) {
+            mapped = mapper.apply(element);
+            cache.put(key, mapped);
+        }
+        return mapped;
+    }
+
+    /**
+     * Maps an element that was removed from the source list, without adding it to the cache.
+     */
+    private T mapRemoved(S element) {
+        if (cache != null) {
+            ElementKey key = new ElementKey(element);
+            T mapped = cache.get(key);
+            if (mapped != null || cache.containsKey(key)) {
+                return mapped;
+            }
+        }
+        return mapper.apply(element);
+    }
+
+    @Override
+    public T get(int index) {
+        return map(getSource().get(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends S> c) {
+        if (cache != null) {
+            // the updated elements must be mapped again before the listeners read them
+            while (c.next()) {
+                if (c.wasUpdated()) {
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        cache.remove(new ElementKey(getSource().get(i)));
+                    }
+                }
+            }
+            c.reset();
+        }
+        fireChange(new MappedChange(c));
+        if (cache != null) {
+            // the removed elements are mapped from the cache while the listeners read them, and evicted afterwards
+            c.reset();
+            while (c.next()) {
+                for (S removed : c.getRemoved()) {
+                    cache.remove(new ElementKey(removed));
+                }
+            }
+        }
+    }
+
+    private class MappedChange extends Change<T> {
+
+        private final Change<? extends S> change;
+
+        private int[] perm;
+
+        private List<T> removed;
+
+        private MappedChange(Change<? extends S> change) {
+            super(MappedList.this);
+            this.change = change;
+        }
+
+        @Override
+        public boolean next() {
+            perm = null;
+            removed = null;
+            return change.next();
+        }
+
+        @Override
+        public void reset() {
+            perm = null;
+            removed = null;
+            change.reset();
+        }
+
+        @Override
+        public int getFrom() {
+            return change.getFrom();
+        }
+
+        @Override
+        public int getTo() {
+            return change.getTo();
+        }
+
+        @Override
+        public List<T> getRemoved() {
+            if (removed == null) {
+                List<? extends S> sourceRemoved = change.getRemoved();
+                removed = new AbstractList<T>() {
+
+                    @Override
+                    public T get(int index) {
+                        return mapRemoved(sourceRemoved.get(index));
+                    }
+
+                    @Override
+                    public int size() {
+                        return sourceRemoved.size();
+                    }
+
+                };
+            }
+            return removed;
+        }
+
+        @Override
+        public int getRemovedSize() {
+            return change.getRemovedSize();
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return change.wasUpdated();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            if (perm == null) {
+                if (change.wasPermutated()) {
+                    int from = change.getFrom();
+                    int to = change.getTo();
+                    perm = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        perm[i - from] = change.getPermutation(i);
+                    }
+                } else {
+                    perm = new int[0];
+                }
+            }
+            return perm;
+        }
+
+    }
+
+}
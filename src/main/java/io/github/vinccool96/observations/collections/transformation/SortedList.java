@@ -11,6 +11,7 @@ import io.github.vinccool96.observations.sun.collections.SourceAdapterChange;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 
@@ -80,15 +81,29 @@ public final class SortedList<E> extends TransformationList<E, E> {
     protected void sourceChanged(Change<? extends E> c) {
         if (elementComparator != null) {
             beginChange();
+            // the consecutive update sub-changes are merged at once, as the others may still hold updated elements
+            BitSet updated = null;
             while (c.next()) {
+                if (c.wasUpdated()) {
+                    if (updated == null) {
+                        updated = new BitSet(size);
+                    }
+                    updated.set(c.getFrom(), c.getTo());
+                    continue;
+                }
+                if (updated != null) {
+                    update(updated);
+                    updated = null;
+                }
                 if (c.wasPermutated()) {
                     updatePermutationIndexes(c);
-                } else if (c.wasUpdated()) {
-                    update(c);
                 } else {
                     addRemove(c);
                 }
             }
+            if (updated != null) {
+                update(updated);
+            }
             endChange();
         } else {
             updateUnsorted(c);
@@ -349,6 +364,80 @@ public final class SortedList<E> extends TransformationList<E, E> {
         nextRemove(pos, e);
     }
 
+    private void insertRangeToMapping(List<? extends E> list, int from, int to) {
+        final int count = to - from;
+        ensureSize(size + count);
+        for (int i = 0; i < size; ++i) {
+            if (sorted[i].index >= from) {
+                sorted[i].index += count;
+            }
+        }
+        Element<E>[] added = new Element[count];
+        for (int i = 0; i < count; ++i) {
+            added[i] = new Element<>(list.get(from + i), from + i);
+        }
+        Arrays.sort(added, elementComparator);
+
+        // merge from the end, the new elements go after the existing elements they are equal to
+        BitSet addedPositions = new BitSet(size + count);
+        int i = size - 1;
+        int j = count - 1;
+        int dest = size + count - 1;
+        while (j >= 0) {
+            if (i >= 0 && elementComparator.compare(sorted[i], added[j]) > 0) {
+                sorted[dest--] = sorted[i--];
+            } else {
+                addedPositions.set(dest);
+                sorted[dest--] = added[j--];
+            }
+        }
+        size += count;
+        for (int pos = 0; pos < size; ++pos) {
+            perm[sorted[pos].index] = pos;
+        }
+
+        for (int pos = addedPositions.nextSetBit(0); pos >= 0; ) {
+            final int end = addedPositions.nextClearBit(pos);
+            nextAdd(pos, end);
+            pos = addedPositions.nextSetBit(end);
+        }
+    }
+
+    private void removeRangeFromMapping(int from, int count) {
+        final int removedTo = from + count;
+        BitSet removedPositions = new BitSet(size);
+        for (int i = from; i < removedTo; ++i) {
+            removedPositions.set(perm[i]);
+        }
+
+        int removedBefore = 0;
+        for (int pos = removedPositions.nextSetBit(0); pos >= 0; ) {
+            final int end = removedPositions.nextClearBit(pos);
+            List<E> removed = new ArrayList<>(end - pos);
+            for (int i = pos; i < end; ++i) {
+                removed.add(sorted[i].e);
+            }
+            nextRemove(pos - removedBefore, removed);
+            removedBefore += end - pos;
+            pos = removedPositions.nextSetBit(end);
+        }
+
+        int dest = 0;
+        for (int pos = 0; pos < size; ++pos) {
+            if (!removedPositions.get(pos)) {
+                Element<E> element = sorted[pos];
+                if (element.index >= removedTo) {
+                    element.index -= count;
+                }
+                sorted[dest] = element;
+                perm[element.index] = dest;
+                ++dest;
+            }
+        }
+        Arrays.fill(sorted, dest, size, null);
+        size = dest;
+    }
+
     private void removeAllFromMapping() {
         List<E> removed = new ArrayList(this);
         for (int i = 0; i < size; ++i) {
@@ -358,13 +447,49 @@ public final class SortedList<E> extends TransformationList<E, E> {
         nextRemove(0, removed);
     }
 
-    private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
+    private void update(BitSet updatedIndexes) {
+        // only the updated elements can be out of place, so they are sorted on their own and merged with the others.
+        // Ties are broken by the previous position, which gives the same order as a stable sort of the whole list.
+        BitSet updatedPositions = new BitSet(size);
+        for (int i = updatedIndexes.nextSetBit(0); i >= 0; i = updatedIndexes.nextSetBit(i + 1)) {
+            updatedPositions.set(this.perm[i]);
+        }
+        final int updatedCount = updatedPositions.cardinality();
+        Element<E>[] updated = new Element[updatedCount];
+        Element<E>[] others = new Element[size - updatedCount];
+        for (int pos = 0, u = 0, o = 0; pos < size; ++pos) {
+            if (updatedPositions.get(pos)) {
+                updated[u++] = sorted[pos];
+            } else {
+                others[o++] = sorted[pos];
+            }
+        }
+        Arrays.sort(updated, elementComparator);
+
+        int[] perm = new int[size];
+        int u = 0;
+        int o = 0;
+        for (int pos = 0; pos < size; ++pos) {
+            final Element<E> element;
+            if (o == others.length) {
+                element = updated[u++];
+            } else if (u == updated.length) {
+                element = others[o++];
+            } else {
+                int cmp = elementComparator.compare(updated[u], others[o]);
+                if (cmp == 0) {
+                    cmp = this.perm[updated[u].index] - this.perm[others[o].index];
+                }
+                element = cmp < 0 ? updated[u++] : others[o++];
+            }
+            perm[this.perm[element.index]] = pos;
+            sorted[pos] = element;
+        }
         for (int i = 0; i < size; i++) {
             this.perm[sorted[i].index] = i;
         }
         nextPermutation(0, size, perm);
-        for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
+        for (int i = updatedIndexes.nextSetBit(0); i >= 0; i = updatedIndexes.nextSetBit(i + 1)) {
             nextUpdate(this.perm[i]);
         }
     }
@@ -372,6 +497,8 @@ public final class SortedList<E> extends TransformationList<E, E> {
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
+        } else if (c.getRemovedSize() > 1) {
+            removeRangeFromMapping(c.getFrom(), c.getRemovedSize());
         } else {
             for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
                 removeFromMapping(c.getFrom(), c.getRemoved().get(i));
@@ -380,6 +507,8 @@ public final class SortedList<E> extends TransformationList<E, E> {
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
             // as size is 0, only valid "from" is also 0
+        } else if (c.getAddedSize() > 1) {
+            insertRangeToMapping(c.getList(), c.getFrom(), c.getTo());
         } else {
             for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
                 insertToMapping(c.getList().get(i), i);
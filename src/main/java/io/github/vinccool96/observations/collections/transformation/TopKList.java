@@ -0,0 +1,427 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.sun.collections.TreeList;
+
+import java.util.*;
+
+/**
+ * Wraps an ObservableList and keeps only its first {@code k} elements in the order of a Comparator, sorted. The other
+ * elements are not sorted: they are kept in a binary heap, so the next element of the list is always known when an
+ * element leaves the list.
+ * <p>
+ * Adding or removing an element of the source list takes {@code O(log n)} time, plus {@code O(k)} to move the elements
+ * of this list, and only changes this list when the element enters or leaves it. An element that the source list
+ * reports as updated is taken out and ranked again in {@code O(log n)} time, plus {@code O(k)}, and this list reports
+ * it as updated if it stays at the same position. A change that updates several elements of the heap at once builds
+ * the heap again, in {@code O(n)} time. Permutations of the source list are never reported. When a change of the source list moves several
+ * elements, this list reports it as the removal and addition of the fewest elements that restore its order.
+ * <p>
+ * Elements that are equal according to the comparator are ordered by the time they were added to the source list.
+ *
+ * @param <E>
+ *         the type of the elements of the list
+ *
+ * @see SortedList
+ */
+public final class TopKList<E> extends TransformationList<E, E> {
+
+    private final Comparator<? super E> comparator;
+
+    private final int k;
+
+    /**
+     * The entries of the source list, at the same indexes, in a tree so an entry is added or removed at any index in
+     * {@code O(log n)} time.
+     */
+    private final List<Entry<E>> entries = new TreeList<>();
+
+    /**
+     * The entries of this list, sorted.
+     */
+    private final List<Entry<E>> top = new ArrayList<>();
+
+    /**
+     * The other entries of the source list, in a binary heap where the first entry is the next one in order.
+     */
+    private final List<Entry<E>> overflow = new ArrayList<>();
+
+    private long nextId;
+
+    /**
+     * Constructs a new TopKList wrapper around the source list, that keeps its first {@code k} elements in the order
+     * of the comparator.
+     *
+     * @param source
+     *         the source list
+     * @param comparator
+     *         the comparator that orders the elements
+     * @param k
+     *         the maximum number of elements of this list
+     *
+     * @throws IllegalArgumentException
+     *         if {@code k} is negative
+     */
+    public TopKList(@NamedArg("source") ObservableList<? extends E> source,
+            @NamedArg("comparator") Comparator<? super E> comparator, @NamedArg("k") int k) {
+        super(source);
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        this.comparator = comparator;
+        this.k = k;
+        for (E element : source) {
+            Entry<E> entry = new Entry<>(element, nextId++);
+            entries.add(entry);
+            overflow.add(entry);
+        }
+        for (int i = overflow.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        for (int i = 0; i < overflow.size(); i++) {
+            overflow.get(i).heapIndex = i;
+        }
+        while (top.size() < k && !overflow.isEmpty()) {
+            top.add(poll());
+        }
+    }
+
+    private static final class Entry<E> {
+
+        private final E element;
+
+        private final long id;
+
+        /**
+         * The index of the entry in {@link #overflow}, or {@code -1} if it is in {@link #top}.
+         */
+        private int heapIndex = -1;
+
+        private Entry(E element, long id) {
+            this.element = element;
+            this.id = id;
+        }
+
+    }
+
+    /**
+     * The maximum number of elements of this list.
+     *
+     * @return the maximum number of elements
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * The comparator that orders the elements of this list.
+     *
+     * @return the comparator
+     */
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public E get(int index) {
+        return top.get(index).element;
+    }
+
+    @Override
+    public int size() {
+        return top.size();
+    }
+
+    /**
+     * Returns the index of the element in the source list, which is found by a linear search.
+     *
+     * @param index
+     *         the index in this list
+     *
+     * @return the index of the element in the source list
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        Entry<E> entry = top.get(index);
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == entry) {
+                return i;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        List<Entry<E>> before = new ArrayList<>(top);
+        Set<Entry<E>> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Entry<E>> removed = new ArrayList<>();
+        List<Entry<E>> added = new ArrayList<>();
+        // the order of the entries isn't used until every updated entry is taken out of this list and of the heap
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                List<Entry<E>> permutated = new ArrayList<>(entries.subList(c.getFrom(), c.getTo()));
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutated.set(c.getPermutation(i) - c.getFrom(), entries.get(i));
+                }
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    entries.set(i, permutated.get(i - c.getFrom()));
+                }
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    updated.add(entries.get(i));
+                }
+            } else {
+                List<Entry<E>> removedEntries = entries.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                for (Entry<E> entry : removedEntries) {
+                    if (!added.remove(entry)) {
+                        removed.add(entry);
+                    }
+                }
+                removedEntries.clear();
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    Entry<E> entry = new Entry<>(getSource().get(i), nextId++);
+                    entries.add(i, entry);
+                    added.add(entry);
+                }
+            }
+        }
+        // the removed entries are not ranked again, and the added ones are ranked once
+        updated.removeAll(removed);
+        updated.removeAll(added);
+        removed.addAll(updated);
+        detach(removed);
+        while (top.size() < k && !overflow.isEmpty()) {
+            top.add(poll());
+        }
+        for (Entry<E> entry : updated) {
+            added(entry);
+        }
+        for (Entry<E> entry : added) {
+            added(entry);
+        }
+        fireDifferences(before, updated);
+    }
+
+    /**
+     * Takes entries out of this list and of the heap, without comparing the updated entries, whose elements may have
+     * changed. When several entries leave the heap, they are taken out first and the heap is built again.
+     */
+    private void detach(List<Entry<E>> detached) {
+        int fromHeap = 0;
+        for (Entry<E> entry : detached) {
+            if (entry.heapIndex < 0) {
+                top.remove(entry);
+            } else {
+                fromHeap++;
+            }
+        }
+        if (fromHeap == 1) {
+            for (Entry<E> entry : detached) {
+                if (entry.heapIndex >= 0) {
+                    removeAt(entry.heapIndex);
+                }
+            }
+        } else if (fromHeap > 1) {
+            for (Entry<E> entry : detached) {
+                if (entry.heapIndex >= 0) {
+                    Entry<E> last = overflow.remove(overflow.size() - 1);
+                    if (last != entry) {
+                        set(entry.heapIndex, last);
+                    }
+                    entry.heapIndex = -1;
+                }
+            }
+            for (int i = overflow.size() / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+    }
+
+    /**
+     * Reports the differences between the elements of this list before and after a change of the source list. The
+     * elements are matched by identity, and the matched elements that keep their order relatively to each other are
+     * not moved. The other elements are removed and added again.
+     */
+    private void fireDifferences(List<Entry<E>> before, Set<Entry<E>> updated) {
+        Map<E, Deque<Integer>> oldIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            oldIndexes.computeIfAbsent(before.get(i).element, e -> new ArrayDeque<>()).add(i);
+        }
+        int[] matches = new int[top.size()];
+        for (int i = 0; i < top.size(); i++) {
+            Deque<Integer> indexes = oldIndexes.get(top.get(i).element);
+            matches[i] = indexes == null || indexes.isEmpty() ? -1 : indexes.poll();
+        }
+        boolean[] staying = new boolean[top.size()];
+        boolean[] stayed = new boolean[before.size()];
+        int count = longestIncreasingRun(matches, staying);
+        if (count == before.size() && count == top.size() && updated.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < top.size(); i++) {
+            if (staying[i]) {
+                stayed[matches[i]] = true;
+            }
+        }
+        beginChange();
+        for (int i = before.size() - 1; i >= 0; i--) {
+            if (!stayed[i]) {
+                nextRemove(i, before.get(i).element);
+            }
+        }
+        for (int i = 0; i < top.size(); i++) {
+            if (!staying[i]) {
+                nextAdd(i, i + 1);
+            }
+        }
+        for (int i = 0; i < top.size(); i++) {
+            if (staying[i] && updated.contains(top.get(i))) {
+                nextUpdate(i);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Marks in {@code staying} the longest increasing subsequence of the non-negative values of {@code matches}, and
+     * returns its length.
+     */
+    private static int longestIncreasingRun(int[] matches, boolean[] staying) {
+        // tails[l] is the index in matches of the smallest last value of an increasing subsequence of length l + 1
+        int[] tails = new int[matches.length];
+        int[] previous = new int[matches.length];
+        int length = 0;
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (matches[tails[mid]] < matches[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            length = Math.max(length, low + 1);
+        }
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            staying[i] = true;
+        }
+        return length;
+    }
+
+    private int compare(Entry<E> e1, Entry<E> e2) {
+        int result = comparator.compare(e1.element, e2.element);
+        return result != 0 ? result : Long.compare(e1.id, e2.id);
+    }
+
+    /**
+     * Finds the position of the entry among the entries of this list.
+     */
+    private int findPosition(Entry<E> entry) {
+        int low = 0;
+        int high = top.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(top.get(mid), entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void added(Entry<E> entry) {
+        if (top.size() < k) {
+            insertInTop(entry);
+        } else if (k > 0 && compare(entry, top.get(k - 1)) < 0) {
+            insertInTop(entry);
+            push(top.remove(k));
+        } else {
+            push(entry);
+        }
+    }
+
+    private void insertInTop(Entry<E> entry) {
+        top.add(findPosition(entry), entry);
+        entry.heapIndex = -1;
+    }
+
+    private void push(Entry<E> entry) {
+        overflow.add(entry);
+        entry.heapIndex = overflow.size() - 1;
+        siftUp(entry.heapIndex);
+    }
+
+    private Entry<E> poll() {
+        Entry<E> first = overflow.get(0);
+        removeAt(0);
+        return first;
+    }
+
+    private void removeAt(int index) {
+        Entry<E> removed = overflow.get(index);
+        Entry<E> last = overflow.remove(overflow.size() - 1);
+        removed.heapIndex = -1;
+        if (last != removed) {
+            set(index, last);
+            siftUp(index);
+            if (last.heapIndex == index) {
+                siftDown(index);
+            }
+        }
+    }
+
+    private void set(int index, Entry<E> entry) {
+        overflow.set(index, entry);
+        entry.heapIndex = index;
+    }
+
+    private void siftUp(int index) {
+        Entry<E> entry = overflow.get(index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Entry<E> parentEntry = overflow.get(parent);
+            if (compare(entry, parentEntry) >= 0) {
+                break;
+            }
+            set(index, parentEntry);
+            index = parent;
+        }
+        set(index, entry);
+    }
+
+    private void siftDown(int index) {
+        Entry<E> entry = overflow.get(index);
+        int size = overflow.size();
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && compare(overflow.get(child + 1), overflow.get(child)) < 0) {
+                child++;
+            }
+            Entry<E> childEntry = overflow.get(child);
+            if (compare(childEntry, entry) >= 0) {
+                break;
+            }
+            set(index, childEntry);
+            index = child;
+        }
+        set(index, entry);
+    }
+
+}
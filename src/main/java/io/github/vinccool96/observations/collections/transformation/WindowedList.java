@@ -0,0 +1,309 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.NamedArg;
+import io.github.vinccool96.observations.beans.property.IntegerProperty;
+import io.github.vinccool96.observations.beans.property.IntegerPropertyBase;
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps an ObservableList and shows a window of its elements: the elements from {@link #offsetProperty() offset}, at
+ * most {@link #lengthProperty() length} of them. The window is made of indexes of the source list, so it shows other
+ * elements when elements are added or removed before it.
+ * <p>
+ * The elements are not copied, and the changes of the source list are reported only for the indexes of the window:
+ * the changes outside of the window are not reported, and the others are clipped to the window and translated by the
+ * offset. Moving or resizing the window is reported as the removal of the elements that left the window and the
+ * addition of the elements that entered it, at its start and at its end.
+ * <p>
+ * A negative offset or length is treated as {@code 0}.
+ *
+ * @param <E>
+ *         the type of the elements of the list
+ *
+ * @see TransformationList
+ */
+public final class WindowedList<E> extends TransformationList<E, E> {
+
+    /**
+     * The offset of the window currently shown, which is the value of {@link #offset} once it was applied.
+     */
+    private int from;
+
+    /**
+     * The length of the window currently shown.
+     */
+    private int windowLength;
+
+    /**
+     * Constructs a new WindowedList wrapper around the source list, showing at most {@code length} elements from
+     * {@code offset}.
+     *
+     * @param source
+     *         the source list
+     * @param offset
+     *         the index of the first element of the window in the source list
+     * @param length
+     *         the maximum number of elements in the window
+     */
+    public WindowedList(@NamedArg("source") ObservableList<E> source, @NamedArg("offset") int offset,
+            @NamedArg("length") int length) {
+        super(source);
+        this.from = Math.max(offset, 0);
+        this.windowLength = Math.max(length, 0);
+        offsetProperty().set(offset);
+        lengthProperty().set(length);
+    }
+
+    /**
+     * The index in the source list of the first element of the window.
+     */
+    private IntegerProperty offset;
+
+    public final IntegerProperty offsetProperty() {
+        if (offset == null) {
+            offset = new IntegerPropertyBase() {
+
+                @Override
+                protected void invalidated() {
+                    moveWindow(Math.max(get(), 0), windowLength);
+                }
+
+                @Override
+                public Object getBean() {
+                    return WindowedList.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "offset";
+                }
+
+            };
+        }
+        return offset;
+    }
+
+    public final int getOffset() {
+        return offset == null ? 0 : offset.get();
+    }
+
+    public final void setOffset(int offset) {
+        offsetProperty().set(offset);
+    }
+
+    /**
+     * The maximum number of elements in the window. The window has fewer elements when the source list ends before the
+     * end of the window.
+     */
+    private IntegerProperty length;
+
+    public final IntegerProperty lengthProperty() {
+        if (length == null) {
+            length = new IntegerPropertyBase() {
+
+                @Override
+                protected void invalidated() {
+                    moveWindow(from, Math.max(get(), 0));
+                }
+
+                @Override
+                public Object getBean() {
+                    return WindowedList.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "length";
+                }
+
+            };
+        }
+        return length;
+    }
+
+    public final int getLength() {
+        return length == null ? 0 : length.get();
+    }
+
+    public final void setLength(int length) {
+        lengthProperty().set(length);
+    }
+
+    /**
+     * The index in the source list after the last element of the window, which doesn't overflow for a large length.
+     */
+    private static int end(int from, int length) {
+        return (int) Math.min((long) from + length, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return getSource().get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, Math.min(getSource().size(), end(from, windowLength)) - from);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return from + index;
+    }
+
+    /**
+     * Shows another window of the source list, and reports the elements that left the window and the ones that entered
+     * it, at its start and at its end. Windows that don't overlap are reported as a single replacement.
+     */
+    private void moveWindow(int newFrom, int newLength) {
+        final ObservableList<? extends E> source = getSource();
+        final int size = source.size();
+        final int oldFrom = Math.min(from, size);
+        final int oldTo = Math.min(end(from, windowLength), size);
+        from = newFrom;
+        windowLength = newLength;
+        final int newStart = Math.min(newFrom, size);
+        final int newTo = Math.min(end(newFrom, newLength), size);
+        if (oldFrom == newStart && oldTo == newTo) {
+            return;
+        }
+        beginChange();
+        final int overlapFrom = Math.max(oldFrom, newStart);
+        final int overlapTo = Math.min(oldTo, newTo);
+        if (overlapFrom >= overlapTo) {
+            replace(0, new ArrayList<>(source.subList(oldFrom, oldTo)), newTo - newStart);
+        } else {
+            // the elements before the overlap, then the ones after it
+            replace(0, new ArrayList<>(source.subList(oldFrom, overlapFrom)), overlapFrom - newStart);
+            replace(overlapTo - newStart, new ArrayList<>(source.subList(overlapTo, oldTo)), newTo - overlapTo);
+        }
+        endChange();
+    }
+
+    /**
+     * Reports that the elements of {@code removed} at {@code index} in this list were replaced by {@code addedSize}
+     * elements.
+     */
+    private void replace(int index, List<E> removed, int addedSize) {
+        if (removed.isEmpty()) {
+            if (addedSize > 0) {
+                nextAdd(index, index + addedSize);
+            }
+        } else if (addedSize == 0) {
+            nextRemove(index, removed);
+        } else {
+            nextReplace(index, index + addedSize, removed);
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        final int end = end(from, windowLength);
+        beginChange();
+        // the index of the first element of the window that can have moved, after which the window is replaced
+        int shifted = end;
+        while (c.next()) {
+            final int changeFrom = c.getFrom();
+            final int changeTo = c.getTo();
+            if (c.wasPermutated()) {
+                permutated(c, Math.max(changeFrom, from), Math.min(changeTo, end));
+            } else if (c.wasUpdated()) {
+                for (int i = Math.max(changeFrom, from); i < Math.min(changeTo, end); i++) {
+                    nextUpdate(i - from);
+                }
+            } else if (c.getRemovedSize() != c.getAddedSize()) {
+                shifted = Math.max(changeFrom, from);
+                break;
+            } else {
+                // the elements after a change that adds as many elements as it removes keep their indexes
+                final int start = Math.max(changeFrom, from);
+                final int to = Math.min(changeTo, end);
+                if (start < to) {
+                    List<E> removed = new ArrayList<>(c.getRemoved().subList(start - changeFrom, to - changeFrom));
+                    nextReplace(start - from, to - from, removed);
+                }
+            }
+        }
+        if (shifted < end) {
+            final int oldSize = oldSize(c);
+            final int newSize = getSource().size();
+            List<E> removed = new ArrayList<>();
+            for (int i = shifted; i < Math.min(oldSize, end); i++) {
+                removed.add(oldElement(c, i));
+            }
+            replace(shifted - from, removed, Math.max(Math.min(newSize, end) - shifted, 0));
+        }
+        endChange();
+    }
+
+    private int oldSize(Change<? extends E> c) {
+        int size = getSource().size();
+        c.reset();
+        while (c.next()) {
+            if (!c.wasPermutated() && !c.wasUpdated()) {
+                size += c.getRemovedSize() - c.getAddedSize();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Finds the element at {@code index} in the source list before the change: the sub-changes are sorted and their
+     * indexes are the ones of the source list after the change, so the old list is the new one where the added
+     * elements of each sub-change are replaced by its removed elements.
+     */
+    private E oldElement(Change<? extends E> c, int index) {
+        // the index in the old list minus the index in the new list, before the current sub-change
+        int delta = 0;
+        c.reset();
+        while (c.next()) {
+            if (c.wasPermutated() || c.wasUpdated()) {
+                continue;
+            }
+            if (index < c.getFrom() + delta) {
+                break;
+            }
+            if (index < c.getFrom() + delta + c.getRemovedSize()) {
+                return c.getRemoved().get(index - c.getFrom() - delta);
+            }
+            delta += c.getRemovedSize() - c.getAddedSize();
+        }
+        return getSource().get(index - delta);
+    }
+
+    /**
+     * Reports a permutation of the source list between {@code start} and {@code end}, clipped to the window. If elements
+     * entered or left the window, the clipped range is reported as replaced.
+     */
+    private void permutated(Change<? extends E> c, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        int[] perm = new int[end - start];
+        boolean inWindow = true;
+        for (int i = start; i < end; i++) {
+            perm[i - start] = c.getPermutation(i) - from;
+            inWindow &= c.getPermutation(i) >= start && c.getPermutation(i) < end;
+        }
+        if (inWindow) {
+            nextPermutation(start - from, end - from, perm);
+        } else {
+            List<E> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(getSource().get(c.getPermutation(i)));
+            }
+            nextReplace(start - from, end - from, removed);
+        }
+    }
+
+}
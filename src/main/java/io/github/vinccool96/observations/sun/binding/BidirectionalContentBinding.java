@@ -201,10 +201,12 @@ public class BidirectionalContentBinding {
                     try {
                         updating = true;
                         final Set<E> dest = set1 == change.getSet() ? set2 : set1;
-                        if (change.wasRemoved()) {
-                            dest.remove(change.getElementRemoved());
-                        } else {
-                            dest.add(change.getElementAdded());
+                        while (change.next()) {
+                            if (change.wasRemoved()) {
+                                dest.remove(change.getElementRemoved());
+                            } else {
+                                dest.add(change.getElementAdded());
+                            }
                         }
                     } finally {
                         updating = false;
@@ -289,10 +291,12 @@ public class BidirectionalContentBinding {
                     try {
                         updating = true;
                         final Map<K, V> dest = (map1 == change.getMap()) ? map2 : map1;
-                        if (change.wasRemoved()) {
-                            dest.remove(change.getKey());
-                        } else {
-                            dest.put(change.getKey(), change.getValueAdded());
+                        while (change.next()) {
+                            if (change.wasRemoved()) {
+                                dest.remove(change.getKey());
+                            } else {
+                                dest.put(change.getKey(), change.getValueAdded());
+                            }
                         }
                     } finally {
                         updating = false;
@@ -0,0 +1,52 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
+import io.github.vinccool96.observations.beans.value.ObservableBooleanValue;
+
+/**
+ * Notifies the {@link BooleanChangeListener BooleanChangeListeners} of an {@link ObservableBooleanValue}. The current
+ * value is stored as a {@code boolean}, so firing a change never boxes it.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ */
+public final class BooleanChangeHelper extends PrimitiveChangeHelper<ObservableBooleanValue, BooleanChangeListener> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static BooleanChangeHelper addListener(BooleanChangeHelper helper, ObservableBooleanValue observable,
+            BooleanChangeListener listener) {
+        return PrimitiveChangeHelper.addListener(helper, observable, listener, BooleanChangeHelper::new);
+    }
+
+    public static BooleanChangeHelper removeListener(BooleanChangeHelper helper, BooleanChangeListener listener) {
+        return PrimitiveChangeHelper.removeListener(helper, listener);
+    }
+
+    public static boolean containsListener(BooleanChangeHelper helper, BooleanChangeListener listener) {
+        return PrimitiveChangeHelper.containsListener(helper, listener);
+    }
+
+    public static void fireValueChangedEvent(BooleanChangeHelper helper) {
+        PrimitiveChangeHelper.fireValueChangedEvent(helper);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private BooleanChangeHelper(ObservableBooleanValue observable, BooleanChangeListener listener) {
+        super(observable, listener);
+    }
+
+    @Override
+    protected long currentValue() {
+        return observable.get() ? 1L : 0L;
+    }
+
+    @Override
+    protected void notifyListener(BooleanChangeListener listener, long oldValue, long newValue) {
+        listener.changed(observable, oldValue != 0, newValue != 0);
+    }
+
+}
@@ -144,10 +144,12 @@ public class ContentBinding {
             if (set == null) {
                 change.getSet().removeListener(this);
             } else {
-                if (change.wasRemoved()) {
-                    set.remove(change.getElementRemoved());
-                } else {
-                    set.add(change.getElementAdded());
+                while (change.next()) {
+                    if (change.wasRemoved()) {
+                        set.remove(change.getElementRemoved());
+                    } else {
+                        set.add(change.getElementAdded());
+                    }
                 }
             }
         }
@@ -198,10 +200,12 @@ public class ContentBinding {
             if (map == null) {
                 change.getMap().removeListener(this);
             } else {
-                if (change.wasRemoved()) {
-                    map.remove(change.getKey());
-                } else {
-                    map.put(change.getKey(), change.getValueAdded());
+                while (change.next()) {
+                    if (change.wasRemoved()) {
+                        map.remove(change.getKey());
+                    } else {
+                        map.put(change.getKey(), change.getValueAdded());
+                    }
                 }
             }
         }
@@ -0,0 +1,52 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
+import io.github.vinccool96.observations.beans.value.ObservableDoubleValue;
+
+/**
+ * Notifies the {@link DoubleChangeListener DoubleChangeListeners} of an {@link ObservableDoubleValue}. The current
+ * value is stored as a {@code double}, so firing a change never boxes it.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ */
+public final class DoubleChangeHelper extends PrimitiveChangeHelper<ObservableDoubleValue, DoubleChangeListener> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static DoubleChangeHelper addListener(DoubleChangeHelper helper, ObservableDoubleValue observable,
+            DoubleChangeListener listener) {
+        return PrimitiveChangeHelper.addListener(helper, observable, listener, DoubleChangeHelper::new);
+    }
+
+    public static DoubleChangeHelper removeListener(DoubleChangeHelper helper, DoubleChangeListener listener) {
+        return PrimitiveChangeHelper.removeListener(helper, listener);
+    }
+
+    public static boolean containsListener(DoubleChangeHelper helper, DoubleChangeListener listener) {
+        return PrimitiveChangeHelper.containsListener(helper, listener);
+    }
+
+    public static void fireValueChangedEvent(DoubleChangeHelper helper) {
+        PrimitiveChangeHelper.fireValueChangedEvent(helper);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private DoubleChangeHelper(ObservableDoubleValue observable, DoubleChangeListener listener) {
+        super(observable, listener);
+    }
+
+    @Override
+    protected long currentValue() {
+        return Double.doubleToLongBits(observable.get());
+    }
+
+    @Override
+    protected void notifyListener(DoubleChangeListener listener, long oldValue, long newValue) {
+        listener.changed(observable, Double.longBitsToDouble(oldValue), Double.longBitsToDouble(newValue));
+    }
+
+}
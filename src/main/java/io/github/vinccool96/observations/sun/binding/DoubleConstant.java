@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.sun.binding;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableDoubleValue;
 
 /**
@@ -61,6 +62,22 @@ public final class DoubleConstant implements ObservableDoubleValue {
         return false;
     }
 
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        // no-op
+        return false;
+    }
+
     @Override
     public int intValue() {
         return (int) value;
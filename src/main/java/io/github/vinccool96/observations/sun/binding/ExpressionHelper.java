@@ -36,6 +36,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <T> boolean containsListener(ExpressionHelper<T> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <T> ExpressionHelper<T> addListener(ExpressionHelper<T> helper, ObservableValue<T> observable,
             ChangeListener<? super T> listener) {
         if ((observable == null) || (listener == null)) {
@@ -52,6 +56,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <T> boolean containsListener(ExpressionHelper<T> helper, ChangeListener<? super T> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
         if (helper != null) {
             helper.fireValueChangedEvent();
@@ -71,10 +79,14 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected abstract ExpressionHelper<T> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract ExpressionHelper<T> addListener(ChangeListener<? super T> listener);
 
     protected abstract ExpressionHelper<T> removeListener(ChangeListener<? super T> listener);
 
+    protected abstract boolean containsListener(ChangeListener<? super T> listener);
+
     protected abstract void fireValueChangedEvent();
 
     public abstract InvalidationListener[] getInvalidationListeners();
@@ -122,6 +134,16 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super T> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -180,6 +202,16 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super T> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -202,6 +234,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         private int changeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
         private boolean locked;
 
         private T currentValue;
@@ -241,13 +277,15 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -263,6 +301,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0)) {
                             return new SingleInvalidation<>(observable, invalidationListeners[1 - index]);
                         } else {
@@ -275,6 +314,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -298,13 +338,14 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             if (changeSize == 1) {
                 currentValue = observable.getValue();
@@ -323,6 +364,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0)) {
                             return new SingleChange<>(observable, changeListeners[1 - index]);
                         } else {
@@ -335,6 +377,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -385,6 +428,16 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super T> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
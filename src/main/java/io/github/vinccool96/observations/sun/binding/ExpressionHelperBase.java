@@ -5,10 +5,15 @@ import io.github.vinccool96.observations.beans.WeakListener;
 public class ExpressionHelperBase {
 
     protected static int trim(int size, Object[] listeners) {
+        return trim(size, listeners, null);
+    }
+
+    protected static int trim(int size, Object[] listeners, ListenerIndex listenerIndex) {
         for (int index = 0; index < size; index++) {
             final Object listener = listeners[index];
             if (listener instanceof WeakListener) {
                 if (((WeakListener) listener).wasGarbageCollected()) {
+                    ListenerIndex.removed(listenerIndex, listener);
                     final int numMoved = size - index - 1;
                     if (numMoved > 0) {
                         System.arraycopy(listeners, index + 1, listeners, index, numMoved);
@@ -0,0 +1,52 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
+import io.github.vinccool96.observations.beans.value.ObservableFloatValue;
+
+/**
+ * Notifies the {@link FloatChangeListener FloatChangeListeners} of an {@link ObservableFloatValue}. The current value
+ * is stored as a {@code float}, so firing a change never boxes it.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ */
+public final class FloatChangeHelper extends PrimitiveChangeHelper<ObservableFloatValue, FloatChangeListener> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static FloatChangeHelper addListener(FloatChangeHelper helper, ObservableFloatValue observable,
+            FloatChangeListener listener) {
+        return PrimitiveChangeHelper.addListener(helper, observable, listener, FloatChangeHelper::new);
+    }
+
+    public static FloatChangeHelper removeListener(FloatChangeHelper helper, FloatChangeListener listener) {
+        return PrimitiveChangeHelper.removeListener(helper, listener);
+    }
+
+    public static boolean containsListener(FloatChangeHelper helper, FloatChangeListener listener) {
+        return PrimitiveChangeHelper.containsListener(helper, listener);
+    }
+
+    public static void fireValueChangedEvent(FloatChangeHelper helper) {
+        PrimitiveChangeHelper.fireValueChangedEvent(helper);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private FloatChangeHelper(ObservableFloatValue observable, FloatChangeListener listener) {
+        super(observable, listener);
+    }
+
+    @Override
+    protected long currentValue() {
+        return Float.floatToIntBits(observable.get());
+    }
+
+    @Override
+    protected void notifyListener(FloatChangeListener listener, long oldValue, long newValue) {
+        listener.changed(observable, Float.intBitsToFloat((int) oldValue), Float.intBitsToFloat((int) newValue));
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.sun.binding;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableFloatValue;
 
 /**
@@ -61,6 +62,22 @@ public final class FloatConstant implements ObservableFloatValue {
         return false;
     }
 
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        // no-op
+        return false;
+    }
+
     @Override
     public int intValue() {
         return (int) value;
@@ -0,0 +1,52 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
+import io.github.vinccool96.observations.beans.value.ObservableIntegerValue;
+
+/**
+ * Notifies the {@link IntegerChangeListener IntegerChangeListeners} of an {@link ObservableIntegerValue}. The current
+ * value is stored as a {@code int}, so firing a change never boxes it.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ */
+public final class IntegerChangeHelper extends PrimitiveChangeHelper<ObservableIntegerValue, IntegerChangeListener> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static IntegerChangeHelper addListener(IntegerChangeHelper helper, ObservableIntegerValue observable,
+            IntegerChangeListener listener) {
+        return PrimitiveChangeHelper.addListener(helper, observable, listener, IntegerChangeHelper::new);
+    }
+
+    public static IntegerChangeHelper removeListener(IntegerChangeHelper helper, IntegerChangeListener listener) {
+        return PrimitiveChangeHelper.removeListener(helper, listener);
+    }
+
+    public static boolean containsListener(IntegerChangeHelper helper, IntegerChangeListener listener) {
+        return PrimitiveChangeHelper.containsListener(helper, listener);
+    }
+
+    public static void fireValueChangedEvent(IntegerChangeHelper helper) {
+        PrimitiveChangeHelper.fireValueChangedEvent(helper);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private IntegerChangeHelper(ObservableIntegerValue observable, IntegerChangeListener listener) {
+        super(observable, listener);
+    }
+
+    @Override
+    protected long currentValue() {
+        return observable.get();
+    }
+
+    @Override
+    protected void notifyListener(IntegerChangeListener listener, long oldValue, long newValue) {
+        listener.changed(observable, (int) oldValue, (int) newValue);
+    }
+
+}
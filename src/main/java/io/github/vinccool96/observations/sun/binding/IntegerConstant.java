@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.sun.binding;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableIntegerValue;
 
 /**
@@ -61,6 +62,22 @@ public final class IntegerConstant implements ObservableIntegerValue {
         return false;
     }
 
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+        // no-op
+        return false;
+    }
+
     @Override
     public int intValue() {
         return value;
@@ -46,6 +46,10 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(ListExpressionHelper<E> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> ListExpressionHelper<E> addListener(ListExpressionHelper<E> helper,
             ObservableListValue<E> observable, ChangeListener<? super ObservableList<E>> listener) {
         if ((observable == null) || (listener == null)) {
@@ -62,6 +66,11 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(ListExpressionHelper<E> helper,
+            ChangeListener<? super ObservableList<E>> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> ListExpressionHelper<E> addListener(ListExpressionHelper<E> helper,
             ObservableListValue<E> observable, ListChangeListener<? super E> listener) {
         if ((observable == null) || (listener == null)) {
@@ -78,6 +87,10 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(ListExpressionHelper<E> helper, ListChangeListener<? super E> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> void fireValueChangedEvent(ListExpressionHelper<E> helper) {
         if (helper != null) {
             helper.fireValueChangedEvent();
@@ -103,14 +116,20 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
     protected abstract ListExpressionHelper<E> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract ListExpressionHelper<E> addListener(ChangeListener<? super ObservableList<E>> listener);
 
     protected abstract ListExpressionHelper<E> removeListener(ChangeListener<? super ObservableList<E>> listener);
 
+    protected abstract boolean containsListener(ChangeListener<? super ObservableList<E>> listener);
+
     protected abstract ListExpressionHelper<E> addListener(ListChangeListener<? super E> listener);
 
     protected abstract ListExpressionHelper<E> removeListener(ListChangeListener<? super E> listener);
 
+    protected abstract boolean containsListener(ListChangeListener<? super E> listener);
+
     protected abstract void fireValueChangedEvent();
 
     protected abstract void fireValueChangedEvent(Change<? extends E> change);
@@ -173,6 +192,21 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
             listener.invalidated(observable);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableList<E>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -246,6 +280,21 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
             listener.changed(observable, currentValue, currentValue);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableList<E>> listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -324,6 +373,21 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
             listener.onChanged(new SourceAdapterChange<>(observable, change));
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableList<E>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -355,6 +419,12 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         private int listChangeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
+        private ListenerIndex listChangeIndex;
+
         private boolean locked;
 
         private ObservableList<E> currentValue;
@@ -423,13 +493,15 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -447,6 +519,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0) && (listChangeSize == 0)) {
                             return new SingleInvalidation<>(observable, invalidationListeners[1 - index]);
                         } else {
@@ -459,6 +532,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -482,13 +556,14 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             if (changeSize == 1) {
                 currentValue = observable.getValue();
@@ -509,6 +584,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0) && (listChangeSize == 0)) {
                             return new SingleChange<>(observable, changeListeners[1 - index]);
                         } else {
@@ -521,6 +597,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -544,13 +621,14 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (listChangeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     listChangeListeners = Arrays.copyOf(listChangeListeners, newCapacity);
                 } else if (listChangeSize == oldCapacity) {
-                    listChangeSize = trim(listChangeSize, listChangeListeners);
+                    listChangeSize = trim(listChangeSize, listChangeListeners, listChangeIndex);
                     if (listChangeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         listChangeListeners = Arrays.copyOf(listChangeListeners, newCapacity);
                     }
                 }
                 listChangeListeners[listChangeSize++] = listener;
+                listChangeIndex = ListenerIndex.added(listChangeIndex, listChangeListeners, listChangeSize, listener);
             }
             if (listChangeSize == 1) {
                 currentValue = observable.getValue();
@@ -571,6 +649,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             listChangeListeners = null;
                             listChangeSize = 0;
+                            listChangeIndex = null;
                         } else if ((listChangeSize == 2) && (invalidationSize == 0) && (changeSize == 0)) {
                             return new SingleListChange<>(observable, listChangeListeners[1 - index]);
                         } else {
@@ -583,6 +662,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, listChangeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(listChangeIndex, listener);
                             listChangeSize--;
                             if (!locked) {
                                 listChangeListeners[listChangeSize] = null; // Let gc do its work
@@ -624,6 +704,21 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
             notifyListeners(currentValue, mappedChange, false);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableList<E>> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return ListenerIndex.contains(listChangeIndex, listChangeListeners, listChangeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
@@ -0,0 +1,105 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import java.util.HashMap;
+
+/**
+ * A hash index over the listeners of one kind held by a listener helper. It lets the helpers answer whether a listener
+ * was already added without copying or scanning their listener arrays.
+ * <p>
+ * Listeners are matched with {@link Object#equals(Object)}, exactly like the linear search it replaces. Since a
+ * listener can be added more than once, the index counts the occurrences of every listener.
+ * <p>
+ * An index is only created once a helper holds {@link #THRESHOLD} listeners of one kind. Below that, scanning the
+ * array is cheaper than maintaining the index.
+ */
+public final class ListenerIndex {
+
+    /**
+     * The number of listeners from which an index is created.
+     */
+    public static final int THRESHOLD = 16;
+
+    private final HashMap<Object, Integer> counts;
+
+    private ListenerIndex(Object[] listeners, int size) {
+        this.counts = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            add(listeners[i]);
+        }
+    }
+
+    /**
+     * Updates an index after a listener has been appended to {@code listeners}.
+     *
+     * @param index
+     *         the current index, can be {@code null}
+     * @param listeners
+     *         the listeners, including the new one
+     * @param size
+     *         the number of listeners, including the new one
+     * @param listener
+     *         the new listener
+     *
+     * @return the updated index, or {@code null} if there are not enough listeners to need one
+     */
+    public static ListenerIndex added(ListenerIndex index, Object[] listeners, int size, Object listener) {
+        if (index != null) {
+            index.add(listener);
+            return index;
+        }
+        return (size >= THRESHOLD) ? new ListenerIndex(listeners, size) : null;
+    }
+
+    /**
+     * Updates an index after a listener has been removed.
+     *
+     * @param index
+     *         the current index, can be {@code null}
+     * @param listener
+     *         the removed listener
+     */
+    public static void removed(ListenerIndex index, Object listener) {
+        if (index != null) {
+            index.remove(listener);
+        }
+    }
+
+    /**
+     * Checks if a listener is contained in the first {@code size} elements of {@code listeners}, using the index if
+     * there is one.
+     *
+     * @param index
+     *         the index of {@code listeners}, can be {@code null}
+     * @param listeners
+     *         the listeners, can be {@code null} if {@code size} is {@code 0}
+     * @param size
+     *         the number of listeners
+     * @param listener
+     *         the listener to look for
+     *
+     * @return {@code true} if the listener is contained, {@code false} otherwise
+     */
+    public static boolean contains(ListenerIndex index, Object[] listeners, int size, Object listener) {
+        if (index != null) {
+            if (listener == null) {
+                throw new NullPointerException();
+            }
+            return index.counts.containsKey(listener);
+        }
+        for (int i = 0; i < size; i++) {
+            if (listener.equals(listeners[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(Object listener) {
+        counts.merge(listener, 1, Integer::sum);
+    }
+
+    private void remove(Object listener) {
+        counts.computeIfPresent(listener, (key, count) -> (count == 1) ? null : count - 1);
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
+import io.github.vinccool96.observations.beans.value.ObservableLongValue;
+
+/**
+ * Notifies the {@link LongChangeListener LongChangeListeners} of an {@link ObservableLongValue}. The current value is
+ * stored as a {@code long}, so firing a change never boxes it.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ */
+public final class LongChangeHelper extends PrimitiveChangeHelper<ObservableLongValue, LongChangeListener> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static LongChangeHelper addListener(LongChangeHelper helper, ObservableLongValue observable,
+            LongChangeListener listener) {
+        return PrimitiveChangeHelper.addListener(helper, observable, listener, LongChangeHelper::new);
+    }
+
+    public static LongChangeHelper removeListener(LongChangeHelper helper, LongChangeListener listener) {
+        return PrimitiveChangeHelper.removeListener(helper, listener);
+    }
+
+    public static boolean containsListener(LongChangeHelper helper, LongChangeListener listener) {
+        return PrimitiveChangeHelper.containsListener(helper, listener);
+    }
+
+    public static void fireValueChangedEvent(LongChangeHelper helper) {
+        PrimitiveChangeHelper.fireValueChangedEvent(helper);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private LongChangeHelper(ObservableLongValue observable, LongChangeListener listener) {
+        super(observable, listener);
+    }
+
+    @Override
+    protected long currentValue() {
+        return observable.get();
+    }
+
+    @Override
+    protected void notifyListener(LongChangeListener listener, long oldValue, long newValue) {
+        listener.changed(observable, oldValue, newValue);
+    }
+
+}
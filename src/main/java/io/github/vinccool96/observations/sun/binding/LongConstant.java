@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.sun.binding;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableLongValue;
 
 /**
@@ -61,6 +62,22 @@ public final class LongConstant implements ObservableLongValue {
         return false;
     }
 
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        // no-op
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        // no-op
+        return false;
+    }
+
     @Override
     public int intValue() {
         return (int) value;
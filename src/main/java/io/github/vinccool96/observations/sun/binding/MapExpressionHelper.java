@@ -45,6 +45,10 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <K, V> boolean containsListener(MapExpressionHelper<K, V> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <K, V> MapExpressionHelper<K, V> addListener(MapExpressionHelper<K, V> helper,
             ObservableMapValue<K, V> observable, ChangeListener<? super ObservableMap<K, V>> listener) {
         if ((observable == null) || (listener == null)) {
@@ -61,6 +65,11 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <K, V> boolean containsListener(MapExpressionHelper<K, V> helper,
+            ChangeListener<? super ObservableMap<K, V>> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <K, V> MapExpressionHelper<K, V> addListener(MapExpressionHelper<K, V> helper,
             ObservableMapValue<K, V> observable, MapChangeListener<? super K, ? super V> listener) {
         if ((observable == null) || (listener == null)) {
@@ -77,6 +86,11 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <K, V> boolean containsListener(MapExpressionHelper<K, V> helper,
+            MapChangeListener<? super K, ? super V> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <K, V> void fireValueChangedEvent(MapExpressionHelper<K, V> helper) {
         if (helper != null) {
             helper.fireValueChangedEvent();
@@ -103,14 +117,20 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
     protected abstract MapExpressionHelper<K, V> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract MapExpressionHelper<K, V> addListener(ChangeListener<? super ObservableMap<K, V>> listener);
 
     protected abstract MapExpressionHelper<K, V> removeListener(ChangeListener<? super ObservableMap<K, V>> listener);
 
+    protected abstract boolean containsListener(ChangeListener<? super ObservableMap<K, V>> listener);
+
     protected abstract MapExpressionHelper<K, V> addListener(MapChangeListener<? super K, ? super V> listener);
 
     protected abstract MapExpressionHelper<K, V> removeListener(MapChangeListener<? super K, ? super V> listener);
 
+    protected abstract boolean containsListener(MapChangeListener<? super K, ? super V> listener);
+
     protected abstract void fireValueChangedEvent();
 
     protected abstract void fireValueChangedEvent(Change<? extends K, ? extends V> change);
@@ -173,6 +193,21 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             listener.invalidated(observable);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -247,6 +282,21 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             listener.changed(observable, currentValue, currentValue);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -348,6 +398,21 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             listener.onChanged(new SimpleChange<>(observable, change));
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -379,6 +444,12 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         private int mapChangeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
+        private ListenerIndex mapChangeIndex;
+
         private boolean locked;
 
         private ObservableMap<K, V> currentValue;
@@ -447,13 +518,15 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -471,6 +544,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
@@ -481,6 +555,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[--invalidationSize] = null; // Let gc do its work
@@ -504,13 +579,14 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             if (changeSize == 1) {
                 currentValue = observable.getValue();
@@ -531,6 +607,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super ObservableMap<K, V>>[] oldListeners = changeListeners;
@@ -541,6 +618,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[--changeSize] = null; // Let gc do its work
@@ -564,13 +642,14 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     final int newCapacity = (mapChangeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     mapChangeListeners = Arrays.copyOf(mapChangeListeners, newCapacity);
                 } else if (mapChangeSize == oldCapacity) {
-                    mapChangeSize = trim(mapChangeSize, mapChangeListeners);
+                    mapChangeSize = trim(mapChangeSize, mapChangeListeners, mapChangeIndex);
                     if (mapChangeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         mapChangeListeners = Arrays.copyOf(mapChangeListeners, newCapacity);
                     }
                 }
                 mapChangeListeners[mapChangeSize++] = listener;
+                mapChangeIndex = ListenerIndex.added(mapChangeIndex, mapChangeListeners, mapChangeSize, listener);
             }
             if (mapChangeSize == 1) {
                 currentValue = observable.getValue();
@@ -591,6 +670,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             }
                             mapChangeListeners = null;
                             mapChangeSize = 0;
+                            mapChangeIndex = null;
                         } else {
                             final int numMoved = mapChangeSize - index - 1;
                             final MapChangeListener<? super K, ? super V>[] oldListeners = mapChangeListeners;
@@ -601,6 +681,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, mapChangeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(mapChangeIndex, listener);
                             mapChangeSize--;
                             if (!locked) {
                                 mapChangeListeners[--mapChangeSize] = null; // Let gc do its work
@@ -630,6 +711,21 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             notifyListeners(currentValue, mappedChange);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return ListenerIndex.contains(mapChangeIndex, mapChangeListeners, mapChangeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
@@ -664,6 +760,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     if (curMapChangeSize > 0) {
                         if (change != null) {
                             for (int i = 0; i < curMapChangeSize; i++) {
+                                change.reset();
                                 curMapChangeList[i].onChanged(change);
                             }
                         } else {
@@ -672,6 +769,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                 for (final Map.Entry<K, V> element : oldValue.entrySet()) {
                                     change.setRemoved(element.getKey(), element.getValue());
                                     for (int i = 0; i < curMapChangeSize; i++) {
+                                        change.reset();
                                         curMapChangeList[i].onChanged(change);
                                     }
                                 }
@@ -679,6 +777,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                 for (final Map.Entry<K, V> element : currentValue.entrySet()) {
                                     change.setAdded(element.getKey(), element.getValue());
                                     for (int i = 0; i < curMapChangeSize; i++) {
+                                        change.reset();
                                         curMapChangeList[i].onChanged(change);
                                     }
                                 }
@@ -691,12 +790,14 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                         if (oldEntry == null ? newEntry != null : !newEntry.equals(oldEntry)) {
                                             change.setPut(key, oldEntry, newEntry);
                                             for (int i = 0; i < curMapChangeSize; i++) {
+                                                change.reset();
                                                 curMapChangeList[i].onChanged(change);
                                             }
                                         }
                                     } else {
                                         change.setRemoved(key, oldEntry);
                                         for (int i = 0; i < curMapChangeSize; i++) {
+                                            change.reset();
                                             curMapChangeList[i].onChanged(change);
                                         }
                                     }
@@ -706,6 +807,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                     if (!oldValue.containsKey(key)) {
                                         change.setAdded(key, element.getValue());
                                         for (int i = 0; i < curMapChangeSize; i++) {
+                                            change.reset();
                                             curMapChangeList[i].onChanged(change);
                                         }
                                     }
@@ -733,12 +835,20 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         private boolean addOp;
 
+        private Change<? extends K, ? extends V> source;
+
         public SimpleChange(ObservableMap<K, V> set) {
             super(set);
         }
 
         public SimpleChange(ObservableMap<K, V> set, Change<? extends K, ? extends V> source) {
             super(set);
+            this.source = source;
+            source.reset();
+            copySource();
+        }
+
+        private void copySource() {
             key = source.getKey();
             old = source.getValueRemoved();
             added = source.getValueAdded();
@@ -746,7 +856,30 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             removeOp = source.wasRemoved();
         }
 
+        @Override
+        public boolean next() {
+            if (source == null) {
+                return super.next();
+            }
+            if (source.next()) {
+                copySource();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            if (source == null) {
+                super.reset();
+            } else {
+                source.reset();
+                copySource();
+            }
+        }
+
         public SimpleChange<K, V> setRemoved(K key, V old) {
+            reset();
             this.key = key;
             this.old = old;
             this.added = null;
@@ -756,6 +889,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         }
 
         public SimpleChange<K, V> setAdded(K key, V added) {
+            reset();
             this.key = key;
             this.old = null;
             this.added = added;
@@ -765,6 +899,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         }
 
         public SimpleChange<K, V> setPut(K key, V old, V added) {
+            reset();
             this.key = key;
             this.old = old;
             this.added = added;
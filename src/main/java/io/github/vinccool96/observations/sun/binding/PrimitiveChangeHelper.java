@@ -0,0 +1,181 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+
+/**
+ * Base class of the helpers that notify the primitive change listeners of an observable primitive value, for example
+ * {@link io.github.vinccool96.observations.beans.value.DoubleChangeListener}. The current value is kept unboxed, as the
+ * bits of a {@code long} that the concrete helper reads from the observable, so that notifying these listeners never
+ * allocates. Two values are equal if their bits are equal, so the concrete helpers give the bits of a floating point
+ * value like {@link Double#compare(double, double)} compares it.
+ * <p>
+ * A helper only exists while it has at least one listener, so the static methods of the concrete helpers return
+ * {@code null} once the last listener is removed.
+ * <p>
+ * This implementation can handle adding and removing listeners while the observers are being notified, but it is not
+ * thread-safe.
+ *
+ * @param <O>
+ *         the type of the observable
+ * @param <L>
+ *         the type of the listeners
+ */
+public abstract class PrimitiveChangeHelper<O, L> extends ExpressionHelperBase {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods, which the concrete helpers expose with their own types
+
+    protected static <O, L, H extends PrimitiveChangeHelper<O, L>> H addListener(H helper, O observable, L listener,
+            BiFunction<O, L, H> constructor) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper == null) {
+            return constructor.apply(observable, listener);
+        }
+        helper.add(listener);
+        return helper;
+    }
+
+    protected static <L, H extends PrimitiveChangeHelper<?, L>> H removeListener(H helper, L listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return ((helper == null) || !helper.remove(listener)) ? null : helper;
+    }
+
+    protected static <L> boolean containsListener(PrimitiveChangeHelper<?, L> helper, L listener) {
+        return (helper != null) && helper.contains(listener);
+    }
+
+    protected static void fireValueChangedEvent(PrimitiveChangeHelper<?, ?> helper) {
+        if (helper != null) {
+            helper.fireValueChangedEvent();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    protected final O observable;
+
+    private long currentValue;
+
+    private Object[] listeners;
+
+    private int size;
+
+    private ListenerIndex index;
+
+    private boolean locked;
+
+    protected PrimitiveChangeHelper(O observable, L listener) {
+        this.observable = observable;
+        this.listeners = new Object[]{listener};
+        this.size = 1;
+        this.currentValue = currentValue();
+    }
+
+    /**
+     * Reads the value of the observable.
+     *
+     * @return the bits of the value
+     */
+    protected abstract long currentValue();
+
+    protected final void add(L listener) {
+        final int oldCapacity = listeners.length;
+        if (locked) {
+            final int newCapacity = (size < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
+            listeners = Arrays.copyOf(listeners, newCapacity);
+        } else if (size == oldCapacity) {
+            size = trim(size, listeners, index);
+            if (size == oldCapacity) {
+                final int newCapacity = (oldCapacity * 3) / 2 + 1;
+                listeners = Arrays.copyOf(listeners, newCapacity);
+            }
+        }
+        listeners[size++] = listener;
+        index = ListenerIndex.added(index, listeners, size, listener);
+    }
+
+    /**
+     * Removes the first occurrence of a listener.
+     *
+     * @param listener
+     *         the listener to remove
+     *
+     * @return {@code true} if listeners remain, {@code false} if this helper became empty
+     */
+    protected final boolean remove(L listener) {
+        for (int i = 0; i < size; i++) {
+            if (listener.equals(listeners[i])) {
+                final int numMoved = size - i - 1;
+                final Object[] oldListeners = listeners;
+                if (locked) {
+                    listeners = new Object[listeners.length];
+                    System.arraycopy(oldListeners, 0, listeners, 0, i);
+                }
+                if (numMoved > 0) {
+                    System.arraycopy(oldListeners, i + 1, listeners, i, numMoved);
+                }
+                ListenerIndex.removed(index, listener);
+                size--;
+                if (!locked) {
+                    listeners[size] = null; // Let gc do its work
+                }
+                break;
+            }
+        }
+        return size > 0;
+    }
+
+    protected final boolean contains(L listener) {
+        return ListenerIndex.contains(index, listeners, size, listener);
+    }
+
+    /**
+     * Reads the value of the observable, and notifies all listeners if it changed, which is delegated to {@link
+     * #notifyListener(Object, long, long)} for each of them. A listener may change the value again, which fires a
+     * nested event with its own values. Exceptions thrown by the listeners are passed to the uncaught exception handler
+     * of the current thread.
+     */
+    @SuppressWarnings("unchecked")
+    private void fireValueChangedEvent() {
+        final long oldValue = currentValue;
+        final long newValue = currentValue();
+        currentValue = newValue;
+        if (oldValue == newValue) {
+            return;
+        }
+        final Object[] curListeners = listeners;
+        final int curSize = size;
+        final boolean wasLocked = locked;
+        try {
+            locked = true;
+            for (int i = 0; i < curSize; i++) {
+                try {
+                    notifyListener((L) curListeners[i], oldValue, newValue);
+                } catch (Exception e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+            }
+        } finally {
+            locked = wasLocked;
+        }
+    }
+
+    /**
+     * Notifies a single listener of a change.
+     *
+     * @param listener
+     *         the listener
+     * @param oldValue
+     *         the bits of the old value
+     * @param newValue
+     *         the bits of the new value
+     */
+    protected abstract void notifyListener(L listener, long oldValue, long newValue);
+
+}
@@ -36,6 +36,10 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(SetExpressionHelper<E> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> SetExpressionHelper<E> addListener(SetExpressionHelper<E> helper,
             ObservableSetValue<E> observable, ChangeListener<? super ObservableSet<E>> listener) {
         if ((observable == null) || (listener == null)) {
@@ -52,6 +56,11 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(SetExpressionHelper<E> helper,
+            ChangeListener<? super ObservableSet<E>> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> SetExpressionHelper<E> addListener(SetExpressionHelper<E> helper,
             ObservableSetValue<E> observable, SetChangeListener<? super E> listener) {
         if ((observable == null) || (listener == null)) {
@@ -68,6 +77,10 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(SetExpressionHelper<E> helper, SetChangeListener<? super E> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> void fireValueChangedEvent(SetExpressionHelper<E> helper) {
         if (helper != null) {
             helper.fireValueChangedEvent();
@@ -93,14 +106,20 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
     protected abstract SetExpressionHelper<E> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract SetExpressionHelper<E> addListener(ChangeListener<? super ObservableSet<E>> listener);
 
     protected abstract SetExpressionHelper<E> removeListener(ChangeListener<? super ObservableSet<E>> listener);
 
+    protected abstract boolean containsListener(ChangeListener<? super ObservableSet<E>> listener);
+
     protected abstract SetExpressionHelper<E> addListener(SetChangeListener<? super E> listener);
 
     protected abstract SetExpressionHelper<E> removeListener(SetChangeListener<? super E> listener);
 
+    protected abstract boolean containsListener(SetChangeListener<? super E> listener);
+
     protected abstract void fireValueChangedEvent();
 
     protected abstract void fireValueChangedEvent(Change<? extends E> change);
@@ -163,6 +182,21 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
             listener.invalidated(observable);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableSet<E>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -236,6 +270,21 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
             listener.changed(observable, currentValue, currentValue);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableSet<E>> listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -329,6 +378,21 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
             listener.onChanged(new SimpleChange<>(observable, change));
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableSet<E>> listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -360,6 +424,12 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         private int setChangeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
+        private ListenerIndex setChangeIndex;
+
         private boolean locked;
 
         private ObservableSet<E> currentValue;
@@ -428,13 +498,15 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -452,6 +524,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
@@ -462,6 +535,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[--invalidationSize] = null; // Let gc do its work
@@ -485,13 +559,14 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             if (changeSize == 1) {
                 currentValue = observable.getValue();
@@ -512,6 +587,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super ObservableSet<E>>[] oldListeners = changeListeners;
@@ -522,6 +598,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -545,13 +622,14 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (setChangeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     setChangeListeners = Arrays.copyOf(setChangeListeners, newCapacity);
                 } else if (setChangeSize == oldCapacity) {
-                    setChangeSize = trim(setChangeSize, setChangeListeners);
+                    setChangeSize = trim(setChangeSize, setChangeListeners, setChangeIndex);
                     if (setChangeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         setChangeListeners = Arrays.copyOf(setChangeListeners, newCapacity);
                     }
                 }
                 setChangeListeners[setChangeSize++] = listener;
+                setChangeIndex = ListenerIndex.added(setChangeIndex, setChangeListeners, setChangeSize, listener);
             }
             if (setChangeSize == 1) {
                 currentValue = observable.getValue();
@@ -572,6 +650,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             }
                             setChangeListeners = null;
                             setChangeSize = 0;
+                            setChangeIndex = null;
                         } else {
                             final int numMoved = setChangeSize - index - 1;
                             final SetChangeListener<? super E>[] oldListeners = setChangeListeners;
@@ -582,6 +661,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, setChangeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(setChangeIndex, listener);
                             setChangeSize--;
                             if (!locked) {
                                 setChangeListeners[setChangeSize] = null; // Let gc do its work
@@ -611,6 +691,21 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
             notifyListeners(currentValue, mappedChange);
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ChangeListener<? super ObservableSet<E>> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return ListenerIndex.contains(setChangeIndex, setChangeListeners, setChangeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
@@ -645,6 +740,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     if (curSetChangeSize > 0) {
                         if (change != null) {
                             for (int i = 0; i < curSetChangeSize; i++) {
+                                change.reset();
                                 curSetChangeList[i].onChanged(change);
                             }
                         } else {
@@ -653,6 +749,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                 for (final E element : oldValue) {
                                     change.setRemoved(element);
                                     for (int i = 0; i < curSetChangeSize; i++) {
+                                        change.reset();
                                         curSetChangeList[i].onChanged(change);
                                     }
                                 }
@@ -660,6 +757,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                 for (final E element : currentValue) {
                                     change.setAdded(element);
                                     for (int i = 0; i < curSetChangeSize; i++) {
+                                        change.reset();
                                         curSetChangeList[i].onChanged(change);
                                     }
                                 }
@@ -668,6 +766,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                     if (!currentValue.contains(element)) {
                                         change.setRemoved(element);
                                         for (int i = 0; i < curSetChangeSize; i++) {
+                                            change.reset();
                                             curSetChangeList[i].onChanged(change);
                                         }
                                     }
@@ -676,6 +775,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                     if (!oldValue.contains(element)) {
                                         change.setAdded(element);
                                         for (int i = 0; i < curSetChangeSize; i++) {
+                                            change.reset();
                                             curSetChangeList[i].onChanged(change);
                                         }
                                     }
@@ -700,18 +800,49 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         private boolean addOp;
 
+        private Change<? extends E> source;
+
         public SimpleChange(ObservableSet<E> set) {
             super(set);
         }
 
         public SimpleChange(ObservableSet<E> set, Change<? extends E> source) {
             super(set);
+            this.source = source;
+            source.reset();
+            copySource();
+        }
+
+        private void copySource() {
             old = source.getElementRemoved();
             added = source.getElementAdded();
             addOp = source.wasAdded();
         }
 
+        @Override
+        public boolean next() {
+            if (source == null) {
+                return super.next();
+            }
+            if (source.next()) {
+                copySource();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            if (source == null) {
+                super.reset();
+            } else {
+                source.reset();
+                copySource();
+            }
+        }
+
         public SimpleChange<E> setRemoved(E old) {
+            reset();
             this.old = old;
             this.added = null;
             addOp = false;
@@ -719,6 +850,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         }
 
         public SimpleChange<E> setAdded(E added) {
+            reset();
             this.old = null;
             this.added = added;
             addOp = true;
@@ -4,6 +4,7 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.ArrayChangeListener;
 import io.github.vinccool96.observations.collections.ObservableArray;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelperBase;
+import io.github.vinccool96.observations.sun.binding.ListenerIndex;
 import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.Arrays;
@@ -33,6 +34,11 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <T extends ObservableArray<T>> boolean containsListener(ArrayListenerHelper<T> helper,
+            InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <T extends ObservableArray<T>> ArrayListenerHelper<T> addListener(ArrayListenerHelper<T> helper,
             T observable, ArrayChangeListener<T> listener) {
         if (listener == null) {
@@ -49,6 +55,11 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <T extends ObservableArray<T>> boolean containsListener(ArrayListenerHelper<T> helper,
+            ArrayChangeListener<T> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <T extends ObservableArray<T>> void fireValueChangedEvent(ArrayListenerHelper<T> helper,
             boolean sizeChanged, int from, int to) {
         if (helper != null && (from < to || sizeChanged)) {
@@ -73,10 +84,14 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
     protected abstract ArrayListenerHelper<T> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener);
 
     protected abstract ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener);
 
+    protected abstract boolean containsListener(ArrayChangeListener<T> listener);
+
     protected abstract void fireValueChangedEvent(boolean sizeChanged, int from, int to);
 
     public abstract InvalidationListener[] getInvalidationListeners();
@@ -124,6 +139,16 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ArrayChangeListener<T> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -174,6 +199,16 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ArrayChangeListener<T> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -196,6 +231,10 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
         private int changeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
         private boolean locked;
 
         private Generic(T observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -230,13 +269,15 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -252,6 +293,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0)) {
                             return new SingleInvalidation<>(observable, invalidationListeners[1 - index]);
                         } else {
@@ -264,6 +306,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -287,13 +330,14 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             return this;
         }
@@ -309,6 +353,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0)) {
                             return new SingleChange<>(observable, changeListeners[1 - index]);
                         } else {
@@ -321,6 +366,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -363,6 +409,16 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ArrayChangeListener<T> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
@@ -0,0 +1,307 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import java.util.Arrays;
+
+/**
+ * A list of {@code int} indexes, stored in chunks of bounded size. Inserting or removing an index only moves the
+ * indexes of one chunk, and adding a value to all the indexes after a position only touches one chunk and the offset
+ * of each following chunk. The position of an index is found with a binary search over the chunks.
+ * <p>
+ * Used by the transformation lists that keep a sorted array of source indexes, so that a change near the head of a
+ * large source does not rewrite every following index.
+ */
+public final class ChunkedIndexList {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private int[][] chunks = new int[4][];
+
+    // number of indexes in each chunk
+    private int[] sizes = new int[4];
+
+    // position of the first index of each chunk
+    private int[] starts = new int[4];
+
+    // value added to every index stored in each chunk
+    private int[] offsets = new int[4];
+
+    private int chunkCount;
+
+    private int size;
+
+    // chunk of the last access, sequential accesses don't have to search
+    private int lastChunk;
+
+    public ChunkedIndexList() {
+    }
+
+    public ChunkedIndexList(int[] indexes, int length) {
+        setAll(indexes, length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int index) {
+        final int c = chunkOf(index);
+        return chunks[c][index - starts[c]] + offsets[c];
+    }
+
+    public void set(int index, int value) {
+        final int c = chunkOf(index);
+        chunks[c][index - starts[c]] = value - offsets[c];
+    }
+
+    /**
+     * Inserts {@code value} at {@code index}.
+     *
+     * @param index
+     *         the position of the new value
+     * @param value
+     *         the value
+     */
+    public void add(int index, int value) {
+        if (chunkCount == 0) {
+            insertChunk(0, new int[8], 0, 0);
+        }
+        int c = index == size ? chunkCount - 1 : chunkOf(index);
+        if (sizes[c] == chunks[c].length) {
+            if (sizes[c] < CHUNK_SIZE) {
+                chunks[c] = Arrays.copyOf(chunks[c], Math.min(CHUNK_SIZE, sizes[c] * 2));
+            } else {
+                split(c);
+                if (index - starts[c] > sizes[c]) {
+                    c++;
+                }
+            }
+        }
+        final int pos = index - starts[c];
+        final int[] chunk = chunks[c];
+        System.arraycopy(chunk, pos, chunk, pos + 1, sizes[c] - pos);
+        chunk[pos] = value - offsets[c];
+        sizes[c]++;
+        for (int i = c + 1; i < chunkCount; i++) {
+            starts[i]++;
+        }
+        size++;
+        lastChunk = c;
+    }
+
+    public void remove(int index) {
+        removeRange(index, index + 1);
+    }
+
+    /**
+     * Removes the indexes from {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @param from
+     *         the position of the first index to remove
+     * @param to
+     *         the position after the last index to remove
+     */
+    public void removeRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        final int first = chunkOf(from);
+        int c = first;
+        int pos = from - starts[c];
+        int removed = 0;
+        while (removed < to - from) {
+            final int count = Math.min(sizes[c] - pos, to - from - removed);
+            System.arraycopy(chunks[c], pos + count, chunks[c], pos, sizes[c] - pos - count);
+            sizes[c] -= count;
+            starts[c] -= removed;
+            removed += count;
+            pos = 0;
+            c++;
+        }
+        for (; c < chunkCount; c++) {
+            starts[c] -= removed;
+        }
+        size -= removed;
+
+        // drop the emptied chunks, and merge the first chunk with the next one if they are small enough
+        int empty = first;
+        while (empty < chunkCount) {
+            if (sizes[empty] == 0) {
+                removeChunk(empty);
+            } else if (empty > first) {
+                break;
+            } else {
+                empty++;
+            }
+        }
+        if (first < chunkCount - 1 && sizes[first] + sizes[first + 1] <= CHUNK_SIZE / 2) {
+            merge(first);
+        } else if (first > 0 && first < chunkCount && sizes[first - 1] + sizes[first] <= CHUNK_SIZE / 2) {
+            merge(first - 1);
+        }
+        lastChunk = 0;
+    }
+
+    /**
+     * Adds {@code delta} to every index from the position {@code from} to the end of the list.
+     *
+     * @param from
+     *         the position of the first index to change
+     * @param delta
+     *         the value to add
+     */
+    public void addToAll(int from, int delta) {
+        if (from >= size || delta == 0) {
+            return;
+        }
+        final int c = chunkOf(from);
+        final int[] chunk = chunks[c];
+        for (int i = from - starts[c], s = sizes[c]; i < s; i++) {
+            chunk[i] += delta;
+        }
+        for (int i = c + 1; i < chunkCount; i++) {
+            offsets[i] += delta;
+        }
+    }
+
+    /**
+     * Searches {@code value} in the list, which has to be sorted in ascending order.
+     *
+     * @param value
+     *         the value to search
+     *
+     * @return the position of {@code value}, or {@code ~insertionPoint} if the list does not contain it
+     *
+     * @see Arrays#binarySearch(int[], int)
+     */
+    public int binarySearch(int value) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (chunks[mid][0] + offsets[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return ~0;
+        }
+        final int pos = Arrays.binarySearch(chunks[high], 0, sizes[high], value - offsets[high]);
+        return pos >= 0 ? starts[high] + pos : ~(starts[high] + ~pos);
+    }
+
+    /**
+     * Replaces the content of the list with the first {@code length} values of {@code indexes}.
+     *
+     * @param indexes
+     *         the new values
+     * @param length
+     *         the number of values to use
+     */
+    public void setAll(int[] indexes, int length) {
+        final int count = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new int[Math.max(4, count)][];
+        sizes = new int[chunks.length];
+        starts = new int[chunks.length];
+        offsets = new int[chunks.length];
+        for (int c = 0; c < count; c++) {
+            final int start = c * CHUNK_SIZE;
+            final int chunkSize = Math.min(CHUNK_SIZE, length - start);
+            chunks[c] = Arrays.copyOfRange(indexes, start, start + chunkSize);
+            sizes[c] = chunkSize;
+            starts[c] = start;
+        }
+        chunkCount = count;
+        size = length;
+        lastChunk = 0;
+    }
+
+    public int[] toArray() {
+        final int[] result = new int[size];
+        for (int c = 0; c < chunkCount; c++) {
+            final int[] chunk = chunks[c];
+            final int offset = offsets[c];
+            for (int i = 0, s = sizes[c], start = starts[c]; i < s; i++) {
+                result[start + i] = chunk[i] + offset;
+            }
+        }
+        return result;
+    }
+
+    private int chunkOf(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int c = lastChunk;
+        if (c < chunkCount && index >= starts[c] && index < starts[c] + sizes[c]) {
+            return c;
+        }
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        lastChunk = low;
+        return low;
+    }
+
+    private void split(int c) {
+        final int half = sizes[c] / 2;
+        final int[] second = new int[CHUNK_SIZE];
+        System.arraycopy(chunks[c], half, second, 0, sizes[c] - half);
+        insertChunk(c + 1, second, sizes[c] - half, offsets[c]);
+        starts[c + 1] = starts[c] + half;
+        sizes[c] = half;
+    }
+
+    private void merge(int c) {
+        if (chunks[c].length < sizes[c] + sizes[c + 1]) {
+            chunks[c] = Arrays.copyOf(chunks[c], CHUNK_SIZE);
+        }
+        final int[] chunk = chunks[c];
+        final int[] next = chunks[c + 1];
+        final int diff = offsets[c + 1] - offsets[c];
+        for (int i = 0, s = sizes[c + 1], base = sizes[c]; i < s; i++) {
+            chunk[base + i] = next[i] + diff;
+        }
+        sizes[c] += sizes[c + 1];
+        removeChunk(c + 1);
+    }
+
+    private void insertChunk(int c, int[] chunk, int chunkSize, int offset) {
+        if (chunkCount == chunks.length) {
+            final int capacity = chunkCount * 2;
+            chunks = Arrays.copyOf(chunks, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        final int moved = chunkCount - c;
+        System.arraycopy(chunks, c, chunks, c + 1, moved);
+        System.arraycopy(sizes, c, sizes, c + 1, moved);
+        System.arraycopy(starts, c, starts, c + 1, moved);
+        System.arraycopy(offsets, c, offsets, c + 1, moved);
+        chunks[c] = chunk;
+        sizes[c] = chunkSize;
+        starts[c] = c == 0 ? 0 : starts[c - 1] + sizes[c - 1];
+        offsets[c] = offset;
+        chunkCount++;
+    }
+
+    private void removeChunk(int c) {
+        final int moved = chunkCount - c - 1;
+        System.arraycopy(chunks, c + 1, chunks, c, moved);
+        System.arraycopy(sizes, c + 1, sizes, c, moved);
+        System.arraycopy(starts, c + 1, starts, c, moved);
+        System.arraycopy(offsets, c + 1, offsets, c, moved);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+}
@@ -0,0 +1,322 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ModifiableObservableListBase;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A copy-on-write observable list. Every mutation copies the elements to a new array and publishes it, so reads and
+ * iteration work on an immutable snapshot without locking, from any thread. Mutations are serialized by a lock, which
+ * is also held while the listeners are notified, so the listeners see the changes in order.
+ * <p>
+ * Like the iterators of {@link java.util.concurrent.CopyOnWriteArrayList}, {@link #iterator()} traverses the snapshot
+ * taken when it was created, and doesn't support {@code remove}. The list iterators and sub lists work like those of
+ * an {@code ArrayList}, and are meant to be used by the thread that modifies the list.
+ * <p>
+ * The removed elements of a change are read from the snapshot they were removed from, which is never modified, and
+ * copied into the change.
+ *
+ * @param <E>
+ *         the type of the elements contained in the List
+ */
+public class CopyOnWriteObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Object lock = new Object();
+
+    private volatile Object[] array = EMPTY;
+
+    public CopyOnWriteObservableList() {
+    }
+
+    public CopyOnWriteObservableList(Collection<? extends E> col) {
+        Object[] elements = col.toArray();
+        array = elements.getClass() == Object[].class ? elements : Arrays.copyOf(elements, elements.length,
+                Object[].class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        return (E) array[index];
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Object[] snapshot = array;
+        for (int i = 0; i < snapshot.length; i++) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] snapshot = array;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] a) {
+        Object[] snapshot = array;
+        if (a.length < snapshot.length) {
+            return (T[]) Arrays.copyOf(snapshot, snapshot.length, a.getClass());
+        }
+        System.arraycopy(snapshot, 0, a, 0, snapshot.length);
+        if (a.length > snapshot.length) {
+            a[snapshot.length] = null;
+        }
+        return a;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot(array).iterator();
+    }
+
+    @Override
+    public boolean add(E element) {
+        synchronized (lock) {
+            return super.add(element);
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            super.add(index, element);
+        }
+    }
+
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            return super.set(index, element);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            return super.remove(index);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            return super.remove(o);
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        Object[] old = array;
+        if (index < 0 || index > old.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + old.length);
+        }
+        Object[] elements = new Object[old.length + 1];
+        System.arraycopy(old, 0, elements, 0, index);
+        elements[index] = element;
+        System.arraycopy(old, index, elements, index + 1, old.length - index);
+        array = elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected E doSet(int index, E element) {
+        Object[] elements = array.clone();
+        E old = (E) elements[index];
+        elements[index] = element;
+        array = elements;
+        return old;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected E doRemove(int index) {
+        Object[] old = array;
+        E removed = (E) old[index];
+        Object[] elements = new Object[old.length - 1];
+        System.arraycopy(old, 0, elements, 0, index);
+        System.arraycopy(old, index + 1, elements, index, old.length - index - 1);
+        array = elements;
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        synchronized (lock) {
+            return addAll(array.length, c);
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        synchronized (lock) {
+            Object[] old = array;
+            if (index < 0 || index > old.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + old.length);
+            }
+            Object[] added = c.toArray();
+            if (added.length == 0) {
+                return false;
+            }
+            Object[] elements = new Object[old.length + added.length];
+            System.arraycopy(old, 0, elements, 0, index);
+            System.arraycopy(added, 0, elements, index, added.length);
+            System.arraycopy(old, index, elements, index + added.length, old.length - index);
+            array = elements;
+            ++modCount;
+            beginChange();
+            nextAdd(index, index + added.length);
+            endChange();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        synchronized (lock) {
+            Object[] old = array;
+            Object[] elements = col.toArray();
+            if (elements.getClass() != Object[].class) {
+                elements = Arrays.copyOf(elements, elements.length, Object[].class);
+            }
+            if (old.length == 0 && elements.length == 0) {
+                return false;
+            }
+            array = elements;
+            ++modCount;
+            beginChange();
+            nextReplace(0, elements.length, snapshot(old));
+            endChange();
+            return true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            remove(0, array.length);
+        }
+    }
+
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] old = array;
+            if (fromIndex < 0 || toIndex > old.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+            }
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Object[] elements = new Object[old.length - (toIndex - fromIndex)];
+            System.arraycopy(old, 0, elements, 0, fromIndex);
+            System.arraycopy(old, toIndex, elements, fromIndex, old.length - toIndex);
+            array = elements;
+            ++modCount;
+            beginChange();
+            nextRemove(fromIndex, snapshot(old).subList(fromIndex, toIndex));
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        remove(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeMatching(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeMatching(e -> !c.contains(e));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeMatching(filter);
+    }
+
+    /**
+     * Removes every element matching {@code filter} in a single copy, and reports each run of removed elements as a
+     * removal.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean removeMatching(Predicate<? super E> filter) {
+        synchronized (lock) {
+            Object[] old = array;
+            BitSet removed = new BitSet(old.length);
+            for (int i = 0; i < old.length; i++) {
+                if (filter.test((E) old[i])) {
+                    removed.set(i);
+                }
+            }
+            if (removed.isEmpty()) {
+                return false;
+            }
+            Object[] elements = new Object[old.length - removed.cardinality()];
+            List<E> oldList = snapshot(old);
+            int size = 0;
+            for (int i = removed.nextClearBit(0); i < old.length; i = removed.nextClearBit(i + 1)) {
+                elements[size++] = old[i];
+            }
+            array = elements;
+            ++modCount;
+            beginChange();
+            int removedBefore = 0;
+            for (int from = removed.nextSetBit(0); from >= 0; from = removed.nextSetBit(from)) {
+                int to = removed.nextClearBit(from);
+                nextRemove(from - removedBefore, oldList.subList(from, to));
+                removedBefore += to - from;
+                from = to;
+            }
+            endChange();
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> snapshot(Object[] elements) {
+        return Collections.unmodifiableList(Arrays.asList((E[]) elements));
+    }
+
+}
@@ -0,0 +1,254 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Maps the elements of a list, by identity, to the positions they occupy in it. Used to find the elements that have to
+ * be reported as updated when one of their observables changes, without scanning the whole list.
+ * <p>
+ * The index is built the first time it is needed, and then follows the changes of the list. Changes at the end of the
+ * list and replacements only touch the positions of the elements they add or remove. An insertion or a removal in the
+ * middle of the list shifts the positions after it, and a permutation moves the positions in its range, which costs a
+ * pass over the positions of all the elements, like the change itself costs a pass over the list.
+ */
+final class ElementIndex<E> {
+
+    private static class Positions {
+
+        int[] indexes = new int[1];
+
+        int size;
+
+        void add(int index) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+            }
+            int pos = size;
+            while (pos > 0 && indexes[pos - 1] > index) {
+                indexes[pos] = indexes[pos - 1];
+                pos--;
+            }
+            indexes[pos] = index;
+            size++;
+        }
+
+        void remove(int index) {
+            int pos = Arrays.binarySearch(indexes, 0, size, index);
+            if (pos >= 0) {
+                System.arraycopy(indexes, pos + 1, indexes, pos, size - pos - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Adds {@code delta} to the indexes from {@code from}.
+         */
+        void shift(int from, int delta) {
+            int pos = Arrays.binarySearch(indexes, 0, size, from);
+            for (int i = pos < 0 ? -pos - 1 : pos; i < size; i++) {
+                indexes[i] += delta;
+            }
+        }
+
+        /**
+         * Replaces the indexes from {@code from} to {@code to}, exclusive, by the ones {@code newIndex} gives them.
+         */
+        void move(int from, int to, IntUnaryOperator newIndex) {
+            boolean moved = false;
+            for (int i = 0; i < size; i++) {
+                if (indexes[i] >= from && indexes[i] < to) {
+                    indexes[i] = newIndex.applyAsInt(indexes[i]);
+                    moved = true;
+                }
+            }
+            if (moved) {
+                Arrays.sort(indexes, 0, size);
+            }
+        }
+
+    }
+
+    private IdentityHashMap<E, Positions> positions;
+
+    private int size;
+
+    /**
+     * Records that {@code element} was inserted at {@code index}.
+     *
+     * @param index
+     *         the index of the new element
+     * @param element
+     *         the new element
+     */
+    void add(int index, E element) {
+        if (positions != null) {
+            shift(index, 1);
+            addPosition(element, index);
+            size++;
+        }
+    }
+
+    /**
+     * Records that {@code element} was removed from {@code index}.
+     *
+     * @param index
+     *         the index of the removed element
+     * @param element
+     *         the removed element
+     */
+    void remove(int index, E element) {
+        if (positions != null) {
+            removePosition(element, index);
+            shift(index + 1, -1);
+            size--;
+        }
+    }
+
+    /**
+     * Records that the elements whose indexes are set in {@code marked} were removed at once.
+     *
+     * @param marked
+     *         the indexes of the removed elements, before the removal
+     */
+    void removeMarked(BitSet marked) {
+        if (positions == null) {
+            return;
+        }
+        final int first = marked.nextSetBit(0);
+        if (first < 0) {
+            return;
+        }
+        // removedBefore[i - first] is the number of removed elements before index i
+        final int[] removedBefore = new int[size - first];
+        for (int i = first + 1; i < size; i++) {
+            removedBefore[i - first] = removedBefore[i - first - 1] + (marked.get(i - 1) ? 1 : 0);
+        }
+        for (Iterator<Positions> it = positions.values().iterator(); it.hasNext(); ) {
+            final Positions p = it.next();
+            int kept = 0;
+            for (int i = 0; i < p.size; i++) {
+                final int index = p.indexes[i];
+                if (index < first) {
+                    kept++;
+                } else if (!marked.get(index)) {
+                    p.indexes[kept++] = index - removedBefore[index - first];
+                }
+            }
+            p.size = kept;
+            if (kept == 0) {
+                it.remove();
+            }
+        }
+        size -= marked.cardinality();
+    }
+
+    /**
+     * Records that the elements from {@code from} to {@code to}, exclusive, were permutated.
+     *
+     * @param from
+     *         the beginning of the permutated range
+     * @param to
+     *         the end of the permutated range
+     * @param newIndex
+     *         gives the new index of the element that was at an index of the range
+     */
+    void permute(int from, int to, IntUnaryOperator newIndex) {
+        if (positions != null) {
+            for (Positions p : positions.values()) {
+                p.move(from, to, newIndex);
+            }
+        }
+    }
+
+    /**
+     * Records that the element at {@code index} was replaced.
+     *
+     * @param index
+     *         the index of the replaced element
+     * @param old
+     *         the previous element
+     * @param element
+     *         the new element
+     */
+    void set(int index, E old, E element) {
+        if (positions != null && old != element) {
+            removePosition(old, index);
+            addPosition(element, index);
+        }
+    }
+
+    /**
+     * Calls {@code action} with every index at which {@code element} is in {@code list}.
+     *
+     * @param list
+     *         the indexed list
+     * @param element
+     *         the element to look for
+     * @param action
+     *         the action to call for each index
+     */
+    void forEachIndex(List<? extends E> list, E element, IntConsumer action) {
+        if (positions == null) {
+            build(list);
+        }
+        final Positions p = positions.get(element);
+        if (p != null) {
+            for (int i = 0; i < p.size; i++) {
+                action.accept(p.indexes[i]);
+            }
+        }
+    }
+
+    private void build(List<? extends E> list) {
+        positions = new IdentityHashMap<>();
+        size = list.size();
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                addPosition(list.get(i), i);
+            }
+        } else {
+            for (ListIterator<? extends E> it = list.listIterator(); it.hasNext(); ) {
+                addPosition(it.next(), it.previousIndex());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the positions from {@code from}, unless no position is after it.
+     */
+    private void shift(int from, int delta) {
+        if (from < size) {
+            for (Positions p : positions.values()) {
+                p.shift(from, delta);
+            }
+        }
+    }
+
+    private void addPosition(E element, int index) {
+        Positions p = positions.get(element);
+        if (p == null) {
+            p = new Positions();
+            positions.put(element, p);
+        }
+        p.add(index);
+    }
+
+    private void removePosition(E element, int index) {
+        final Positions p = positions.get(element);
+        if (p != null) {
+            p.remove(index);
+            if (p.size == 0) {
+                positions.remove(element);
+            }
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ public final class ElementObservableListDecorator<E> extends ObservableListBase<
 
     private final ElementObserver<E> observer;
 
+    private final ElementIndex<E> elementIndex = new ElementIndex<>();
+
     public ElementObservableListDecorator(ObservableList<E> decorated, Callback<E, Observable[]> extractor) {
         this.observer = new ElementObserver<>(extractor, new Callback<E, InvalidationListener>() {
 
@@ -26,22 +28,7 @@ public final class ElementObservableListDecorator<E> extends ObservableListBase<
             public InvalidationListener call(final E e) {
                 return observable -> {
                     beginChange();
-                    int i = 0;
-                    if (decoratedList instanceof RandomAccess) {
-                        final int size = size();
-                        for (; i < size; i++) {
-                            if (get(i) == e) {
-                                nextUpdate(i);
-                            }
-                        }
-                    } else {
-                        for (Iterator<?> it = iterator(); it.hasNext(); ) {
-                            if (it.next() == e) {
-                                nextUpdate(i);
-                            }
-                            i++;
-                        }
-                    }
+                    elementIndex.forEachIndex(decoratedList, e, i -> nextUpdate(i));
                     endChange();
                 };
             }
@@ -52,12 +39,15 @@ public final class ElementObservableListDecorator<E> extends ObservableListBase<
         }
         listener = change -> {
             while (change.next()) {
-                if (change.wasAdded() || change.wasRemoved()) {
+                if (change.wasPermutated()) {
+                    elementIndex.permute(change.getFrom(), change.getTo(), change::getPermutation);
+                } else if (change.wasAdded() || change.wasRemoved()) {
                     final int removedSize = change.getRemovedSize();
                     final List<? extends E> removed = change.getRemoved();
                     for (int i = 0; i < removedSize; i++) {
                         observer.detachListener(removed.get(i));
                     }
+                    updateIndex(change);
                     if (decoratedList instanceof RandomAccess) {
                         final int to = change.getTo();
                         for (int i = change.getFrom(); i < to; i++) {
@@ -76,6 +66,28 @@ public final class ElementObservableListDecorator<E> extends ObservableListBase<
         this.decoratedList.addListener(new WeakListChangeListener<>(listener));
     }
 
+    private void updateIndex(ListChangeListener.Change<? extends E> change) {
+        final int from = change.getFrom();
+        final int removedSize = change.getRemovedSize();
+        final List<? extends E> removed = change.getRemoved();
+        final List<? extends E> added = change.getAddedSubList();
+        if (removedSize == change.getAddedSize()) {
+            int i = from;
+            for (E e : added) {
+                elementIndex.set(i, removed.get(i - from), e);
+                i++;
+            }
+        } else {
+            for (int i = removedSize - 1; i >= 0; i--) {
+                elementIndex.remove(from + i, removed.get(i));
+            }
+            int i = from;
+            for (E e : added) {
+                elementIndex.add(i++, e);
+            }
+        }
+    }
+
     @Override
     public <T> T[] toArray(T[] a) {
         return decoratedList.toArray(a);
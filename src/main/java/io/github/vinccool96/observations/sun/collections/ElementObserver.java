@@ -68,10 +68,10 @@ final class ElementObserver<E> {
         if (elementsMap != null && e != null) {
             if (elementsMap.containsKey(e)) {
                 ElementsMapElement el = elementsMap.get(e);
-                for (Observable o : extractor.call(e)) {
-                    o.removeListener(el.getListener());
-                }
                 if (el.decrement() == 0) {
+                    for (Observable o : extractor.call(e)) {
+                        o.removeListener(el.getListener());
+                    }
                     elementsMap.remove(e);
                 }
             }
@@ -3,6 +3,7 @@ package io.github.vinccool96.observations.sun.collections;
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.ListChangeListener;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelperBase;
+import io.github.vinccool96.observations.sun.binding.ListenerIndex;
 import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.Arrays;
@@ -31,6 +32,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(ListListenerHelper<E> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> ListListenerHelper<E> addListener(ListListenerHelper<E> helper,
             ListChangeListener<? super E> listener) {
         if (listener == null) {
@@ -47,6 +52,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(ListListenerHelper<E> helper, ListChangeListener<? super E> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> void fireValueChangedEvent(ListListenerHelper<E> helper,
             ListChangeListener.Change<? extends E> change) {
         if (helper != null) {
@@ -66,10 +75,14 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract ListListenerHelper<E> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract ListListenerHelper<E> addListener(ListChangeListener<? super E> listener);
 
     protected abstract ListListenerHelper<E> removeListener(ListChangeListener<? super E> listener);
 
+    protected abstract boolean containsListener(ListChangeListener<? super E> listener);
+
     protected abstract void fireValueChangedEvent(ListChangeListener.Change<? extends E> change);
 
     public abstract InvalidationListener[] getInvalidationListeners();
@@ -116,6 +129,16 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -165,6 +188,16 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -187,6 +220,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         private int changeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
         private boolean locked;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
@@ -217,13 +254,15 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -239,6 +278,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0)) {
                             return new ListListenerHelper.SingleInvalidation<>(invalidationListeners[1 - index]);
                         } else {
@@ -251,6 +291,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -274,13 +315,14 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             return this;
         }
@@ -296,6 +338,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0)) {
                             return new ListListenerHelper.SingleChange<>(changeListeners[1 - index]);
                         } else {
@@ -308,6 +351,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -351,6 +395,16 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(ListChangeListener<? super E> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
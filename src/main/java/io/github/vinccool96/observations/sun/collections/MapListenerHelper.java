@@ -4,6 +4,7 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.MapChangeListener;
 import io.github.vinccool96.observations.collections.MapChangeListener.Change;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelperBase;
+import io.github.vinccool96.observations.sun.binding.ListenerIndex;
 import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.Arrays;
@@ -33,6 +34,10 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <K, V> boolean containsListener(MapListenerHelper<K, V> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <K, V> MapListenerHelper<K, V> addListener(MapListenerHelper<K, V> helper,
             MapChangeListener<? super K, ? super V> listener) {
         if (listener == null) {
@@ -49,6 +54,11 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <K, V> boolean containsListener(MapListenerHelper<K, V> helper,
+            MapChangeListener<? super K, ? super V> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <K, V> void fireValueChangedEvent(MapListenerHelper<K, V> helper,
             Change<? extends K, ? extends V> change) {
         if (helper != null) {
@@ -67,10 +77,14 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
     protected abstract MapListenerHelper<K, V> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract MapListenerHelper<K, V> addListener(MapChangeListener<? super K, ? super V> listener);
 
     protected abstract MapListenerHelper<K, V> removeListener(MapChangeListener<? super K, ? super V> listener);
 
+    protected abstract boolean containsListener(MapChangeListener<? super K, ? super V> listener);
+
     protected abstract void fireValueChangedEvent(Change<? extends K, ? extends V> change);
 
     public abstract InvalidationListener[] getInvalidationListeners();
@@ -117,6 +131,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -159,6 +183,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent(Change<? extends K, ? extends V> change) {
+            change.reset();
             try {
                 listener.onChanged(change);
             } catch (Exception e) {
@@ -166,6 +191,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -188,6 +223,10 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
         private int changeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
         private boolean locked;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
@@ -220,13 +259,15 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -242,6 +283,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0)) {
                             return new SingleInvalidation<>(invalidationListeners[1 - index]);
                         } else {
@@ -254,6 +296,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -277,13 +320,14 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             return this;
         }
@@ -299,6 +343,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0)) {
                             return new SingleChange<>(changeListeners[1 - index]);
                         } else {
@@ -311,6 +356,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -341,6 +387,7 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                     }
                 }
                 for (int i = 0; i < curChangeSize; i++) {
+                    change.reset();
                     try {
                         curChangeList[i].onChanged(change);
                     } catch (Exception e) {
@@ -353,6 +400,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(MapChangeListener<? super K, ? super V> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
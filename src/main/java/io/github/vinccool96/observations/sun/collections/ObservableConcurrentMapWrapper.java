@@ -0,0 +1,638 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.beans.InvalidationListener;
+import io.github.vinccool96.observations.collections.MapChangeListener;
+import io.github.vinccool96.observations.collections.MapChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * An observable map backed by a {@link ConcurrentHashMap}. Reads never lock, and every write is atomic for its key.
+ * <p>
+ * A write records its change in a queue while it holds the key, so the changes of a key are queued in the order they
+ * were made. The queue is then drained by one writer at a time, which notifies the listeners of each change in turn:
+ * listeners are never called concurrently, and see the changes of a key in order. The other writers don't wait for
+ * the queue to be drained, so a write may return before its listeners are notified.
+ * <p>
+ * Like {@code ConcurrentHashMap}, the map does not accept {@code null} keys or values.
+ */
+@SuppressWarnings({"unchecked", "SuspiciousMethodCalls", "EqualsWhichDoesntCheckParameterClass"})
+public class ObservableConcurrentMapWrapper<K, V> implements ObservableMap<K, V>, ConcurrentMap<K, V> {
+
+    private final ConcurrentHashMap<K, V> backingMap;
+
+    private final Queue<Change<K, V>> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final Object listenerLock = new Object();
+
+    private volatile MapListenerHelper<K, V> listenerHelper;
+
+    private KeySet keySet;
+
+    private Values values;
+
+    private EntrySet entrySet;
+
+    public ObservableConcurrentMapWrapper() {
+        this.backingMap = new ConcurrentHashMap<>();
+    }
+
+    private class SimpleChange extends Change<K, V> {
+
+        private final K key;
+
+        private final V old;
+
+        private final V added;
+
+        public SimpleChange(K key, V old, V added) {
+            super(ObservableConcurrentMapWrapper.this);
+            assert (old != null || added != null);
+            this.key = key;
+            this.old = old;
+            this.added = added;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return added != null;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return old != null;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValueAdded() {
+            return added;
+        }
+
+        @Override
+        public V getValueRemoved() {
+            return old;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            if (wasAdded()) {
+                if (wasRemoved()) {
+                    builder.append(old).append(" replaced by ").append(added);
+                } else {
+                    builder.append(added).append(" added");
+                }
+            } else {
+                builder.append(old).append(" removed");
+            }
+            builder.append(" at key ").append(key);
+            return builder.toString();
+        }
+
+    }
+
+    /**
+     * Queues the change of a key. Must be called while the key is held by the backing map, so the changes of a key are
+     * queued in order.
+     */
+    private void record(K key, V old, V added) {
+        if (listenerHelper != null && (old == null ? added != null : !old.equals(added))) {
+            pendingChanges.add(new SimpleChange(key, old, added));
+        }
+    }
+
+    /**
+     * Notifies the listeners of the queued changes, unless another thread is already doing it. The queue is checked
+     * again after releasing it, so a change queued while the previous dispatcher was finishing is not left behind.
+     */
+    private void dispatch() {
+        while (!pendingChanges.isEmpty() && dispatching.compareAndSet(false, true)) {
+            try {
+                Change<K, V> change;
+                while ((change = pendingChanges.poll()) != null) {
+                    synchronized (listenerLock) {
+                        MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
+                    }
+                }
+            } finally {
+                dispatching.set(false);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return backingMap.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return backingMap.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return backingMap.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return backingMap.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return backingMap.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return backingMap.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        Object[] previous = new Object[1];
+        backingMap.compute(key, (k, old) -> {
+            previous[0] = old;
+            record(k, old, value);
+            return value;
+        });
+        dispatch();
+        return (V) previous[0];
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        V current = backingMap.get(key);
+        if (current != null) {
+            return current;
+        }
+        Object[] previous = new Object[1];
+        backingMap.compute(key, (k, old) -> {
+            if (old != null) {
+                previous[0] = old;
+                return old;
+            }
+            record(k, null, value);
+            return value;
+        });
+        dispatch();
+        return (V) previous[0];
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Object[] previous = new Object[1];
+        backingMap.computeIfPresent((K) key, (k, old) -> {
+            previous[0] = old;
+            record(k, old, null);
+            return null;
+        });
+        dispatch();
+        return (V) previous[0];
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (value == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        backingMap.computeIfPresent((K) key, (k, old) -> {
+            if (!old.equals(value)) {
+                return old;
+            }
+            removed[0] = true;
+            record(k, old, null);
+            return null;
+        });
+        dispatch();
+        return removed[0];
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        boolean[] replaced = new boolean[1];
+        backingMap.computeIfPresent(key, (k, old) -> {
+            if (!old.equals(oldValue)) {
+                return old;
+            }
+            replaced[0] = true;
+            record(k, old, newValue);
+            return newValue;
+        });
+        dispatch();
+        return replaced[0];
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Objects.requireNonNull(value);
+        Object[] previous = new Object[1];
+        backingMap.computeIfPresent(key, (k, old) -> {
+            previous[0] = old;
+            record(k, old, value);
+            return value;
+        });
+        dispatch();
+        return (V) previous[0];
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Objects.requireNonNull(function);
+        for (K key : backingMap.keySet()) {
+            computeIfPresent(key, function);
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        V result = backingMap.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            record(k, null, value);
+            return value;
+        });
+        dispatch();
+        return result;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        V result = backingMap.computeIfPresent(key, (k, old) -> {
+            V value = remappingFunction.apply(k, old);
+            record(k, old, value);
+            return value;
+        });
+        dispatch();
+        return result;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        V result = backingMap.compute(key, (k, old) -> {
+            V value = remappingFunction.apply(k, old);
+            record(k, old, value);
+            return value;
+        });
+        dispatch();
+        return result;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        V result = backingMap.compute(key, (k, old) -> {
+            V merged = old == null ? value : remappingFunction.apply(old, value);
+            record(k, old, merged);
+            return merged;
+        });
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Removes every key. Keys put while the map is being cleared may be kept.
+     */
+    @Override
+    public void clear() {
+        for (K key : backingMap.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        if (values == null) {
+            values = new Values();
+        }
+        return values;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        synchronized (listenerLock) {
+            if (!MapListenerHelper.containsListener(listenerHelper, listener)) {
+                listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
+            }
+        }
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        synchronized (listenerLock) {
+            listenerHelper = MapListenerHelper.removeListener(listenerHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
+        synchronized (listenerLock) {
+            return MapListenerHelper.containsListener(listenerHelper, listener);
+        }
+    }
+
+    @Override
+    public void addListener(MapChangeListener<? super K, ? super V> listener) {
+        synchronized (listenerLock) {
+            if (!MapListenerHelper.containsListener(listenerHelper, listener)) {
+                listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
+            }
+        }
+    }
+
+    @Override
+    public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        synchronized (listenerLock) {
+            listenerHelper = MapListenerHelper.removeListener(listenerHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
+        synchronized (listenerLock) {
+            return MapListenerHelper.containsListener(listenerHelper, listener);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return backingMap.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return backingMap.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return backingMap.toString();
+    }
+
+    private class KeySet extends AbstractSet<K> {
+
+        @Override
+        public int size() {
+            return backingMap.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return backingMap.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return ObservableConcurrentMapWrapper.this.remove(o) != null;
+        }
+
+        @Override
+        public void clear() {
+            ObservableConcurrentMapWrapper.this.clear();
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new Iterator<K>() {
+
+                private final Iterator<K> it = backingMap.keySet().iterator();
+
+                private K lastKey;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public K next() {
+                    lastKey = it.next();
+                    return lastKey;
+                }
+
+                @Override
+                public void remove() {
+                    if (lastKey == null) {
+                        throw new IllegalStateException();
+                    }
+                    ObservableConcurrentMapWrapper.this.remove(lastKey);
+                    lastKey = null;
+                }
+
+            };
+        }
+
+    }
+
+    private class Values extends AbstractCollection<V> {
+
+        @Override
+        public int size() {
+            return backingMap.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return backingMap.containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            ObservableConcurrentMapWrapper.this.clear();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<V>() {
+
+                private final Iterator<Entry<K, V>> it = backingMap.entrySet().iterator();
+
+                private Entry<K, V> lastEntry;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    lastEntry = it.next();
+                    return lastEntry.getValue();
+                }
+
+                @Override
+                public void remove() {
+                    if (lastEntry == null) {
+                        throw new IllegalStateException();
+                    }
+                    ObservableConcurrentMapWrapper.this.remove(lastEntry.getKey(), lastEntry.getValue());
+                    lastEntry = null;
+                }
+
+            };
+        }
+
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return backingMap.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            V value = backingMap.get(e.getKey());
+            return value != null && value.equals(e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return ObservableConcurrentMapWrapper.this.remove(e.getKey(), e.getValue());
+        }
+
+        @Override
+        public void clear() {
+            ObservableConcurrentMapWrapper.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+
+                private final Iterator<Entry<K, V>> it = backingMap.entrySet().iterator();
+
+                private Entry<K, V> lastEntry;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    lastEntry = it.next();
+                    return new ObservableEntry(lastEntry);
+                }
+
+                @Override
+                public void remove() {
+                    if (lastEntry == null) {
+                        throw new IllegalStateException();
+                    }
+                    ObservableConcurrentMapWrapper.this.remove(lastEntry.getKey(), lastEntry.getValue());
+                    lastEntry = null;
+                }
+
+            };
+        }
+
+    }
+
+    private class ObservableEntry implements Entry<K, V> {
+
+        private final K key;
+
+        private V value;
+
+        public ObservableEntry(Entry<K, V> entry) {
+            this.key = entry.getKey();
+            this.value = entry.getValue();
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            put(key, value);
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) obj;
+            return key.equals(e.getKey()) && value.equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+
+    }
+
+}
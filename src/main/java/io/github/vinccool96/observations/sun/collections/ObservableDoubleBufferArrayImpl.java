@@ -0,0 +1,365 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ObservableArrayBase;
+import io.github.vinccool96.observations.collections.ObservableDoubleArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * ObservableDoubleArray implementation that stores its elements outside of the heap, either in a direct buffer or in a
+ * region of a file mapped in memory. The elements are stored in the native byte order.
+ * <p>
+ * A mapped array keeps its elements in the file: growing the array maps a larger region of the file, and never copies
+ * the elements. A direct array copies its elements to a new direct buffer when it grows.
+ * <p>
+ * Since a buffer is indexed by an {@code int}, the capacity of the array can't exceed {@link #MAX_CAPACITY} elements.
+ */
+public final class ObservableDoubleBufferArrayImpl extends ObservableArrayBase<ObservableDoubleArray>
+        implements ObservableDoubleArray {
+
+    /**
+     * The maximum number of elements of the array.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Double.BYTES;
+
+    private final FileChannel channel;
+
+    private final long position;
+
+    private DoubleBuffer buffer;
+
+    private int size = 0;
+
+    /**
+     * Creates empty observable double array backed by a direct buffer
+     *
+     * @param initialCapacity
+     *         the number of elements the array can contain before it has to grow
+     */
+    public ObservableDoubleBufferArrayImpl(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.channel = null;
+        this.position = 0;
+        this.buffer = allocate(initialCapacity);
+    }
+
+    /**
+     * Creates observable double array backed by a region of a file. The region starts at {@code position}, and the
+     * {@code size} elements it already contains are the initial values of the array. The file is extended when the
+     * array grows past the end of the file.
+     *
+     * @param channel
+     *         the channel of the file, opened for reading and writing
+     * @param position
+     *         the position in the file at which the region starts
+     * @param size
+     *         the initial size of the array
+     *
+     * @throws IOException
+     *         if the file can't be mapped
+     */
+    public ObservableDoubleBufferArrayImpl(FileChannel channel, long position, int size) throws IOException {
+        if (channel == null) {
+            throw new NullPointerException();
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException("Illegal position: " + position);
+        }
+        if (size < 0 || size > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal size: " + size);
+        }
+        this.channel = channel;
+        this.position = position;
+        this.buffer = map(size);
+        this.size = size;
+    }
+
+    private static DoubleBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    private DoubleBuffer map(int capacity) throws IOException {
+        return channel.map(MapMode.READ_WRITE, position, (long) capacity * Double.BYTES).order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+    }
+
+    @Override
+    public void clear() {
+        resize(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void put(int destIndex, double[] src, int srcIndex, int length) {
+        checkBounds(srcIndex, length, src.length);
+        checkBounds(destIndex, length, buffer.capacity());
+        final DoubleBuffer dest = buffer.duplicate();
+        dest.position(destIndex);
+        dest.put(src, srcIndex, length);
+    }
+
+    private void addAllInternal(double[] src, int srcIndex, int length) {
+        growCapacity(length);
+        put(size, src, srcIndex, length);
+        size += length;
+        fireChange(length != 0, size - length, size);
+    }
+
+    @Override
+    public void addAll(double... elements) {
+        addAllInternal(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src) {
+        addAllInternal(src.toArray(null), 0, src.size());
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        addAllInternal(src, srcIndex, length);
+    }
+
+    @Override
+    public void addAll(ObservableDoubleArray src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        addAllInternal(src.toArray(srcIndex, null, length), 0, length);
+    }
+
+    private void setAllInternal(double[] src, int srcIndex, int length) {
+        boolean sizeChanged = size() != length;
+        size = 0;
+        ensureCapacity(length);
+        put(0, src, srcIndex, length);
+        size = length;
+        fireChange(sizeChanged, 0, size);
+    }
+
+    @Override
+    public void setAll(double... src) {
+        setAllInternal(src, 0, src.length);
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src) {
+        setAllInternal(src, 0, src.size());
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        setAllInternal(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAll(ObservableDoubleArray src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        setAllInternal(src, srcIndex, length);
+    }
+
+    private void setAllInternal(ObservableDoubleArray src, int srcIndex, int length) {
+        if (src == this && srcIndex == 0) {
+            resize(length);
+        } else {
+            setAllInternal(src.toArray(srcIndex, null, length), 0, length);
+        }
+    }
+
+    @Override
+    public void set(int destIndex, double[] src, int srcIndex, int length) {
+        rangeCheck(destIndex + length);
+        put(destIndex, src, srcIndex, length);
+        fireChange(false, destIndex, destIndex + length);
+    }
+
+    @Override
+    public void set(int destIndex, ObservableDoubleArray src, int srcIndex, int length) {
+        rangeCheck(destIndex + length);
+        checkBounds(srcIndex, length, src.size());
+        put(destIndex, src.toArray(srcIndex, null, length), 0, length);
+        fireChange(false, destIndex, destIndex + length);
+    }
+
+    @Override
+    public double get(int index) {
+        rangeCheck(index + 1);
+        checkBounds(index, 1, size);
+        return buffer.get(index);
+    }
+
+    @Override
+    public void set(int index, double value) {
+        rangeCheck(index + 1);
+        checkBounds(index, 1, size);
+        buffer.put(index, value);
+        fireChange(false, index, index + 1);
+    }
+
+    @Override
+    public double[] toArray(double[] dest) {
+        if (dest == null || size() > dest.length) {
+            dest = new double[size()];
+        }
+        copyTo(0, dest, 0, size());
+        return dest;
+    }
+
+    @Override
+    public double[] toArray(int index, double[] dest, int length) {
+        rangeCheck(index + length);
+        if (dest == null || length > dest.length) {
+            dest = new double[length];
+        }
+        copyTo(index, dest, 0, length);
+        return dest;
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        rangeCheck(srcIndex + length);
+        checkBounds(srcIndex, length, size);
+        checkBounds(destIndex, length, dest.length);
+        final DoubleBuffer src = buffer.duplicate();
+        src.position(srcIndex);
+        src.get(dest, destIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableDoubleArray dest, int destIndex, int length) {
+        rangeCheck(srcIndex + length);
+        checkBounds(srcIndex, length, size);
+        dest.set(destIndex, toArray(srcIndex, null, length), 0, length);
+    }
+
+    @Override
+    public void resize(int newSize) {
+        if (newSize < 0) {
+            throw new NegativeArraySizeException("Can't resize to negative value: " + newSize);
+        }
+        ensureCapacity(newSize);
+        int minSize = Math.min(size, newSize);
+        boolean sizeChanged = size != newSize;
+        size = newSize;
+        for (int i = minSize; i < size; i++) {
+            buffer.put(i, 0);
+        }
+        fireChange(sizeChanged, minSize, newSize);
+    }
+
+    private void growCapacity(int length) {
+        int minCapacity = size + length;
+        int oldCapacity = buffer.capacity();
+        if (minCapacity > oldCapacity) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1);
+            if (newCapacity < minCapacity || newCapacity < 0) {
+                newCapacity = minCapacity;
+            }
+            ensureCapacity(Math.min(newCapacity, Math.max(minCapacity, MAX_CAPACITY)));
+        } else if (length > 0 && minCapacity < 0) {
+            throw new OutOfMemoryError(); // overflow
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (buffer.capacity() < capacity) {
+            if (capacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Requested capacity exceeds buffer limit: " + capacity);
+            }
+            buffer = copyOf(capacity);
+        }
+    }
+
+    private DoubleBuffer copyOf(int capacity) {
+        if (channel != null) {
+            try {
+                return map(capacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        final DoubleBuffer copy = allocate(capacity);
+        final DoubleBuffer src = buffer.duplicate();
+        src.position(0).limit(size);
+        copy.put(src);
+        return copy;
+    }
+
+    /**
+     * Releases the unused capacity of a direct array. The region of the file of a mapped array is kept.
+     */
+    @Override
+    public void trimToSize() {
+        if (channel == null && buffer.capacity() != size) {
+            buffer = copyOf(size);
+        }
+    }
+
+    private void rangeCheck(int size) {
+        if (size > this.size) {
+            throw new ArrayIndexOutOfBoundsException(this.size);
+        }
+    }
+
+    // the checks System.arraycopy makes, that the buffers report with other exceptions
+    private static void checkBounds(int index, int length, int bound) {
+        if (index < 0 || length < 0 || index + length > bound) {
+            throw new ArrayIndexOutOfBoundsException(index < 0 ? index : index + length);
+        }
+    }
+
+    private void rangeCheck(double[] src, int srcIndex, int length) {
+        if (src == null) {
+            throw new NullPointerException();
+        }
+        if (srcIndex < 0 || srcIndex + length > src.length) {
+            throw new ArrayIndexOutOfBoundsException(src.length);
+        }
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(-1);
+        }
+    }
+
+    private void rangeCheck(ObservableDoubleArray src, int srcIndex, int length) {
+        if (src == null) {
+            throw new NullPointerException();
+        }
+        if (srcIndex < 0 || srcIndex + length > src.size()) {
+            throw new ArrayIndexOutOfBoundsException(src.size());
+        }
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(-1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        int iMax = size() - 1;
+        if (iMax == -1) {
+            return "[]";
+        }
+
+        StringBuilder b = new StringBuilder();
+        b.append('[');
+        for (int i = 0; ; i++) {
+            b.append(buffer.get(i));
+            if (i == iMax) {
+                return b.append(']').toString();
+            }
+            b.append(", ");
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ObservableDoubleList;
+
+import java.util.Arrays;
+
+/**
+ * ObservableDoubleList default implementation.
+ */
+public class ObservableDoubleListImpl extends ObservablePrimitiveListBase<Double, double[]>
+        implements ObservableDoubleList {
+
+    private static final double[] INITIAL = new double[0];
+
+    /**
+     * Creates empty observable double list
+     */
+    public ObservableDoubleListImpl() {
+        super(INITIAL);
+    }
+
+    /**
+     * Creates observable double list with copy of given initial values
+     *
+     * @param elements
+     *         initial values to copy to observable double list
+     */
+    public ObservableDoubleListImpl(double... elements) {
+        super(elements.clone());
+    }
+
+    @Override
+    Double box(double[] values, int index) {
+        return values[index];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        double old = doSetDouble(index, value);
+        if (hasListeners()) {
+            beginChange();
+            nextSet(index, old);
+            endChange();
+        }
+        return old;
+    }
+
+    @Override
+    public void addDouble(double value) {
+        addDouble(size, value);
+    }
+
+    @Override
+    public void addDouble(int index, double value) {
+        doAddDouble(index, value);
+        fireAdded(index, index + 1);
+    }
+
+    @Override
+    public void addAllDoubles(double... elements) {
+        addAllDoubles(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAllDoubles(double[] src, int srcIndex, int length) {
+        addAllArray(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAllDoubles(double... elements) {
+        setAllArray(elements);
+    }
+
+    @Override
+    public int indexOfDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Double ? indexOfDouble((Double) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Double) {
+            long bits = Double.doubleToLongBits((Double) o);
+            for (int i = size - 1; i >= 0; i--) {
+                if (Double.doubleToLongBits(array[i]) == bits) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    protected void doAdd(int index, Double element) {
+        doAddDouble(index, element);
+    }
+
+    @Override
+    protected Double doSet(int index, Double element) {
+        return doSetDouble(index, element);
+    }
+
+    private void doAddDouble(int index, double value) {
+        insert(index);
+        array[index] = value;
+    }
+
+    private double doSetDouble(int index, double value) {
+        rangeCheck(index);
+        double old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+}
@@ -0,0 +1,140 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ObservableIntegerList;
+
+import java.util.Arrays;
+
+/**
+ * ObservableIntegerList default implementation.
+ */
+public class ObservableIntegerListImpl extends ObservablePrimitiveListBase<Integer, int[]>
+        implements ObservableIntegerList {
+
+    private static final int[] INITIAL = new int[0];
+
+    /**
+     * Creates empty observable integer list
+     */
+    public ObservableIntegerListImpl() {
+        super(INITIAL);
+    }
+
+    /**
+     * Creates observable integer list with copy of given initial values
+     *
+     * @param elements
+     *         initial values to copy to observable integer list
+     */
+    public ObservableIntegerListImpl(int... elements) {
+        super(elements.clone());
+    }
+
+    @Override
+    Integer box(int[] values, int index) {
+        return values[index];
+    }
+
+    @Override
+    public int getInt(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public int setInt(int index, int value) {
+        int old = doSetInt(index, value);
+        if (hasListeners()) {
+            beginChange();
+            nextSet(index, old);
+            endChange();
+        }
+        return old;
+    }
+
+    @Override
+    public void addInt(int value) {
+        addInt(size, value);
+    }
+
+    @Override
+    public void addInt(int index, int value) {
+        doAddInt(index, value);
+        fireAdded(index, index + 1);
+    }
+
+    @Override
+    public void addAllInts(int... elements) {
+        addAllInts(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAllInts(int[] src, int srcIndex, int length) {
+        addAllArray(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAllInts(int... elements) {
+        setAllArray(elements);
+    }
+
+    @Override
+    public int indexOfInt(int value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = size - 1; i >= 0; i--) {
+                if (array[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    protected void doAdd(int index, Integer element) {
+        doAddInt(index, element);
+    }
+
+    @Override
+    protected Integer doSet(int index, Integer element) {
+        return doSetInt(index, element);
+    }
+
+    private void doAddInt(int index, int value) {
+        insert(index);
+        array[index] = value;
+    }
+
+    private int doSetInt(int index, int value) {
+        rangeCheck(index);
+        int old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+}
@@ -7,6 +7,7 @@ import io.github.vinccool96.observations.sun.collections.NonIterableChange.Simpl
 import io.github.vinccool96.observations.util.Callback;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * A List wrapper class that implements observability.
@@ -18,22 +19,20 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
 
     private final ElementObserver<E> elementObserver;
 
+    private final ElementIndex<E> elementIndex;
+
     public ObservableListWrapper(List<E> list) {
         backingList = list;
         elementObserver = null;
+        elementIndex = null;
     }
 
     public ObservableListWrapper(List<E> list, Callback<E, Observable[]> extractor) {
         backingList = list;
+        this.elementIndex = new ElementIndex<>();
         this.elementObserver = new ElementObserver<>(extractor, param -> observable -> {
             beginChange();
-            int i = 0;
-            final int size = size();
-            for (; i < size; ++i) {
-                if (get(i) == param) {
-                    nextUpdate(i);
-                }
-            }
+            elementIndex.forEachIndex(backingList, param, i -> nextUpdate(i));
             endChange();
         }, this);
         for (E e : backingList) {
@@ -57,6 +56,9 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
             elementObserver.attachListener(element);
         }
         backingList.add(index, element);
+        if (elementIndex != null) {
+            elementIndex.add(index, element);
+        }
     }
 
     @Override
@@ -65,6 +67,7 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
         if (elementObserver != null) {
             elementObserver.detachListener(removed);
             elementObserver.attachListener(element);
+            elementIndex.set(index, removed, element);
         }
         return removed;
     }
@@ -74,6 +77,7 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
         E removed = backingList.remove(index);
         if (elementObserver != null) {
             elementObserver.detachListener(removed);
+            elementIndex.remove(index, removed);
         }
         return removed;
     }
@@ -100,67 +104,134 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
 
     @Override
     public void clear() {
-        if (elementObserver != null) {
-            for (E e : this) {
-                elementObserver.detachListener(e);
-            }
-        }
-        if (hasListeners()) {
-            beginChange();
-            nextRemove(0, this);
-        }
-        backingList.clear();
-        ++modCount;
-        if (hasListeners()) {
-            endChange();
-        }
+        remove(0, size());
     }
 
     @Override
     public void remove(int fromIndex, int toIndex) {
-        beginChange();
-        for (int i = fromIndex; i < toIndex; ++i) {
-            remove(fromIndex);
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
         }
-        endChange();
+        BitSet bs = new BitSet(toIndex);
+        bs.set(fromIndex, toIndex);
+        removeMarked(bs);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        remove(fromIndex, toIndex);
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        beginChange();
         BitSet bs = new BitSet(c.size());
         for (int i = 0; i < size(); ++i) {
             if (c.contains(get(i))) {
                 bs.set(i);
             }
         }
-        if (!bs.isEmpty()) {
-            int cur = size();
-            while ((cur = bs.previousSetBit(cur - 1)) >= 0) {
-                remove(cur);
-            }
-        }
-        endChange();
-        return !bs.isEmpty();
+        return removeMarked(bs);
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        beginChange();
         BitSet bs = new BitSet(c.size());
         for (int i = 0; i < size(); ++i) {
             if (!c.contains(get(i))) {
                 bs.set(i);
             }
         }
-        if (!bs.isEmpty()) {
-            int cur = size();
-            while ((cur = bs.previousSetBit(cur - 1)) >= 0) {
-                remove(cur);
+        return removeMarked(bs);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        BitSet bs = new BitSet();
+        for (int i = 0; i < size(); ++i) {
+            if (filter.test(get(i))) {
+                bs.set(i);
+            }
+        }
+        return removeMarked(bs);
+    }
+
+    /**
+     * Removes every element whose index is set in {@code marked} in a single pass over the backing list. Each run of
+     * contiguous indexes is reported as one removed range, and the remaining elements are moved into place at once
+     * instead of shifting the tail of the list for every removed element.
+     *
+     * @param marked
+     *         the indexes of the elements to remove
+     *
+     * @return {@code true} if at least one element was removed
+     */
+    private boolean removeMarked(BitSet marked) {
+        final int first = marked.nextSetBit(0);
+        if (first < 0) {
+            return false;
+        }
+        beginChange();
+        try {
+            final int size = size();
+            if (hasListeners()) {
+                int removed = 0;
+                int from = first;
+                while (from >= 0) {
+                    int to = marked.nextClearBit(from);
+                    // the ranges are reported front to back, so the previous removals shift the next one
+                    nextRemove(from - removed, elements(from, to));
+                    removed += to - from;
+                    from = marked.nextSetBit(to);
+                }
+            }
+            if (elementObserver != null) {
+                for (int i = first; i >= 0; i = marked.nextSetBit(i + 1)) {
+                    elementObserver.detachListener(backingList.get(i));
+                }
+                elementIndex.removeMarked(marked);
+            }
+            if (backingList instanceof RandomAccess) {
+                int dest = first;
+                for (int i = marked.nextClearBit(first); i < size; i = marked.nextClearBit(i + 1)) {
+                    backingList.set(dest++, backingList.get(i));
+                }
+                backingList.subList(dest, size).clear();
+            } else if (backingList instanceof TreeList) {
+                // each range is cut out of the tree, from the last one so the indexes of the others don't move
+                int to = marked.length();
+                while (to > 0) {
+                    int from = marked.previousClearBit(to - 1) + 1;
+                    backingList.subList(from, to).clear();
+                    to = marked.previousSetBit(from - 1) + 1;
+                }
+            } else {
+                ListIterator<E> it = backingList.listIterator(first);
+                for (int i = first, last = marked.length(); i < last; ++i) {
+                    it.next();
+                    if (marked.get(i)) {
+                        it.remove();
+                    }
+                }
             }
+            ++modCount;
+        } finally {
+            endChange();
         }
-        endChange();
-        return !bs.isEmpty();
+        return true;
+    }
+
+    /**
+     * The elements of the backing list from {@code from} to {@code to}. They are copied in order from a
+     * {@link TreeList}, whose elements are slower to get one by one.
+     */
+    private List<E> elements(int from, int to) {
+        if (backingList instanceof TreeList) {
+            List<E> elements = new ArrayList<>(to - from);
+            ((TreeList<E>) backingList).forEach(from, to, elements::add);
+            return elements;
+        }
+        return backingList.subList(from, to);
     }
 
     private SortHelper helper;
@@ -172,6 +243,9 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
             return;
         }
         int[] perm = getSortHelper().sort((List<? extends Comparable>) backingList);
+        if (elementIndex != null) {
+            elementIndex.permute(0, perm.length, i -> perm[i]);
+        }
         fireChange(new SimplePermutationChange<>(0, size(), perm, this));
     }
 
@@ -181,6 +255,9 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E>
             return;
         }
         int[] perm = getSortHelper().sort(backingList, comparator);
+        if (elementIndex != null) {
+            elementIndex.permute(0, perm.length, i -> perm[i]);
+        }
         fireChange(new SimplePermutationChange<>(0, size(), perm, this));
     }
 
@@ -0,0 +1,140 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ObservableLongList;
+
+import java.util.Arrays;
+
+/**
+ * ObservableLongList default implementation.
+ */
+public class ObservableLongListImpl extends ObservablePrimitiveListBase<Long, long[]>
+        implements ObservableLongList {
+
+    private static final long[] INITIAL = new long[0];
+
+    /**
+     * Creates empty observable long list
+     */
+    public ObservableLongListImpl() {
+        super(INITIAL);
+    }
+
+    /**
+     * Creates observable long list with copy of given initial values
+     *
+     * @param elements
+     *         initial values to copy to observable long list
+     */
+    public ObservableLongListImpl(long... elements) {
+        super(elements.clone());
+    }
+
+    @Override
+    Long box(long[] values, int index) {
+        return values[index];
+    }
+
+    @Override
+    public long getLong(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public long setLong(int index, long value) {
+        long old = doSetLong(index, value);
+        if (hasListeners()) {
+            beginChange();
+            nextSet(index, old);
+            endChange();
+        }
+        return old;
+    }
+
+    @Override
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    @Override
+    public void addLong(int index, long value) {
+        doAddLong(index, value);
+        fireAdded(index, index + 1);
+    }
+
+    @Override
+    public void addAllLongs(long... elements) {
+        addAllLongs(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAllLongs(long[] src, int srcIndex, int length) {
+        addAllArray(src, srcIndex, length);
+    }
+
+    @Override
+    public void setAllLongs(long... elements) {
+        setAllArray(elements);
+    }
+
+    @Override
+    public int indexOfLong(long value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Long) {
+            long value = (Long) o;
+            for (int i = size - 1; i >= 0; i--) {
+                if (array[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    protected void doAdd(int index, Long element) {
+        doAddLong(index, element);
+    }
+
+    @Override
+    protected Long doSet(int index, Long element) {
+        return doSetLong(index, element);
+    }
+
+    private void doAddLong(int index, long value) {
+        insert(index);
+        array[index] = value;
+    }
+
+    private long doSetLong(int index, long value) {
+        rangeCheck(index);
+        long old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+}
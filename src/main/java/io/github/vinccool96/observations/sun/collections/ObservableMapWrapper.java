@@ -4,12 +4,8 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.MapChangeListener;
 import io.github.vinccool96.observations.collections.MapChangeListener.Change;
 import io.github.vinccool96.observations.collections.ObservableMap;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * A Map wrapper class that implements observability.
@@ -28,6 +24,10 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
     private final Map<K, V> backingMap;
 
+    private BulkChange bulkChange;
+
+    private int changeDepth;
+
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
     }
@@ -97,10 +97,109 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
     }
 
+    /**
+     * The change fired at the end of a batch, made of the entries of every elementary change of the batch, in order.
+     */
+    private class BulkChange extends Change<K, V> {
+
+        private final List<SimpleChange> changes = new ArrayList<>();
+
+        private int cursor = -1;
+
+        public BulkChange() {
+            super(ObservableMapWrapper.this);
+        }
+
+        private SimpleChange current() {
+            return changes.get(Math.max(cursor, 0));
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor + 1 < changes.size()) {
+                cursor++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return current().wasAdded;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return current().wasRemoved;
+        }
+
+        @Override
+        public K getKey() {
+            return current().key;
+        }
+
+        @Override
+        public V getValueAdded() {
+            return current().added;
+        }
+
+        @Override
+        public V getValueRemoved() {
+            return current().old;
+        }
+
+        @Override
+        public String toString() {
+            return changes.toString();
+        }
+
+    }
+
     protected void callObservers(Change<K, V> change) {
         MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    private void fireChange(K key, V old, V added, boolean wasAdded, boolean wasRemoved) {
+        final SimpleChange change = new SimpleChange(key, old, added, wasAdded, wasRemoved);
+        if (changeDepth > 0) {
+            if (bulkChange == null) {
+                bulkChange = new BulkChange();
+            }
+            bulkChange.changes.add(change);
+        } else {
+            callObservers(change);
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endChange()}, the changes made to the map are not reported
+     * to the listeners. Batches can be nested.
+     */
+    public void beginChange() {
+        changeDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange()}. When the outermost batch ends, the listeners are
+     * notified once, with a change containing every entry that changed during the batch.
+     */
+    public void endChange() {
+        if (changeDepth <= 0) {
+            throw new IllegalStateException("Called endChange before beginChange");
+        }
+        changeDepth--;
+        if (changeDepth == 0 && bulkChange != null) {
+            final BulkChange change = bulkChange;
+            bulkChange = null;
+            callObservers(change.changes.size() == 1 ? change.changes.get(0) : change);
+        }
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         if (!isInvalidationListenerAlreadyAdded(listener)) {
@@ -117,8 +216,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+        return MapListenerHelper.containsListener(listenerHelper, listener);
     }
 
     @Override
@@ -137,8 +235,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getMapChangeListeners(), listener);
+        return MapListenerHelper.containsListener(listenerHelper, listener);
     }
 
     @Override
@@ -172,11 +269,11 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
         if (backingMap.containsKey(key)) {
             ret = backingMap.put(key, value);
             if (ret == null && value != null || ret != null && !ret.equals(value)) {
-                callObservers(new SimpleChange(key, ret, value, true, true));
+                fireChange(key, ret, value, true, true);
             }
         } else {
             ret = backingMap.put(key, value);
-            callObservers(new SimpleChange(key, ret, value, true, false));
+            fireChange(key, ret, value, true, false);
         }
         return ret;
     }
@@ -188,25 +285,35 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
             return null;
         }
         V ret = backingMap.remove(key);
-        callObservers(new SimpleChange((K) key, ret, null, false, true));
+        fireChange((K) key, ret, null, false, true);
         return ret;
     }
 
     @Override
     public void putAll(Map<? extends K, ? extends V> m) {
-        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
-            put(e.getKey(), e.getValue());
+        beginChange();
+        try {
+            for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+                put(e.getKey(), e.getValue());
+            }
+        } finally {
+            endChange();
         }
     }
 
     @Override
     public void clear() {
-        for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
-            Entry<K, V> e = i.next();
-            K key = e.getKey();
-            V val = e.getValue();
-            i.remove();
-            callObservers(new SimpleChange(key, val, null, false, true));
+        beginChange();
+        try {
+            for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
+                Entry<K, V> e = i.next();
+                K key = e.getKey();
+                V val = e.getValue();
+                i.remove();
+                fireChange(key, val, null, false, true);
+            }
+        } finally {
+            endChange();
         }
     }
 
@@ -292,7 +399,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
                 @Override
                 public void remove() {
                     entryIt.remove();
-                    callObservers(new SimpleChange(lastKey, lastValue, null, false, true));
+                    fireChange(lastKey, lastValue, null, false, true);
                 }
 
             };
@@ -339,15 +446,20 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
         private boolean removeRetain(Collection<?> c, boolean remove) {
             boolean removed = false;
-            for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
-                Entry<K, V> e = i.next();
-                if (remove == c.contains(e.getKey())) {
-                    removed = true;
-                    K key = e.getKey();
-                    V value = e.getValue();
-                    i.remove();
-                    callObservers(new SimpleChange(key, value, null, false, true));
+            beginChange();
+            try {
+                for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
+                    Entry<K, V> e = i.next();
+                    if (remove == c.contains(e.getKey())) {
+                        removed = true;
+                        K key = e.getKey();
+                        V value = e.getValue();
+                        i.remove();
+                        fireChange(key, value, null, false, true);
+                    }
                 }
+            } finally {
+                endChange();
             }
             return removed;
         }
@@ -422,7 +534,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
                 @Override
                 public void remove() {
                     entryIt.remove();
-                    callObservers(new SimpleChange(lastKey, lastValue, null, false, true));
+                    fireChange(lastKey, lastValue, null, false, true);
                 }
 
             };
@@ -471,15 +583,20 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
         private boolean removeRetain(Collection<?> c, boolean remove) {
             boolean removed = false;
-            for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
-                Entry<K, V> e = i.next();
-                if (remove == c.contains(e.getValue())) {
-                    removed = true;
-                    K key = e.getKey();
-                    V value = e.getValue();
-                    i.remove();
-                    callObservers(new SimpleChange(key, value, null, false, true));
+            beginChange();
+            try {
+                for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
+                    Entry<K, V> e = i.next();
+                    if (remove == c.contains(e.getValue())) {
+                        removed = true;
+                        K key = e.getKey();
+                        V value = e.getValue();
+                        i.remove();
+                        fireChange(key, value, null, false, true);
+                    }
                 }
+            } finally {
+                endChange();
             }
             return removed;
         }
@@ -532,7 +649,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
         @Override
         public V setValue(V value) {
             V oldValue = backingEntry.setValue(value);
-            callObservers(new SimpleChange(getKey(), oldValue, value, true, true));
+            fireChange(getKey(), oldValue, value, true, true);
             return oldValue;
         }
 
@@ -607,7 +724,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
                 @Override
                 public void remove() {
                     backingIt.remove();
-                    callObservers(new SimpleChange(lastKey, lastValue, null, false, true));
+                    fireChange(lastKey, lastValue, null, false, true);
                 }
             };
         }
@@ -643,7 +760,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
             boolean ret = backingMap.entrySet().remove(o);
             if (ret) {
                 Entry<K, V> entry = (Entry<K, V>) o;
-                callObservers(new SimpleChange(entry.getKey(), entry.getValue(), null, false, true));
+                fireChange(entry.getKey(), entry.getValue(), null, false, true);
             }
             return ret;
         }
@@ -665,15 +782,20 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V> {
 
         private boolean removeRetain(Collection<?> c, boolean remove) {
             boolean removed = false;
-            for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
-                Entry<K, V> e = i.next();
-                if (remove == c.contains(e)) {
-                    removed = true;
-                    K key = e.getKey();
-                    V value = e.getValue();
-                    i.remove();
-                    callObservers(new SimpleChange(key, value, null, false, true));
+            beginChange();
+            try {
+                for (Iterator<Entry<K, V>> i = backingMap.entrySet().iterator(); i.hasNext(); ) {
+                    Entry<K, V> e = i.next();
+                    if (remove == c.contains(e)) {
+                        removed = true;
+                        K key = e.getKey();
+                        V value = e.getValue();
+                        i.remove();
+                        fireChange(key, value, null, false, true);
+                    }
                 }
+            } finally {
+                endChange();
             }
             return removed;
         }
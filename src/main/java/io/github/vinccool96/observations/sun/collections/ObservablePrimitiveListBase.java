@@ -0,0 +1,214 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ModifiableObservableListBase;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Base class of the ObservableList implementations backed by an array of primitives, like
+ * {@link ObservableIntegerListImpl}. It manages the array and its size, and notifies the listeners of the changes that
+ * don't depend on the type of the elements. The removed elements of a change are copied and boxed only when the list
+ * has listeners.
+ *
+ * @param <E>
+ *         the boxed type of the elements
+ * @param <A>
+ *         the type of the array of primitives
+ */
+public abstract class ObservablePrimitiveListBase<E, A> extends ModifiableObservableListBase<E>
+        implements RandomAccess {
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    A array;
+
+    int size;
+
+    ObservablePrimitiveListBase(A array) {
+        this.array = array;
+        this.size = Array.getLength(array);
+    }
+
+    /**
+     * Boxes an element of an array of primitives.
+     *
+     * @param values
+     *         the array
+     * @param index
+     *         the index of the element
+     *
+     * @return the boxed element
+     */
+    abstract E box(A values, int index);
+
+    @Override
+    public E get(int index) {
+        rangeCheck(index);
+        return box(array, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code length} elements of {@code src} at the end of this list.
+     */
+    void addAllArray(A src, int srcIndex, int length) {
+        int srcLength = Array.getLength(src);
+        if (srcIndex < 0 || length < 0 || srcIndex + length > srcLength) {
+            throw new ArrayIndexOutOfBoundsException(srcLength);
+        }
+        if (length == 0) {
+            return;
+        }
+        growCapacity(length);
+        System.arraycopy(src, srcIndex, array, size, length);
+        size += length;
+        fireAdded(size - length, size);
+    }
+
+    /**
+     * Replaces the elements of this list by a copy of {@code elements}.
+     */
+    void setAllArray(A elements) {
+        A old = array;
+        int oldSize = size;
+        array = copyOf(elements, 0, Array.getLength(elements));
+        size = Array.getLength(elements);
+        ++modCount;
+        if (hasListeners()) {
+            beginChange();
+            nextReplace(0, size, boxed(old, oldSize));
+            endChange();
+        }
+    }
+
+    /**
+     * Makes room for an element at {@code index}, which the caller then stores in {@link #array}.
+     */
+    void insert(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        growCapacity(1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        size++;
+    }
+
+    void fireAdded(int from, int to) {
+        beginChange();
+        nextAdd(from, to);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        rangeCheck(index);
+        E old = box(array, index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        remove(0, size);
+    }
+
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> removed = hasListeners() ? boxed(copyOf(array, fromIndex, toIndex - fromIndex), toIndex - fromIndex)
+                : null;
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        ++modCount;
+        if (removed != null) {
+            beginChange();
+            nextRemove(fromIndex, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        remove(fromIndex, toIndex);
+    }
+
+    void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void growCapacity(int length) {
+        int minCapacity = size + length;
+        int oldCapacity = Array.getLength(array);
+        if (minCapacity > oldCapacity) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            if (newCapacity > MAX_ARRAY_SIZE) {
+                newCapacity = hugeCapacity(minCapacity);
+            }
+            A grown = newArray(newCapacity);
+            System.arraycopy(array, 0, grown, 0, size);
+            array = grown;
+        } else if (length > 0 && minCapacity < 0) {
+            throw new OutOfMemoryError(); // overflow
+        }
+    }
+
+    private static int hugeCapacity(int minCapacity) {
+        if (minCapacity < 0) { // overflow
+            throw new OutOfMemoryError();
+        }
+        return (minCapacity > MAX_ARRAY_SIZE) ? Integer.MAX_VALUE : MAX_ARRAY_SIZE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private A newArray(int length) {
+        return (A) Array.newInstance(array.getClass().getComponentType(), length);
+    }
+
+    private A copyOf(A values, int from, int length) {
+        A copy = newArray(length);
+        System.arraycopy(values, from, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * A view of the first {@code length} elements of {@code values}, boxed when they are read.
+     */
+    private List<E> boxed(A values, int length) {
+        return new AbstractList<E>() {
+
+            @Override
+            public E get(int index) {
+                if (index < 0 || index >= length) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+                }
+                return box(values, index);
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+
+        };
+    }
+
+}
@@ -4,11 +4,8 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.ObservableSet;
 import io.github.vinccool96.observations.collections.SetChangeListener;
 import io.github.vinccool96.observations.collections.SetChangeListener.Change;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.*;
 
 /**
  * A Set wrapper class that implements observability.
@@ -20,6 +17,10 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     private SetListenerHelper<E> listenerHelper;
 
+    private BulkChange bulkChange;
+
+    private int changeDepth;
+
     /**
      * Creates new instance of ObservableSet that wraps the particular set specified by the parameter set.
      *
@@ -102,10 +103,103 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     }
 
+    /**
+     * The change fired at the end of a batch, made of the elementary changes of the batch, in order.
+     */
+    private class BulkChange extends Change<E> {
+
+        private final List<Change<E>> changes = new ArrayList<>();
+
+        private int cursor = -1;
+
+        public BulkChange() {
+            super(ObservableSetWrapper.this);
+        }
+
+        private Change<E> current() {
+            return changes.get(Math.max(cursor, 0));
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor + 1 < changes.size()) {
+                cursor++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return current().wasAdded();
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return current().wasRemoved();
+        }
+
+        @Override
+        public E getElementAdded() {
+            return current().getElementAdded();
+        }
+
+        @Override
+        public E getElementRemoved() {
+            return current().getElementRemoved();
+        }
+
+        @Override
+        public String toString() {
+            return changes.toString();
+        }
+
+    }
+
     private void callObservers(Change<E> change) {
         SetListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    private void fireChange(Change<E> change) {
+        if (changeDepth > 0) {
+            if (bulkChange == null) {
+                bulkChange = new BulkChange();
+            }
+            bulkChange.changes.add(change);
+        } else {
+            callObservers(change);
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endChange()}, the changes made to the set are not reported
+     * to the listeners. Batches can be nested.
+     */
+    public void beginChange() {
+        changeDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange()}. When the outermost batch ends, the listeners are
+     * notified once, with a change containing every element that was added or removed during the batch.
+     */
+    public void endChange() {
+        if (changeDepth <= 0) {
+            throw new IllegalStateException("Called endChange before beginChange");
+        }
+        changeDepth--;
+        if (changeDepth == 0 && bulkChange != null) {
+            final BulkChange change = bulkChange;
+            bulkChange = null;
+            callObservers(change.changes.size() == 1 ? change.changes.get(0) : change);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -128,8 +222,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+        return SetListenerHelper.containsListener(listenerHelper, listener);
     }
 
     /**
@@ -154,8 +247,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     @Override
     public boolean isSetChangeListenerAlreadyAdded(SetChangeListener<? super E> listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getSetChangeListeners(), listener);
+        return SetListenerHelper.containsListener(listenerHelper, listener);
     }
 
     /**
@@ -227,7 +319,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
             @Override
             public void remove() {
                 backingIt.remove();
-                callObservers(new SimpleRemoveChange(lastElement));
+                fireChange(new SimpleRemoveChange(lastElement));
             }
         };
     }
@@ -276,7 +368,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     public boolean add(E o) {
         boolean ret = backingSet.add(o);
         if (ret) {
-            callObservers(new SimpleAddChange(o));
+            fireChange(new SimpleAddChange(o));
         }
         return ret;
     }
@@ -296,7 +388,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     public boolean remove(Object o) {
         boolean ret = backingSet.remove(o);
         if (ret) {
-            callObservers(new SimpleRemoveChange((E) o));
+            fireChange(new SimpleRemoveChange((E) o));
         }
         return ret;
     }
@@ -317,8 +409,8 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     }
 
     /**
-     * Adds the elements from the specified collection. Observers are called for each elements that was not already
-     * present in the set.
+     * Adds the elements from the specified collection. Observers are called once, with a change containing each
+     * element that was not already present in the set.
      *
      * @param c
      *         collection containing elements to be added to this set
@@ -330,15 +422,20 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     @Override
     public boolean addAll(Collection<? extends E> c) {
         boolean ret = false;
-        for (E element : c) {
-            ret |= add(element);
+        beginChange();
+        try {
+            for (E element : c) {
+                ret |= add(element);
+            }
+        } finally {
+            endChange();
         }
         return ret;
     }
 
     /**
-     * Keeps only elements that are included the specified collection. All other elements are removed. For each removed
-     * element all the observers are called.
+     * Keeps only elements that are included the specified collection. All other elements are removed. The observers are
+     * called once, with a change containing each removed element.
      *
      * @param c
      *         collection containing elements to be kept in this set
@@ -353,8 +450,8 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     }
 
     /**
-     * Removes all the elements that are contained in the specified collection. Observers are called for each removed
-     * element.
+     * Removes all the elements that are contained in the specified collection. Observers are called once, with a change
+     * containing each removed element.
      *
      * @param c
      *         collection containing elements to be removed from this set
@@ -370,28 +467,38 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     private boolean removeRetain(Collection<?> c, boolean remove) {
         boolean removed = false;
-        for (Iterator<E> i = backingSet.iterator(); i.hasNext(); ) {
-            E element = i.next();
-            if (remove == c.contains(element)) {
-                removed = true;
-                i.remove();
-                callObservers(new SimpleRemoveChange(element));
+        beginChange();
+        try {
+            for (Iterator<E> i = backingSet.iterator(); i.hasNext(); ) {
+                E element = i.next();
+                if (remove == c.contains(element)) {
+                    removed = true;
+                    i.remove();
+                    fireChange(new SimpleRemoveChange(element));
+                }
             }
+        } finally {
+            endChange();
         }
         return removed;
     }
 
     /**
-     * Removes all the elements from this set. Observers are called for each element.
+     * Removes all the elements from this set. Observers are called once, with a change containing each element.
      *
      * @see Set in JDK API documentation
      */
     @Override
     public void clear() {
-        for (Iterator<E> i = backingSet.iterator(); i.hasNext(); ) {
-            E element = i.next();
-            i.remove();
-            callObservers(new SimpleRemoveChange(element));
+        beginChange();
+        try {
+            for (Iterator<E> i = backingSet.iterator(); i.hasNext(); ) {
+                E element = i.next();
+                i.remove();
+                fireChange(new SimpleRemoveChange(element));
+            }
+        } finally {
+            endChange();
         }
     }
 
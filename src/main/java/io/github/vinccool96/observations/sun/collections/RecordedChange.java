@@ -0,0 +1,115 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ListChangeListener.Change;
+import io.github.vinccool96.observations.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change that copies every sub-change of another change, including the added elements. It stays valid after the
+ * source list is modified again, so it can be fired after the modification that produced it has been released.
+ *
+ * @param <E>
+ *         the type of the elements of the list
+ */
+public class RecordedChange<E> extends Change<E> {
+
+    private static final int[] EMPTY_PERM = new int[0];
+
+    private final List<SubChange<E>> subChanges = new ArrayList<>();
+
+    private int cursor = -1;
+
+    public RecordedChange(ObservableList<E> list, Change<? extends E> change) {
+        super(list);
+        change.reset();
+        while (change.next()) {
+            SubChange<E> sub = new SubChange<>();
+            sub.from = change.getFrom();
+            sub.to = change.getTo();
+            if (change.wasPermutated()) {
+                sub.perm = new int[sub.to - sub.from];
+                for (int i = sub.from; i < sub.to; i++) {
+                    sub.perm[i - sub.from] = change.getPermutation(i);
+                }
+            } else {
+                sub.perm = EMPTY_PERM;
+                sub.updated = change.wasUpdated();
+                sub.removed = change.wasRemoved() ? new ArrayList<>(change.getRemoved()) : Collections.emptyList();
+                sub.added = change.wasAdded() ? new ArrayList<>(change.getAddedSubList()) : Collections.emptyList();
+            }
+            subChanges.add(sub);
+        }
+        change.reset();
+    }
+
+    private static class SubChange<E> {
+
+        private int from;
+
+        private int to;
+
+        private int[] perm;
+
+        private boolean updated;
+
+        private List<E> removed = Collections.emptyList();
+
+        private List<E> added = Collections.emptyList();
+
+    }
+
+    private SubChange<E> current() {
+        if (cursor < 0 || cursor >= subChanges.size()) {
+            throw new IllegalStateException(
+                    "Invalid Change state: next() must be called before inspecting the Change.");
+        }
+        return subChanges.get(cursor);
+    }
+
+    @Override
+    public boolean next() {
+        if (cursor < subChanges.size()) {
+            cursor++;
+        }
+        return cursor < subChanges.size();
+    }
+
+    @Override
+    public void reset() {
+        cursor = -1;
+    }
+
+    @Override
+    public int getFrom() {
+        return current().from;
+    }
+
+    @Override
+    public int getTo() {
+        return current().to;
+    }
+
+    @Override
+    public List<E> getRemoved() {
+        return Collections.unmodifiableList(current().removed);
+    }
+
+    @Override
+    public List<E> getAddedSubList() {
+        return Collections.unmodifiableList(current().added);
+    }
+
+    @Override
+    public boolean wasUpdated() {
+        return current().updated;
+    }
+
+    @Override
+    protected int[] getPermutation() {
+        return current().perm;
+    }
+
+}
@@ -12,6 +12,16 @@ public class SetAdapterChange<E> extends Change<E> {
         this.change = change;
     }
 
+    @Override
+    public boolean next() {
+        return change.next();
+    }
+
+    @Override
+    public void reset() {
+        change.reset();
+    }
+
     @Override
     public boolean wasAdded() {
         return change.wasAdded();
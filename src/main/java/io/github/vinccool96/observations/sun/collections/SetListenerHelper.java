@@ -4,6 +4,7 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.SetChangeListener;
 import io.github.vinccool96.observations.collections.SetChangeListener.Change;
 import io.github.vinccool96.observations.sun.binding.ExpressionHelperBase;
+import io.github.vinccool96.observations.sun.binding.ListenerIndex;
 import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.Arrays;
@@ -31,6 +32,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(SetListenerHelper<E> helper, InvalidationListener listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> SetListenerHelper<E> addListener(SetListenerHelper<E> helper,
             SetChangeListener<? super E> listener) {
         if (listener == null) {
@@ -47,6 +52,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
         return (helper == null) ? null : helper.removeListener(listener);
     }
 
+    public static <E> boolean containsListener(SetListenerHelper<E> helper, SetChangeListener<? super E> listener) {
+        return (helper != null) && helper.containsListener(listener);
+    }
+
     public static <E> void fireValueChangedEvent(SetListenerHelper<E> helper, Change<? extends E> change) {
         if (helper != null) {
             helper.fireValueChangedEvent(change);
@@ -64,10 +73,14 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract SetListenerHelper<E> removeListener(InvalidationListener listener);
 
+    protected abstract boolean containsListener(InvalidationListener listener);
+
     protected abstract SetListenerHelper<E> addListener(SetChangeListener<? super E> listener);
 
     protected abstract SetListenerHelper<E> removeListener(SetChangeListener<? super E> listener);
 
+    protected abstract boolean containsListener(SetChangeListener<? super E> listener);
+
     protected abstract void fireValueChangedEvent(Change<? extends E> change);
 
     public abstract InvalidationListener[] getInvalidationListeners();
@@ -114,6 +127,16 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return listener.equals(this.listener);
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return false;
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[]{this.listener};
@@ -156,6 +179,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent(Change<? extends E> change) {
+            change.reset();
             try {
                 listener.onChanged(change);
             } catch (Exception e) {
@@ -163,6 +187,16 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return false;
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return listener.equals(this.listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return new InvalidationListener[0];
@@ -185,6 +219,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
 
         private int changeSize;
 
+        private ListenerIndex invalidationIndex;
+
+        private ListenerIndex changeIndex;
+
         private boolean locked;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
@@ -215,13 +253,15 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (invalidationSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    invalidationSize = trim(invalidationSize, invalidationListeners, invalidationIndex);
                     if (invalidationSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
                 }
                 invalidationListeners[invalidationSize++] = listener;
+                invalidationIndex = ListenerIndex.added(invalidationIndex, invalidationListeners, invalidationSize,
+                        listener);
             }
             return this;
         }
@@ -237,6 +277,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                             }
                             invalidationListeners = null;
                             invalidationSize = 0;
+                            invalidationIndex = null;
                         } else if ((invalidationSize == 2) && (changeSize == 0)) {
                             return new SingleInvalidation<>(invalidationListeners[1 - index]);
                         } else {
@@ -249,6 +290,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, invalidationListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(invalidationIndex, listener);
                             invalidationSize--;
                             if (!locked) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
@@ -272,13 +314,14 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     final int newCapacity = (changeSize < oldCapacity) ? oldCapacity : (oldCapacity * 3) / 2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
+                    changeSize = trim(changeSize, changeListeners, changeIndex);
                     if (changeSize == oldCapacity) {
                         final int newCapacity = (oldCapacity * 3) / 2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
                 }
                 changeListeners[changeSize++] = listener;
+                changeIndex = ListenerIndex.added(changeIndex, changeListeners, changeSize, listener);
             }
             return this;
         }
@@ -294,6 +337,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                             }
                             changeListeners = null;
                             changeSize = 0;
+                            changeIndex = null;
                         } else if ((changeSize == 2) && (invalidationSize == 0)) {
                             return new SingleChange<>(changeListeners[1 - index]);
                         } else {
@@ -306,6 +350,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index + 1, changeListeners, index, numMoved);
                             }
+                            ListenerIndex.removed(changeIndex, listener);
                             changeSize--;
                             if (!locked) {
                                 changeListeners[changeSize] = null; // Let gc do its work
@@ -336,6 +381,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     }
                 }
                 for (int i = 0; i < curChangeSize; i++) {
+                    change.reset();
                     try {
                         curChangeList[i].onChanged(change);
                     } catch (Exception e) {
@@ -348,6 +394,16 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             }
         }
 
+        @Override
+        protected boolean containsListener(InvalidationListener listener) {
+            return ListenerIndex.contains(invalidationIndex, invalidationListeners, invalidationSize, listener);
+        }
+
+        @Override
+        protected boolean containsListener(SetChangeListener<? super E> listener) {
+            return ListenerIndex.contains(changeIndex, changeListeners, changeSize, listener);
+        }
+
         @Override
         public InvalidationListener[] getInvalidationListeners() {
             return ArrayUtils.getInstance().clone(this.invalidationListeners, InvalidationListener.class);
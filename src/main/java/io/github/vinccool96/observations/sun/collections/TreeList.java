@@ -0,0 +1,273 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A list backed by a balanced binary tree (an AVL tree where every node knows the size of its subtree), so {@code get},
+ * {@code set}, {@code add} and {@code remove} at any index take {@code O(log n)} time. It trades some of the speed of
+ * an {@code ArrayList} at the ends of the list for cheap insertions and removals in the middle of a large list.
+ *
+ * @param <E>
+ *         the type of the elements contained in the list
+ */
+public class TreeList<E> extends AbstractList<E> {
+
+    private Node<E> root;
+
+    public TreeList() {
+    }
+
+    public TreeList(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        root = build(elements, 0, elements.length);
+    }
+
+    private static final class Node<E> {
+
+        private E value;
+
+        private Node<E> left;
+
+        private Node<E> right;
+
+        private int height;
+
+        private int size;
+
+        private Node(E value) {
+            this.value = value;
+            this.height = 1;
+            this.size = 1;
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node<E> node = new Node<>((E) elements[mid]);
+        node.left = build(elements, from, mid);
+        node.right = build(elements, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static <E> Node<E> balance(Node<E> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<E> node(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return node(index).value;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Node<E> node = node(index);
+        E old = node.value;
+        node.value = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        root = insert(root, index, element);
+        modCount++;
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            node.left = insert(node.left, index, element);
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, element);
+        }
+        return balance(node);
+    }
+
+    @Override
+    public E remove(int index) {
+        Node<E> node = node(index);
+        E old = node.value;
+        root = delete(root, index);
+        modCount++;
+        return old;
+    }
+
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else if (index > leftSize) {
+            node.right = delete(node.right, index - leftSize - 1);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            // replaces the removed node by the first node of its right subtree
+            Node<E> right = node.right;
+            Node<E> first = right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            first.right = delete(right, 0);
+            first.left = node.left;
+            node = first;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, so
+     * {@code subList(fromIndex, toIndex).clear()} takes {@code O(log n)} time per removed element instead of walking
+     * the list with an iterator.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == size()) {
+            root = null;
+        } else {
+            for (int i = fromIndex; i < toIndex; i++) {
+                root = delete(root, fromIndex);
+            }
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        forEach(root, action);
+    }
+
+    private static <E> void forEach(Node<E> node, Consumer<? super E> action) {
+        while (node != null) {
+            forEach(node.left, action);
+            action.accept(node.value);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Performs the given action for each element from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, in
+     * order. It takes {@code O(log n)} time plus the number of elements in the range.
+     *
+     * @param fromIndex
+     *         the index of the first element
+     * @param toIndex
+     *         the index after the last element
+     * @param action
+     *         the action to be performed for each element
+     */
+    public void forEach(int fromIndex, int toIndex, Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+        }
+        forEach(root, fromIndex, toIndex, action);
+    }
+
+    private static <E> void forEach(Node<E> node, int from, int to, Consumer<? super E> action) {
+        // from and to are relative to the subtree of node
+        while (node != null && from < to) {
+            int leftSize = size(node.left);
+            if (from < leftSize) {
+                forEach(node.left, from, Math.min(to, leftSize), action);
+            }
+            if (from <= leftSize && leftSize < to) {
+                action.accept(node.value);
+            }
+            from = Math.max(from - leftSize - 1, 0);
+            to -= leftSize + 1;
+            node = node.right;
+        }
+    }
+
+}
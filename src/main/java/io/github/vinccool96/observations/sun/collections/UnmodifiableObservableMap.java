@@ -6,7 +6,6 @@ import io.github.vinccool96.observations.collections.MapChangeListener.Change;
 import io.github.vinccool96.observations.collections.ObservableMap;
 import io.github.vinccool96.observations.collections.WeakMapChangeListener;
 import io.github.vinccool96.observations.sun.collections.annotations.ReturnsUnmodifiableCollection;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.AbstractMap;
 import java.util.Collection;
@@ -57,8 +56,7 @@ public class UnmodifiableObservableMap<K, V> extends AbstractMap<K, V> implement
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getInvalidationListeners(), listener);
+        return MapListenerHelper.containsListener(listenerHelper, listener);
     }
 
     @Override
@@ -70,15 +68,14 @@ public class UnmodifiableObservableMap<K, V> extends AbstractMap<K, V> implement
 
     @Override
     public void removeListener(MapChangeListener<? super K, ? super V> observer) {
-        if (isMapChangeListenerAlreadyAdded(listener)) {
+        if (isMapChangeListenerAlreadyAdded(observer)) {
             listenerHelper = MapListenerHelper.removeListener(listenerHelper, observer);
         }
     }
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return listenerHelper != null &&
-                ArrayUtils.getInstance().contains(listenerHelper.getMapChangeListeners(), listener);
+        return MapListenerHelper.containsListener(listenerHelper, listener);
     }
 
     @Override
@@ -4,6 +4,7 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.InvalidationListenerMock;
 import io.github.vinccool96.observations.beans.property.BooleanProperty;
 import io.github.vinccool96.observations.beans.property.SimpleBooleanProperty;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableBooleanValue;
 import org.junit.Before;
@@ -384,6 +385,22 @@ public class BindingsBooleanTest {
             return false;
         }
 
+        @Override
+        public void addBooleanChangeListener(BooleanChangeListener listener) {
+            // not used
+        }
+
+        @Override
+        public void removeBooleanChangeListener(BooleanChangeListener listener) {
+            // not used
+        }
+
+        @Override
+        public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+            // not used
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             if ((this.listener != null) && !this.listener.equals(listener)) {
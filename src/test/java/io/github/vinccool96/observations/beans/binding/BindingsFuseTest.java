@@ -0,0 +1,155 @@
+package io.github.vinccool96.observations.beans.binding;
+
+import io.github.vinccool96.observations.beans.InvalidationListenerMock;
+import io.github.vinccool96.observations.beans.property.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BindingsFuseTest {
+
+    private static final float EPSILON_FLOAT = 1e-5f;
+
+    private static final double EPSILON_DOUBLE = 1e-10;
+
+    private IntegerProperty i1;
+
+    private IntegerProperty i2;
+
+    private LongProperty l1;
+
+    private FloatProperty f1;
+
+    private DoubleProperty d1;
+
+    private InvalidationListenerMock observer;
+
+    @Before
+    public void setUp() {
+        i1 = new SimpleIntegerProperty(7);
+        i2 = new SimpleIntegerProperty(2);
+        l1 = new SimpleLongProperty(3L);
+        f1 = new SimpleFloatProperty(1.5f);
+        d1 = new SimpleDoubleProperty(0.25);
+        observer = new InvalidationListenerMock();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFuse_Null() {
+        Bindings.fuse(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAdd_Null() {
+        Bindings.fuse(i1).add(null);
+    }
+
+    @Test
+    public void testInteger() {
+        final NumberBinding fused = Bindings.fuse(i1).add(i2).multiply(3).divide(i2).negate().toBinding();
+        final NumberBinding chained = i1.add(i2).multiply(3).divide(i2).negate();
+        assertTrue(fused instanceof IntegerBinding);
+        assertEquals(chained.intValue(), fused.intValue());
+        DependencyUtils.checkDependencies(fused.getDependencies(), i1, i2);
+
+        fused.addListener(observer);
+        i2.set(4);
+        observer.check(fused, 1);
+        assertEquals(chained.intValue(), fused.intValue());
+        i1.set(-13);
+        observer.check(fused, 1);
+        assertEquals(chained.intValue(), fused.intValue());
+    }
+
+    @Test
+    public void testIntegerOverflow() {
+        i1.set(Integer.MAX_VALUE);
+        final NumberBinding fused = Bindings.fuse(i1).add(i2).add(l1).toBinding();
+        final NumberBinding chained = i1.add(i2).add(l1);
+        assertTrue(fused instanceof LongBinding);
+        assertEquals(chained.longValue(), fused.longValue());
+    }
+
+    @Test
+    public void testIntegerNegationOverflow() {
+        i1.set(Integer.MIN_VALUE);
+        final NumberBinding fused = Bindings.fuse(i1).negate().add(0L).toBinding();
+        final NumberBinding chained = Bindings.negate(i1).add(0L);
+        assertTrue(fused instanceof LongBinding);
+        assertEquals(-2147483648L, fused.longValue());
+        assertEquals(chained.longValue(), fused.longValue());
+    }
+
+    @Test
+    public void testLong() {
+        final NumberBinding fused = Bindings.fuse(i1).subtract(l1).multiply(i2).divide(5L).toBinding();
+        final NumberBinding chained = i1.subtract(l1).multiply(i2).divide(5L);
+        assertTrue(fused instanceof LongBinding);
+        assertEquals(chained.longValue(), fused.longValue());
+        DependencyUtils.checkDependencies(fused.getDependencies(), i1, l1, i2);
+
+        l1.set(-11L);
+        assertEquals(chained.longValue(), fused.longValue());
+    }
+
+    @Test
+    public void testFloat() {
+        final NumberBinding fused = Bindings.fuse(i1).divide(i2).add(f1).multiply(l1).toBinding();
+        final NumberBinding chained = i1.divide(i2).add(f1).multiply(l1);
+        assertTrue(fused instanceof FloatBinding);
+        assertEquals(chained.floatValue(), fused.floatValue(), EPSILON_FLOAT);
+
+        f1.set(-2.75f);
+        assertEquals(chained.floatValue(), fused.floatValue(), EPSILON_FLOAT);
+    }
+
+    @Test
+    public void testDouble() {
+        final NumberBinding fused = Bindings.fuse(f1).multiply(d1).subtract(i1).divide(0.5).negate().toBinding();
+        final NumberBinding chained = f1.multiply(d1).subtract(i1).divide(0.5).negate();
+        assertTrue(fused instanceof DoubleBinding);
+        assertEquals(chained.doubleValue(), fused.doubleValue(), EPSILON_DOUBLE);
+        DependencyUtils.checkDependencies(fused.getDependencies(), f1, d1, i1);
+
+        fused.addListener(observer);
+        d1.set(3.5);
+        observer.check(fused, 1);
+        assertEquals(chained.doubleValue(), fused.doubleValue(), EPSILON_DOUBLE);
+    }
+
+    @Test
+    public void testRepeatedOperand() {
+        final NumberBinding fused = Bindings.fuse(i1).multiply(i1).add(i1).toBinding();
+        assertEquals(56, fused.intValue());
+        DependencyUtils.checkDependencies(fused.getDependencies(), i1);
+
+        fused.addListener(observer);
+        i1.set(3);
+        observer.check(fused, 1);
+        assertEquals(12, fused.intValue());
+    }
+
+    @Test
+    public void testDispose() {
+        final NumberBinding fused = Bindings.fuse(i1).add(d1).toBinding();
+        fused.addListener(observer);
+        fused.getValue();
+        fused.dispose();
+        i1.set(9);
+        d1.set(1.0);
+        observer.check(null, 0);
+    }
+
+    @Test
+    public void testFork() {
+        final FusedNumberExpression base = Bindings.fuse(i1).add(i2);
+        final NumberBinding sum = base.toBinding();
+        final NumberBinding product = base.multiply(d1).toBinding();
+        assertTrue(sum instanceof IntegerBinding);
+        assertTrue(product instanceof DoubleBinding);
+        assertEquals(9, sum.intValue());
+        assertEquals(2.25, product.doubleValue(), EPSILON_DOUBLE);
+    }
+
+}
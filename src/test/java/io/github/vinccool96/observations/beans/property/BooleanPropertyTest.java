@@ -1,6 +1,7 @@
 package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ErrorLoggingUtility;
@@ -200,6 +201,22 @@ public class BooleanPropertyTest {
             return false;
         }
 
+        @Override
+        public void addBooleanChangeListener(BooleanChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public void removeBooleanChangeListener(BooleanChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+            fail("Not in use");
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             fail("Not in use");
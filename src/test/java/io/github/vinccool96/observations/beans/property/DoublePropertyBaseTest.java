@@ -2,11 +2,14 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListenerMock;
 import io.github.vinccool96.observations.beans.value.ChangeListenerMock;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableDoubleValueStub;
 import io.github.vinccool96.observations.beans.value.ObservableValueStub;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.*;
 
 public class DoublePropertyBaseTest {
@@ -81,6 +84,40 @@ public class DoublePropertyBaseTest {
         changeListener.check(null, UNDEFINED, UNDEFINED, 0);
     }
 
+    @Test
+    public void testDoubleChangeListener() {
+        final double[] values = {UNDEFINED, UNDEFINED};
+        final AtomicInteger counter = new AtomicInteger();
+        final DoubleChangeListener listener = (observable, oldValue, newValue) -> {
+            assertEquals(property, observable);
+            values[0] = oldValue;
+            values[1] = newValue;
+            counter.incrementAndGet();
+        };
+        property.addDoubleChangeListener(listener);
+        property.addDoubleChangeListener(listener);
+        assertTrue(property.isDoubleChangeListenerAlreadyAdded(listener));
+
+        property.set(Math.E);
+        assertEquals(1, counter.get());
+        assertEquals(0.0, values[0], EPSILON);
+        assertEquals(Math.E, values[1], EPSILON);
+
+        final ObservableDoubleValueStub v = new ObservableDoubleValueStub(Math.E);
+        property.bind(v);
+        assertEquals(1, counter.get());
+        v.set(Math.PI);
+        assertEquals(2, counter.get());
+        assertEquals(Math.E, values[0], EPSILON);
+        assertEquals(Math.PI, values[1], EPSILON);
+        property.unbind();
+
+        property.removeDoubleChangeListener(listener);
+        assertFalse(property.isDoubleChangeListenerAlreadyAdded(listener));
+        property.set(-Math.PI);
+        assertEquals(2, counter.get());
+    }
+
     @Test
     public void testLazySet() {
         attachInvalidationListener();
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ErrorLoggingUtility;
 import org.junit.AfterClass;
@@ -203,6 +204,22 @@ public class DoublePropertyTest {
             return false;
         }
 
+        @Override
+        public void addDoubleChangeListener(DoubleChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public void removeDoubleChangeListener(DoubleChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+            fail("Not in use");
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             fail("Not in use");
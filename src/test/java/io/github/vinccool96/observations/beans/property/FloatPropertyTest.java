@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ErrorLoggingUtility;
 import org.junit.AfterClass;
@@ -204,6 +205,22 @@ public class FloatPropertyTest {
             return false;
         }
 
+        @Override
+        public void addFloatChangeListener(FloatChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public void removeFloatChangeListener(FloatChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+            fail("Not in use");
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             fail("Not in use");
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import io.github.vinccool96.observations.beans.value.ObservableValue;
 import io.github.vinccool96.observations.sun.binding.ErrorLoggingUtility;
 import org.junit.AfterClass;
@@ -201,6 +202,22 @@ public class LongPropertyTest {
             return false;
         }
 
+        @Override
+        public void addLongChangeListener(LongChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public void removeLongChangeListener(LongChangeListener listener) {
+            fail("Not in use");
+        }
+
+        @Override
+        public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+            fail("Not in use");
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             fail("Not in use");
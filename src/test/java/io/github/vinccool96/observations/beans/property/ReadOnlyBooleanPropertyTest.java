@@ -1,6 +1,7 @@
 package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
+import io.github.vinccool96.observations.beans.value.BooleanChangeListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
 import org.junit.Test;
 
@@ -114,6 +115,19 @@ public class ReadOnlyBooleanPropertyTest {
             return false;
         }
 
+        @Override
+        public void addBooleanChangeListener(BooleanChangeListener listener) {
+        }
+
+        @Override
+        public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        }
+
+        @Override
+        public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+            return false;
+        }
+
     }
 
 }
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.DoubleChangeListener;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -101,6 +102,19 @@ public class ReadOnlyDoublePropertyTest {
             return false;
         }
 
+        @Override
+        public void addDoubleChangeListener(DoubleChangeListener listener) {
+        }
+
+        @Override
+        public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        }
+
+        @Override
+        public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
         }
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.FloatChangeListener;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -100,6 +101,19 @@ public class ReadOnlyFloatPropertyTest {
             return false;
         }
 
+        @Override
+        public void addFloatChangeListener(FloatChangeListener listener) {
+        }
+
+        @Override
+        public void removeFloatChangeListener(FloatChangeListener listener) {
+        }
+
+        @Override
+        public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
         }
@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.IntegerChangeListener;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -96,6 +97,19 @@ public class ReadOnlyIntegerPropertyTest {
             return false;
         }
 
+        @Override
+        public void addIntegerChangeListener(IntegerChangeListener listener) {
+        }
+
+        @Override
+        public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        }
+
+        @Override
+        public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
         }
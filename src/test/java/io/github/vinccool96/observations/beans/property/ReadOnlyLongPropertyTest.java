@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.beans.property;
 
 import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.beans.value.ChangeListener;
+import io.github.vinccool96.observations.beans.value.LongChangeListener;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -98,6 +99,19 @@ public class ReadOnlyLongPropertyTest {
             return false;
         }
 
+        @Override
+        public void addLongChangeListener(LongChangeListener listener) {
+        }
+
+        @Override
+        public void removeLongChangeListener(LongChangeListener listener) {
+        }
+
+        @Override
+        public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+            return false;
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
         }
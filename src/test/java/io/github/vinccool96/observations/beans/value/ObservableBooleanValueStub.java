@@ -1,9 +1,13 @@
 package io.github.vinccool96.observations.beans.value;
 
+import io.github.vinccool96.observations.sun.binding.BooleanChangeHelper;
+
 public class ObservableBooleanValueStub extends ObservableValueBase<Boolean> implements ObservableBooleanValue {
 
     private boolean value;
 
+    private BooleanChangeHelper primitiveHelper;
+
     public ObservableBooleanValueStub() {
     }
 
@@ -26,4 +30,25 @@ public class ObservableBooleanValueStub extends ObservableValueBase<Boolean> imp
         return value;
     }
 
+    @Override
+    protected void fireValueChangedEvent() {
+        super.fireValueChangedEvent();
+        BooleanChangeHelper.fireValueChangedEvent(primitiveHelper);
+    }
+
+    @Override
+    public void addBooleanChangeListener(BooleanChangeListener listener) {
+        primitiveHelper = BooleanChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeBooleanChangeListener(BooleanChangeListener listener) {
+        primitiveHelper = BooleanChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
+    @Override
+    public boolean isBooleanChangeListenerAlreadyAdded(BooleanChangeListener listener) {
+        return BooleanChangeHelper.containsListener(primitiveHelper, listener);
+    }
+
 }
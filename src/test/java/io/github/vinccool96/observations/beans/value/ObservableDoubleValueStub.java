@@ -1,9 +1,13 @@
 package io.github.vinccool96.observations.beans.value;
 
+import io.github.vinccool96.observations.sun.binding.DoubleChangeHelper;
+
 public class ObservableDoubleValueStub extends ObservableValueBase<Number> implements ObservableDoubleValue {
 
     private double value;
 
+    private DoubleChangeHelper primitiveHelper;
+
     public ObservableDoubleValueStub() {
     }
 
@@ -51,4 +55,25 @@ public class ObservableDoubleValueStub extends ObservableValueBase<Number> imple
         return (short) get();
     }
 
+    @Override
+    protected void fireValueChangedEvent() {
+        super.fireValueChangedEvent();
+        DoubleChangeHelper.fireValueChangedEvent(primitiveHelper);
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
+    @Override
+    public boolean isDoubleChangeListenerAlreadyAdded(DoubleChangeListener listener) {
+        return DoubleChangeHelper.containsListener(primitiveHelper, listener);
+    }
+
 }
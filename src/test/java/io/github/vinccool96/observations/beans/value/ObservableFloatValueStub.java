@@ -1,9 +1,13 @@
 package io.github.vinccool96.observations.beans.value;
 
+import io.github.vinccool96.observations.sun.binding.FloatChangeHelper;
+
 public class ObservableFloatValueStub extends ObservableValueBase<Number> implements ObservableFloatValue {
 
     private float value;
 
+    private FloatChangeHelper primitiveHelper;
+
     public ObservableFloatValueStub() {
     }
 
@@ -51,4 +55,25 @@ public class ObservableFloatValueStub extends ObservableValueBase<Number> implem
         return (short) get();
     }
 
+    @Override
+    protected void fireValueChangedEvent() {
+        super.fireValueChangedEvent();
+        FloatChangeHelper.fireValueChangedEvent(primitiveHelper);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        primitiveHelper = FloatChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        primitiveHelper = FloatChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
+    @Override
+    public boolean isFloatChangeListenerAlreadyAdded(FloatChangeListener listener) {
+        return FloatChangeHelper.containsListener(primitiveHelper, listener);
+    }
+
 }
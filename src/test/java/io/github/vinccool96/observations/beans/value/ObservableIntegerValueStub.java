@@ -1,9 +1,13 @@
 package io.github.vinccool96.observations.beans.value;
 
+import io.github.vinccool96.observations.sun.binding.IntegerChangeHelper;
+
 public class ObservableIntegerValueStub extends ObservableValueBase<Number> implements ObservableIntegerValue {
 
     private int value;
 
+    private IntegerChangeHelper primitiveHelper;
+
     public ObservableIntegerValueStub() {
     }
 
@@ -51,4 +55,25 @@ public class ObservableIntegerValueStub extends ObservableValueBase<Number> impl
         return (short) get();
     }
 
+    @Override
+    protected void fireValueChangedEvent() {
+        super.fireValueChangedEvent();
+        IntegerChangeHelper.fireValueChangedEvent(primitiveHelper);
+    }
+
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
+    @Override
+    public boolean isIntegerChangeListenerAlreadyAdded(IntegerChangeListener listener) {
+        return IntegerChangeHelper.containsListener(primitiveHelper, listener);
+    }
+
 }
@@ -5,7 +5,6 @@ import io.github.vinccool96.observations.collections.ListChangeListener;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
 import io.github.vinccool96.observations.sun.binding.ListExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -68,7 +67,7 @@ public class ObservableListValueStub<E> implements ObservableListValue<E> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     /**
@@ -96,7 +95,7 @@ public class ObservableListValueStub<E> implements ObservableListValue<E> {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -115,7 +114,7 @@ public class ObservableListValueStub<E> implements ObservableListValue<E> {
 
     @Override
     public boolean isListChangeListenerAlreadyAdded(ListChangeListener<? super E> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(this.helper.getListChangeListeners(), listener);
+        return ListExpressionHelper.containsListener(helper, listener);
     }
 
     protected void fireValueChangedEvent() {
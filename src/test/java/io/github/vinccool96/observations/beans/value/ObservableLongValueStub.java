@@ -1,9 +1,13 @@
 package io.github.vinccool96.observations.beans.value;
 
+import io.github.vinccool96.observations.sun.binding.LongChangeHelper;
+
 public class ObservableLongValueStub extends ObservableValueBase<Number> implements ObservableLongValue {
 
     private long value;
 
+    private LongChangeHelper primitiveHelper;
+
     public ObservableLongValueStub() {
     }
 
@@ -51,4 +55,25 @@ public class ObservableLongValueStub extends ObservableValueBase<Number> impleme
         return (short) get();
     }
 
+    @Override
+    protected void fireValueChangedEvent() {
+        super.fireValueChangedEvent();
+        LongChangeHelper.fireValueChangedEvent(primitiveHelper);
+    }
+
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        primitiveHelper = LongChangeHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        primitiveHelper = LongChangeHelper.removeListener(primitiveHelper, listener);
+    }
+
+    @Override
+    public boolean isLongChangeListenerAlreadyAdded(LongChangeListener listener) {
+        return LongChangeHelper.containsListener(primitiveHelper, listener);
+    }
+
 }
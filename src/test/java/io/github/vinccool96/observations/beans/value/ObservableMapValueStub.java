@@ -4,7 +4,6 @@ import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.MapChangeListener;
 import io.github.vinccool96.observations.collections.ObservableMap;
 import io.github.vinccool96.observations.sun.binding.MapExpressionHelper;
-import io.github.vinccool96.observations.util.ArrayUtils;
 
 import java.util.*;
 
@@ -55,7 +54,7 @@ public class ObservableMapValueStub<K, V> implements ObservableMapValue<K, V> {
 
     @Override
     public boolean isInvalidationListenerAlreadyAdded(InvalidationListener listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getInvalidationListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -74,7 +73,7 @@ public class ObservableMapValueStub<K, V> implements ObservableMapValue<K, V> {
 
     @Override
     public boolean isChangeListenerAlreadyAdded(ChangeListener<? super ObservableMap<K, V>> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     @Override
@@ -93,7 +92,7 @@ public class ObservableMapValueStub<K, V> implements ObservableMapValue<K, V> {
 
     @Override
     public boolean isMapChangeListenerAlreadyAdded(MapChangeListener<? super K, ? super V> listener) {
-        return helper != null && ArrayUtils.getInstance().contains(helper.getMapChangeListeners(), listener);
+        return MapExpressionHelper.containsListener(helper, listener);
     }
 
     protected void fireValueChangedEvent() {
@@ -0,0 +1,123 @@
+package io.github.vinccool96.observations.beans.value;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveChangeListenerAdapterTest {
+
+    /**
+     * An observable value that only implements the methods of {@link ObservableValue}, so the primitive change
+     * listeners go through the default implementations.
+     */
+    private static class IntegerValue extends ObservableValueBase<Number> implements ObservableIntegerValue {
+
+        private int value;
+
+        void set(int value) {
+            this.value = value;
+            fireValueChangedEvent();
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public Number getValue() {
+            return value;
+        }
+
+        @Override
+        public int intValue() {
+            return value;
+        }
+
+        @Override
+        public long longValue() {
+            return value;
+        }
+
+        @Override
+        public float floatValue() {
+            return value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return value;
+        }
+
+        @Override
+        public short shortValue() {
+            return (short) value;
+        }
+
+    }
+
+    private static class BooleanValue extends ObservableValueBase<Boolean> implements ObservableBooleanValue {
+
+        private boolean value;
+
+        void set(boolean value) {
+            this.value = value;
+            fireValueChangedEvent();
+        }
+
+        @Override
+        public boolean get() {
+            return value;
+        }
+
+        @Override
+        public Boolean getValue() {
+            return value;
+        }
+
+    }
+
+    @Test
+    public void testDefaultIntegerChangeListener() {
+        final IntegerValue observable = new IntegerValue();
+        final List<int[]> calls = new ArrayList<>();
+        final IntegerChangeListener listener = (obs, oldValue, newValue) -> {
+            assertSame(observable, obs);
+            calls.add(new int[]{oldValue, newValue});
+        };
+        observable.addIntegerChangeListener(listener);
+        observable.addIntegerChangeListener(listener);
+        assertTrue(observable.isIntegerChangeListenerAlreadyAdded(listener));
+
+        observable.set(3);
+        assertEquals(1, calls.size());
+        assertArrayEquals(new int[]{0, 3}, calls.get(0));
+
+        observable.removeIntegerChangeListener(listener);
+        assertFalse(observable.isIntegerChangeListenerAlreadyAdded(listener));
+        observable.set(4);
+        assertEquals(1, calls.size());
+    }
+
+    @Test
+    public void testDefaultBooleanChangeListener() {
+        final BooleanValue observable = new BooleanValue();
+        final List<Boolean> calls = new ArrayList<>();
+        final BooleanChangeListener listener = (obs, oldValue, newValue) -> calls.add(newValue);
+        observable.addBooleanChangeListener(listener);
+        observable.set(true);
+        observable.removeBooleanChangeListener(listener);
+        observable.set(false);
+        assertEquals(1, calls.size());
+        assertTrue(calls.get(0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDefaultAddNull() {
+        new IntegerValue().addIntegerChangeListener(null);
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -445,6 +446,49 @@ public class ListChangeBuilderTest {
         observer.check0();
     }
 
+    @Test
+    public void testScatteredChanges() {
+        list.clear();
+        for (int i = 0; i < 1000; i++) {
+            list.add("v" + i);
+        }
+        final List<String> original = new ArrayList<>(list);
+        final List<String> replayed = new ArrayList<>(original);
+        observableList.removeListener(observer);
+        observableList.addListener((Change<? extends String> change) -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    assertEquals(list.subList(change.getFrom(), change.getTo()),
+                            replayed.subList(change.getFrom(), change.getTo()));
+                } else {
+                    List<String> removed = replayed.subList(change.getFrom(),
+                            change.getFrom() + change.getRemovedSize());
+                    assertEquals(change.getRemoved(), removed);
+                    removed.clear();
+                    replayed.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+        final Random random = new Random(4);
+        builder.beginChange();
+        for (int i = 0; i < 500; i++) {
+            final int idx = random.nextInt(list.size());
+            builder.nextRemove(idx, list.remove(idx));
+        }
+        for (int i = 0; i < 2000; i++) {
+            if (random.nextBoolean()) {
+                final int idx = random.nextInt(list.size() + 1);
+                list.add(idx, "n" + i);
+                builder.nextAdd(idx, idx + 1);
+            } else {
+                builder.nextUpdate(random.nextInt(list.size()));
+            }
+        }
+        builder.endChange();
+
+        assertEquals(list, replayed);
+    }
+
     @Test
     public void testToString_Update() {
         observableList.removeListener(observer);
@@ -14,7 +14,9 @@ public class MockMapObserver<K, V> implements MapChangeListener<K, V> {
 
     @Override
     public void onChanged(Change<? extends K, ? extends V> c) {
-        calls.add(new Call<>(c.getKey(), c.getValueRemoved(), c.getValueAdded()));
+        while (c.next()) {
+            calls.add(new Call<>(c.getKey(), c.getValueRemoved(), c.getValueAdded()));
+        }
     }
 
     public int getCallsNumber() {
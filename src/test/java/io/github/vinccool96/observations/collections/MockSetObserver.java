@@ -14,7 +14,9 @@ public class MockSetObserver<E> implements SetChangeListener<E> {
 
     @Override
     public void onChanged(Change<? extends E> c) {
-        calls.add(new Call<>(c.getElementRemoved(), c.getElementAdded()));
+        while (c.next()) {
+            calls.add(new Call<>(c.getElementRemoved(), c.getElementAdded()));
+        }
     }
 
     public int getCallsNumber() {
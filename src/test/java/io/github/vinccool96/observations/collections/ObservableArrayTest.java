@@ -38,6 +38,7 @@ public class ObservableArrayTest<T extends ObservableArray<T>, A, P> {
     public static Collection<?> createParameters() {
         Object[][] data = new Object[][]{
                 {new DoubleArrayWrapper()},
+                {new DirectDoubleArrayWrapper()},
                 {new FloatArrayWrapper()},
                 {new IntegerArrayWrapper()},
                 {new LongArrayWrapper()},
@@ -2556,6 +2557,45 @@ public class ObservableArrayTest<T extends ObservableArray<T>, A, P> {
         assertEquals("[]", actual);
     }
 
+    // ========================= beginChange() and endChange() tests =========================
+
+    @Test
+    public void testBatchedSets() {
+        ObservableArrayBase<?> base = (ObservableArrayBase<?>) array;
+        base.beginChange();
+        wrapper.set(4, wrapper.getNextValue());
+        base.beginChange();
+        wrapper.set(1, wrapper.getNextValue());
+        base.endChange();
+        wrapper.set(2, wrapper.getNextValue());
+        mao.check0();
+        base.endChange();
+        mao.check(array, false, 1, 5);
+    }
+
+    @Test
+    public void testBatchedSizeChange() {
+        ObservableArrayBase<?> base = (ObservableArrayBase<?>) array;
+        base.beginChange();
+        wrapper.set(5, wrapper.getNextValue());
+        array.resize(3);
+        base.endChange();
+        mao.check(array, true, 3, 3);
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        ObservableArrayBase<?> base = (ObservableArrayBase<?>) array;
+        base.beginChange();
+        base.endChange();
+        mao.check0();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndChangeWithoutBeginChange() {
+        ((ObservableArrayBase<?>) array).endChange();
+    }
+
     // ========================= implementations for the tests =========================
 
     /**
@@ -2773,6 +2813,27 @@ public class ObservableArrayTest<T extends ObservableArray<T>, A, P> {
 
     }
 
+    private static class DirectDoubleArrayWrapper extends DoubleArrayWrapper {
+
+        @Override
+        ObservableDoubleArray createEmptyArray() {
+            return array = ObservableCollections.directObservableDoubleArray(0);
+        }
+
+        @Override
+        ObservableDoubleArray createNotEmptyArray(double[] elements) {
+            array = ObservableCollections.directObservableDoubleArray(elements.length);
+            array.setAll(elements);
+            return array;
+        }
+
+        @Override
+        DirectDoubleArrayWrapper newInstance() {
+            return new DirectDoubleArrayWrapper();
+        }
+
+    }
+
     private static class FloatArrayWrapper extends ArrayWrapper<ObservableFloatArray, float[], Float> {
 
         private float nextValue = 0;
@@ -157,6 +157,29 @@ public class ObservableCollectionsTest {
         observer.check0();
     }
 
+    @Test
+    public void treeListRemoveRangeTest() {
+        List<Integer> content = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            content.add(i);
+        }
+        ObservableList<Integer> seq = ObservableCollections.observableTreeList(content);
+        final MockListObserver<Integer> observer = new MockListObserver<>();
+        seq.addListener(observer);
+        seq.subList(10_000, 10_010).clear();
+        observer.check1AddRemove(seq, content.subList(10_000, 10_010), 10_000, 10_000);
+        content.subList(10_000, 10_010).clear();
+        assertEquals(content, seq);
+
+        observer.clear();
+        seq.removeAll(5, 6, 500_000, 999_999);
+        observer.checkAddRemove(0, seq, Arrays.asList(5, 6), 5, 5);
+        observer.checkAddRemove(1, seq, Collections.singletonList(500_000), 499_988, 499_988);
+        observer.checkAddRemove(2, seq, Collections.singletonList(999_999), 999_986, 999_986);
+        content.removeAll(Arrays.asList(5, 6, 500_000, 999_999));
+        assertEquals(content, seq);
+    }
+
     private void doSort(ObservableList<String> seq, boolean permutation) {
         final MockListObserver<String> observer = new MockListObserver<String>();
         seq.addListener(observer);
@@ -564,6 +587,48 @@ public class ObservableCollectionsTest {
         assertArrayEquals(new String[]{"1", "2", "3"}, list.toArray(new String[0]));
     }
 
+    @Test
+    public void concurrentReadObservableListTest() throws InterruptedException {
+        final ObservableList<Integer> list =
+                ObservableCollections.concurrentReadObservableList(ObservableCollections.observableArrayList());
+        final List<Integer> added = new ArrayList<>();
+        final ListChangeListener<Integer> listener = c -> {
+            while (c.next()) {
+                added.addAll(c.getAddedSubList());
+            }
+            if (added.size() == 3 && list.size() == 3) {
+                list.remove(0); // writing from a listener doesn't deadlock
+            }
+        };
+        list.addListener(listener);
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                list.add(i);
+            }
+        });
+        writer.start();
+        writer.join();
+        assertEquals(Arrays.asList(0, 1, 2), added);
+        assertEquals(Arrays.asList(1, 2), list);
+        list.removeListener(listener);
+
+        final boolean[] failed = new boolean[1];
+        final Thread reader = new Thread(() -> {
+            for (int i = 0; i < 10000; i++) {
+                if (list.size() < 2 || list.get(1) == null) {
+                    failed[0] = true;
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        reader.join();
+        assertFalse(failed[0]);
+        assertEquals(1002, list.size());
+    }
+
     @Test
     public void checkedObservableMapTest() {
         final ObservableMap map = ObservableCollections.observableMap(new HashMap());
@@ -31,6 +31,7 @@ public class ObservableListIteratorTest {
         Object[][] data = new Object[][]{
                 {TestedObservableLists.ARRAY_LIST},
                 {TestedObservableLists.LINKED_LIST},
+                {TestedObservableLists.TREE_LIST},
                 {TestedObservableLists.CHECKED_OBSERVABLE_ARRAY_LIST},
                 {TestedObservableLists.SYNCHRONIZED_OBSERVABLE_ARRAY_LIST}
         };
@@ -34,8 +34,11 @@ public class ObservableListTest {
         Object[][] data = new Object[][]{
                 {TestedObservableLists.ARRAY_LIST},
                 {TestedObservableLists.LINKED_LIST},
+                {TestedObservableLists.TREE_LIST},
                 {TestedObservableLists.CHECKED_OBSERVABLE_ARRAY_LIST},
                 {TestedObservableLists.SYNCHRONIZED_OBSERVABLE_ARRAY_LIST},
+                {TestedObservableLists.CONCURRENT_READ_OBSERVABLE_ARRAY_LIST},
+                {TestedObservableLists.COPY_ON_WRITE_LIST},
                 {TestedObservableLists.OBSERVABLE_LIST_PROPERTY}
         };
         return Arrays.asList(data);
@@ -207,6 +210,30 @@ public class ObservableListTest {
         mlo.checkAddRemove(1, list, Arrays.asList("three", "four"), 1, 1);
     }
 
+    @Test
+    public void testRemoveRange() {
+        useListData("one", "two", "three", "four", "five");
+        list.remove(1, 4);
+        mlo.check1AddRemove(list, Arrays.asList("two", "three", "four"), 1, 1);
+        assertEquals(Arrays.asList("one", "five"), list);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        useListData("one", "two", "three", "four", "five", "six");
+        assertTrue(list.removeIf(s -> s.contains("o") || s.contains("i")));
+        assertEquals(2, mlo.calls.size());
+        mlo.checkAddRemove(0, list, Arrays.asList("one", "two"), 0, 0);
+        mlo.checkAddRemove(1, list, Arrays.asList("four", "five", "six"), 1, 1);
+        assertEquals(Collections.singletonList("three"), list);
+    }
+
+    @Test
+    public void testRemoveIfNothing() {
+        assertFalse(list.removeIf(s -> s.isEmpty()));
+        mlo.check0();
+    }
+
     @Test
     public void testRemoveNonexistent() {
         useListData("one", "two", "x", "three");
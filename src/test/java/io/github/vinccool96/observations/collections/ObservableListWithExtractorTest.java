@@ -55,6 +55,11 @@ public class ObservableListWithExtractorTest {
         p0.name.set("bar");
     }
 
+    private void rename(Person person, String name) {
+        person.name.set(name);
+        person.name.get(); // validate the property so that the next change is notified
+    }
+
     @Test
     public void testUpdate_add() {
         updateP0();
@@ -298,6 +303,118 @@ public class ObservableListWithExtractorTest {
         assertEquals(2, obs.calls.size());
     }
 
+    @Test
+    public void testUpdate_afterAddAtEnd() {
+        rename(p0, "bar");
+        Person p1 = new Person();
+        modifiedList.addAll(p1, p0);
+        obs.clear();
+        rename(p0, "baz");
+        assertEquals(2, obs.calls.size());
+        obs.checkUpdate(0, observedList, 0, 1);
+        obs.checkUpdate(1, observedList, 2, 3);
+    }
+
+    @Test
+    public void testUpdate_afterAddInMiddle() {
+        rename(p0, "bar");
+        modifiedList.add(0, new Person());
+        obs.clear();
+        rename(p0, "baz");
+        obs.check1Update(observedList, 1, 2);
+    }
+
+    @Test
+    public void testUpdate_afterSetAndRemoveAtEnd() {
+        Person p1 = new Person();
+        modifiedList.addAll(p1, p0);
+        rename(p0, "bar");
+        modifiedList.set(2, p1);
+        modifiedList.remove(2);
+        obs.clear();
+        rename(p0, "baz");
+        obs.check1Update(observedList, 0, 1);
+        obs.clear();
+        rename(p1, "baz");
+        obs.check1Update(observedList, 1, 2);
+    }
+
+    @Test
+    public void testUpdate_afterSort() {
+        Person p1 = new Person("abc");
+        modifiedList.add(p1);
+        rename(p0, "bar");
+        rename(p1, "xyz");
+        ObservableCollections.sort(modifiedList);
+        obs.clear();
+        rename(p0, "baz");
+        obs.check1Update(observedList, 0, 1);
+        obs.clear();
+        rename(p1, "abc");
+        obs.check1Update(observedList, 1, 2);
+    }
+
+    @Test
+    public void testUpdate_afterRemovingOneOfTwoOccurrences() {
+        modifiedList.addAll(new Person(), p0);
+        modifiedList.remove(0);
+        obs.clear();
+        rename(p0, "bar");
+        obs.check1Update(observedList, 1, 2);
+    }
+
+    @Test
+    public void testUpdate_afterRandomChanges() {
+        Random random = new Random(3);
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            people.add(new Person("p" + i));
+        }
+        List<Integer> updated = new ArrayList<>();
+        observedList.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                if (c.wasUpdated()) {
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        updated.add(i);
+                    }
+                }
+            }
+        });
+        for (int n = 0; n < 300; n++) {
+            int size = modifiedList.size();
+            switch (random.nextInt(5)) {
+                case 0:
+                    modifiedList.add(random.nextInt(size + 1), people.get(random.nextInt(people.size())));
+                    break;
+                case 1:
+                    if (size > 0) {
+                        modifiedList.remove(random.nextInt(size));
+                    }
+                    break;
+                case 2:
+                    modifiedList.removeAll(Collections.singletonList(people.get(random.nextInt(people.size()))));
+                    break;
+                case 3:
+                    modifiedList.addAll(random.nextInt(size + 1),
+                            Arrays.asList(people.get(random.nextInt(people.size())), people.get(0)));
+                    break;
+                default:
+                    ObservableCollections.sort(modifiedList, Comparator.comparing(p -> p.name.get()));
+                    break;
+            }
+            Person person = people.get(random.nextInt(people.size()));
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < modifiedList.size(); i++) {
+                if (modifiedList.get(i) == person) {
+                    expected.add(i);
+                }
+            }
+            updated.clear();
+            rename(person, person.name.get() + "'");
+            assertEquals(expected, updated);
+        }
+    }
+
     @Test
     public void testPreFilledList() {
         ArrayList<Person> arrayList = new ArrayList<>();
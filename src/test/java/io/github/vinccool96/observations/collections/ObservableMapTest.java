@@ -1,7 +1,10 @@
 package io.github.vinccool96.observations.collections;
 
+import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.TestedObservableMaps.CallableConcurrentHashMapImpl;
+import io.github.vinccool96.observations.collections.TestedObservableMaps.CallableConcurrentObservableMapImpl;
 import io.github.vinccool96.observations.collections.TestedObservableMaps.CallableTreeMapImpl;
+import io.github.vinccool96.observations.sun.collections.ObservableMapWrapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,6 +39,7 @@ public class ObservableMapTest {
                 {TestedObservableMaps.TREE_MAP},
                 {TestedObservableMaps.LINKED_HASH_MAP},
                 {TestedObservableMaps.CONCURRENT_HASH_MAP},
+                {TestedObservableMaps.CONCURRENT_OBSERVABLE_MAP},
                 {TestedObservableMaps.CHECKED_OBSERVABLE_HASH_MAP},
                 {TestedObservableMaps.SYNCHRONIZED_OBSERVABLE_HASH_MAP},
                 {TestedObservableMaps.OBSERVABLE_MAP_PROPERTY}
@@ -80,7 +84,8 @@ public class ObservableMapTest {
 
     @Test
     public void testPutRemove_Null() {
-        if (mapFactory instanceof CallableConcurrentHashMapImpl) {
+        if (mapFactory instanceof CallableConcurrentHashMapImpl ||
+                mapFactory instanceof CallableConcurrentObservableMapImpl) {
             return; // Do not perform on ConcurrentHashMap, as it doesn't accept nulls
         }
         map.clear();
@@ -112,7 +117,8 @@ public class ObservableMapTest {
 
     @Test
     public void testPutRemove_NullKey() {
-        if (mapFactory instanceof CallableConcurrentHashMapImpl || mapFactory instanceof CallableTreeMapImpl) {
+        if (mapFactory instanceof CallableConcurrentHashMapImpl || mapFactory instanceof CallableTreeMapImpl ||
+                mapFactory instanceof CallableConcurrentObservableMapImpl) {
             return; // Do not perform on ConcurrentHashMap and TreeMap, as they don't accept null keys
         }
 
@@ -412,6 +418,64 @@ public class ObservableMapTest {
         };
     }
 
+    @Test
+    public void testBulkOperationsNotifyOnce() {
+        if (mapFactory instanceof CallableConcurrentObservableMapImpl) {
+            return; // Do not perform on the concurrent map, as it notifies every key separately
+        }
+        final int[] changes = new int[1];
+        final int[] invalidations = new int[1];
+        map.addListener((MapChangeListener<String, String>) c -> changes[0]++);
+        map.addListener((InvalidationListener) o -> invalidations[0]++);
+
+        final Map<String, String> added = new HashMap<>();
+        added.put("oFoo", "OFoo");
+        added.put("pFoo", "PFoo");
+        added.put("foo", "foofoo");
+        map.putAll(added);
+        assertEquals(1, changes[0]);
+        assertEquals(1, invalidations[0]);
+        assertEquals(3, observer.getCallsNumber());
+
+        map.keySet().removeAll(Arrays.asList("oFoo", "pFoo"));
+        assertEquals(2, changes[0]);
+        assertEquals(2, invalidations[0]);
+
+        map.clear();
+        assertEquals(3, changes[0]);
+        assertEquals(3, invalidations[0]);
+        assertEquals(3 + 2 + 3, observer.getCallsNumber());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testBeginEndChange() {
+        final ObservableMapWrapper<String, String> wrapper = new ObservableMapWrapper<>(new LinkedHashMap<>());
+        final MockMapObserver<String, String> wrapperObserver = new MockMapObserver<>();
+        final int[] changes = new int[1];
+        wrapper.addListener(wrapperObserver);
+        wrapper.addListener((MapChangeListener<String, String>) c -> changes[0]++);
+
+        wrapper.beginChange();
+        wrapper.put("one", "1");
+        wrapper.beginChange();
+        wrapper.put("two", "2");
+        wrapper.endChange();
+        wrapper.put("one", "uno");
+        wrapper.remove("two");
+        assertEquals(0, changes[0]);
+        wrapper.endChange();
+
+        assertEquals(1, changes[0]);
+        wrapperObserver.assertMultipleCalls(call("one", null, "1"), call("two", null, "2"), call("one", "1", "uno"),
+                call("two", "2", null));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndChangeWithoutBeginChange() {
+        new ObservableMapWrapper<>(new HashMap<String, String>()).endChange();
+    }
+
     private static class StringMapChangeListener implements MapChangeListener<String, String> {
 
         private int counter;
@@ -0,0 +1,146 @@
+package io.github.vinccool96.observations.collections;
+
+import io.github.vinccool96.observations.beans.binding.Bindings;
+import io.github.vinccool96.observations.beans.binding.IntegerBinding;
+import io.github.vinccool96.observations.collections.transformation.FilteredList;
+import io.github.vinccool96.observations.collections.transformation.SortedList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ObservablePrimitiveListTest {
+
+    @Test
+    public void testIntegerAccessors() {
+        final ObservableIntegerList list = ObservableCollections.observableIntegerList(1, 2, 3);
+        assertEquals(3, list.size());
+        assertEquals(2, list.getInt(1));
+        assertEquals(Integer.valueOf(2), list.get(1));
+        assertEquals(2, list.setInt(1, 5));
+        list.addInt(7);
+        list.addInt(0, 0);
+        assertArrayEquals(new int[]{0, 1, 5, 3, 7}, list.toIntArray());
+        assertEquals(Arrays.asList(0, 1, 5, 3, 7), list);
+        assertEquals(2, list.indexOfInt(5));
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(7L));
+        assertEquals(-1, list.indexOf("7"));
+    }
+
+    @Test
+    public void testIntegerNotifications() {
+        final ObservableIntegerList list = ObservableCollections.observableIntegerList(1, 2, 3);
+        final MockListObserver<Integer> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        list.setInt(0, 4);
+        observer.check1AddRemove(list, Collections.singletonList(1), 0, 1);
+        observer.clear();
+
+        list.addAllInts(new int[]{9, 5, 6, 9}, 1, 2);
+        observer.check1AddRemove(list, null, 3, 5);
+        observer.clear();
+
+        list.remove(1, 3);
+        observer.check1AddRemove(list, Arrays.asList(2, 3), 1, 1);
+        observer.clear();
+
+        list.setAllInts(8, 9);
+        observer.check1AddRemove(list, Arrays.asList(4, 5, 6), 0, 2);
+        observer.clear();
+
+        list.add(1, 3);
+        observer.check1AddRemove(list, null, 1, 2);
+        observer.clear();
+
+        list.clear();
+        observer.check1AddRemove(list, Arrays.asList(8, 3, 9), 0, 0);
+        observer.clear();
+
+        list.addAllInts();
+        observer.check0();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIntegerGetOutOfBounds() {
+        ObservableCollections.observableIntegerList(1).getInt(1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testIntegerAddNull() {
+        ObservableCollections.observableIntegerList().add(null);
+    }
+
+    @Test
+    public void testIntegerInterop() {
+        final ObservableIntegerList list = ObservableCollections.observableIntegerList(5, 2, 8, 1);
+        final FilteredList<Integer> filtered = new FilteredList<>(list, i -> i > 1);
+        final SortedList<Integer> sorted = new SortedList<>(list, Integer::compare);
+        final IntegerBinding first = Bindings.integerValueAt(list, 0);
+        assertEquals(Arrays.asList(5, 2, 8), filtered);
+        assertEquals(Arrays.asList(1, 2, 5, 8), sorted);
+        assertEquals(5, first.get());
+
+        list.addAllInts(0, 3);
+        list.setInt(0, 4);
+        assertEquals(Arrays.asList(4, 2, 8, 3), filtered);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 8), sorted);
+        assertEquals(4, first.get());
+    }
+
+    @Test
+    public void testLongList() {
+        final ObservableLongList list = ObservableCollections.observableLongList(1L, 2L);
+        final MockListObserver<Long> observer = new MockListObserver<>();
+        list.addListener(observer);
+        list.addAllLongs(Long.MAX_VALUE);
+        observer.check1AddRemove(list, null, 2, 3);
+        assertEquals(Long.MAX_VALUE, list.getLong(2));
+        assertEquals(2L, list.setLong(1, 3L));
+        assertArrayEquals(new long[]{1L, 3L, Long.MAX_VALUE}, list.toLongArray());
+        assertEquals(2, list.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testDoubleList() {
+        final ObservableDoubleList list = ObservableCollections.observableDoubleList(0.5, Double.NaN, -0.0);
+        final MockListObserver<Double> observer = new MockListObserver<>();
+        list.addListener(observer);
+        list.remove(0);
+        observer.check1AddRemove(list, Collections.singletonList(0.5), 0, 0);
+        assertEquals(0, list.indexOfDouble(Double.NaN));
+        assertEquals(1, list.indexOf(-0.0));
+        assertEquals(-1, list.indexOfDouble(0.0));
+        list.addDouble(1, 2.5);
+        assertEquals(2.5, list.getDouble(1), 0.0);
+        assertArrayEquals(new double[]{Double.NaN, 2.5, -0.0}, list.toDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void testLongAndDoubleRanges() {
+        final ObservableLongList longs = ObservableCollections.observableLongList();
+        final MockListObserver<Long> longObserver = new MockListObserver<>();
+        longs.addListener(longObserver);
+        for (long i = 0; i < 20; i++) {
+            longs.addLong(i);
+        }
+        longObserver.clear();
+        longs.remove(2, 5);
+        longObserver.check1AddRemove(longs, Arrays.asList(2L, 3L, 4L), 2, 2);
+        assertEquals(17, longs.size());
+        assertEquals(5L, longs.getLong(2));
+
+        final ObservableDoubleList doubles = ObservableCollections.observableDoubleList(1.0, 2.0);
+        final MockListObserver<Double> doubleObserver = new MockListObserver<>();
+        doubles.addListener(doubleObserver);
+        doubles.setAllDoubles(3.0, 4.0, 5.0);
+        doubleObserver.check1AddRemove(doubles, Arrays.asList(1.0, 2.0), 0, 3);
+        doubleObserver.clear();
+        doubles.clear();
+        doubleObserver.check1AddRemove(doubles, Arrays.asList(3.0, 4.0, 5.0), 0, 0);
+    }
+
+}
@@ -1,6 +1,8 @@
 package io.github.vinccool96.observations.collections;
 
+import io.github.vinccool96.observations.beans.InvalidationListener;
 import io.github.vinccool96.observations.collections.TestedObservableSets.CallableTreeSetImpl;
+import io.github.vinccool96.observations.sun.collections.ObservableSetWrapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -183,6 +185,55 @@ public class ObservableSetTest {
         assertEquals(other.hashCode(), set.hashCode());
     }
 
+    @Test
+    public void testBulkOperationsNotifyOnce() {
+        final int[] changes = new int[1];
+        final int[] invalidations = new int[1];
+        set.addListener((SetChangeListener<String>) c -> changes[0]++);
+        set.addListener((InvalidationListener) o -> invalidations[0]++);
+
+        set.addAll(Arrays.asList("oFoo", "pFoo", "foo"));
+        assertEquals(1, changes[0]);
+        assertEquals(1, invalidations[0]);
+        assertEquals(2, observer.getCallsNumber());
+
+        set.removeAll(Arrays.asList("oFoo", "one"));
+        assertEquals(2, changes[0]);
+        assertEquals(2, invalidations[0]);
+
+        set.clear();
+        assertEquals(3, changes[0]);
+        assertEquals(3, invalidations[0]);
+        assertEquals(2 + 2 + 3, observer.getCallsNumber());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testBeginEndChange() {
+        final ObservableSetWrapper<String> wrapper = new ObservableSetWrapper<>(new LinkedHashSet<>());
+        final MockSetObserver<String> wrapperObserver = new MockSetObserver<>();
+        final int[] changes = new int[1];
+        wrapper.addListener(wrapperObserver);
+        wrapper.addListener((SetChangeListener<String>) c -> changes[0]++);
+
+        wrapper.beginChange();
+        wrapper.add("one");
+        wrapper.beginChange();
+        wrapper.add("two");
+        wrapper.endChange();
+        wrapper.remove("one");
+        assertEquals(0, changes[0]);
+        wrapper.endChange();
+
+        assertEquals(1, changes[0]);
+        wrapperObserver.assertMultipleCalls(call(null, "one"), call(null, "two"), call("one", null));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndChangeWithoutBeginChange() {
+        new ObservableSetWrapper<>(new HashSet<String>()).endChange();
+    }
+
     private static class StringSetChangeListener implements SetChangeListener<String> {
 
         private int counter;
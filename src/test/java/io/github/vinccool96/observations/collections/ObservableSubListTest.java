@@ -32,8 +32,11 @@ public class ObservableSubListTest {
         Object[][] data = new Object[][]{
                 {TestedObservableLists.ARRAY_LIST},
                 {TestedObservableLists.LINKED_LIST},
+                {TestedObservableLists.TREE_LIST},
                 {TestedObservableLists.CHECKED_OBSERVABLE_ARRAY_LIST},
-                {TestedObservableLists.SYNCHRONIZED_OBSERVABLE_ARRAY_LIST}
+                {TestedObservableLists.SYNCHRONIZED_OBSERVABLE_ARRAY_LIST},
+                {TestedObservableLists.CONCURRENT_READ_OBSERVABLE_ARRAY_LIST},
+                {TestedObservableLists.COPY_ON_WRITE_LIST}
         };
         return Arrays.asList(data);
     }
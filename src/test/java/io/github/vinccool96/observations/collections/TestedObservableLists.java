@@ -11,12 +11,19 @@ public interface TestedObservableLists {
 
     Callable<ObservableList<String>> LINKED_LIST = () -> ObservableCollections.observableList(new LinkedList<String>());
 
+    Callable<ObservableList<String>> TREE_LIST = ObservableCollections::observableTreeList;
+
     Callable<ObservableList<String>> CHECKED_OBSERVABLE_ARRAY_LIST = () -> ObservableCollections
             .checkedObservableList(ObservableCollections.observableList(new ArrayList<>()), String.class);
 
     Callable<ObservableList<String>> SYNCHRONIZED_OBSERVABLE_ARRAY_LIST = () -> ObservableCollections
             .synchronizedObservableList(ObservableCollections.observableList(new ArrayList<String>()));
 
+    Callable<ObservableList<String>> CONCURRENT_READ_OBSERVABLE_ARRAY_LIST = () -> ObservableCollections
+            .concurrentReadObservableList(ObservableCollections.observableList(new ArrayList<String>()));
+
+    Callable<ObservableList<String>> COPY_ON_WRITE_LIST = ObservableCollections::copyOnWriteObservableList;
+
     Callable<ObservableList<String>> OBSERVABLE_LIST_PROPERTY =
             () -> new SimpleListProperty<>(ObservableCollections.observableList(new ArrayList<String>()));
 
@@ -18,6 +18,8 @@ public interface TestedObservableMaps {
 
     Callable<ObservableMap<String, String>> CONCURRENT_HASH_MAP = new CallableConcurrentHashMapImpl();
 
+    Callable<ObservableMap<String, String>> CONCURRENT_OBSERVABLE_MAP = new CallableConcurrentObservableMapImpl();
+
     Callable<ObservableMap<String, String>> CHECKED_OBSERVABLE_HASH_MAP = () -> ObservableCollections
             .checkedObservableMap(ObservableCollections.observableMap(new HashMap<>()), String.class, String.class);
 
@@ -51,4 +53,16 @@ public interface TestedObservableMaps {
 
     }
 
+    class CallableConcurrentObservableMapImpl implements Callable<ObservableMap<String, String>> {
+
+        public CallableConcurrentObservableMapImpl() {
+        }
+
+        @Override
+        public ObservableMap<String, String> call() throws Exception {
+            return ObservableCollections.concurrentObservableMap();
+        }
+
+    }
+
 }
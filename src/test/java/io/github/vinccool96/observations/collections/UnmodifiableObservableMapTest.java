@@ -89,6 +89,13 @@ public class UnmodifiableObservableMapTest {
         assertEquals(observer.getCallsNumber(), 4);
     }
 
+    @Test
+    public void testRemoveListener() {
+        unmodifiableMap.removeListener(observer);
+        observableMap.put("observedFoo", "barVal");
+        observer.check0();
+    }
+
     @Test
     public void testPutAll() {
         Map<String, String> map = new HashMap<String, String>();
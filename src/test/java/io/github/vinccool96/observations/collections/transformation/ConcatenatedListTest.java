@@ -0,0 +1,97 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ConcatenatedListTest {
+
+    private ObservableList<String> first;
+
+    private ObservableList<String> empty;
+
+    private ObservableList<String> second;
+
+    private ConcatenatedList<String> list;
+
+    private MockListObserver<String> mlo;
+
+    @Before
+    public void setUp() {
+        first = ObservableCollections.observableArrayList("a", "b");
+        empty = ObservableCollections.observableArrayList();
+        second = ObservableCollections.observableArrayList("c", "d", "e");
+        list = new ConcatenatedList<>(first, empty, second);
+        mlo = new MockListObserver<>();
+        list.addListener(mlo);
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), list);
+        assertEquals(5, list.size());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.get(5);
+    }
+
+    @Test
+    public void testAddToSource() {
+        second.add(1, "x");
+        mlo.check1AddRemove(list, null, 3, 4);
+        mlo.clear();
+        empty.add("y");
+        mlo.check1AddRemove(list, null, 2, 3);
+        assertEquals(Arrays.asList("a", "b", "y", "c", "x", "d", "e"), list);
+    }
+
+    @Test
+    public void testRemoveFromSource() {
+        first.remove(0);
+        mlo.check1AddRemove(list, Collections.singletonList("a"), 0, 0);
+        mlo.clear();
+        second.remove(1, 3);
+        mlo.check1AddRemove(list, Arrays.asList("d", "e"), 2, 2);
+        assertEquals(Arrays.asList("b", "c"), list);
+    }
+
+    @Test
+    public void testSetInSource() {
+        second.set(2, "z");
+        mlo.check1AddRemove(list, Collections.singletonList("e"), 4, 5);
+        assertEquals("z", list.get(4));
+    }
+
+    @Test
+    public void testPermutationInSource() {
+        second.sort((a, b) -> b.compareTo(a));
+        mlo.check1Permutation(list, 2, 5, new int[]{4, 3, 2});
+        assertEquals(Arrays.asList("a", "b", "e", "d", "c"), list);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSameSourceTwice() {
+        new ConcatenatedList<>(first, first);
+    }
+
+    @Test
+    public void testNoSources() {
+        assertTrue(new ConcatenatedList<String>().isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        list.add("x");
+    }
+
+}
@@ -0,0 +1,255 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.Person;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DistinctListTest {
+
+    private ObservableList<String> source;
+
+    private DistinctList<String> list;
+
+    private MockListObserver<String> mlo;
+
+    @Before
+    public void setUp() {
+        source = ObservableCollections.observableArrayList("a", "b", "a", "c", "b");
+        list = new DistinctList<>(source);
+        mlo = new MockListObserver<>();
+        list.addListener(mlo);
+    }
+
+    @Test
+    public void testInitialElements() {
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(3, list.getSourceIndex(2));
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        source.add("a");
+        source.add(3, "b");
+        mlo.check0();
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void testAppendNewElement() {
+        source.addAll("d", "a", "e");
+        mlo.check1AddRemove(list, null, 3, 5);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), list);
+    }
+
+    @Test
+    public void testInsertNewElement() {
+        source.add(1, "d");
+        mlo.check1AddRemove(list, null, 1, 2);
+        assertEquals(Arrays.asList("a", "d", "b", "c"), list);
+    }
+
+    @Test
+    public void testRemoveDuplicate() {
+        source.remove(2);
+        source.remove(3);
+        mlo.check0();
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void testRemoveLastOccurrence() {
+        source.remove("c");
+        mlo.check1AddRemove(list, Collections.singletonList("c"), 2, 2);
+        assertEquals(Arrays.asList("a", "b"), list);
+    }
+
+    @Test
+    public void testFirstOccurrenceMoves() {
+        source.remove(0);
+        mlo.check1Permutation(list, 0, 2, new int[]{1, 0});
+        assertEquals(Arrays.asList("b", "a", "c"), list);
+    }
+
+    @Test
+    public void testSetAllSameElements() {
+        source.setAll("a", "b", "c");
+        mlo.check0();
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void testSetAll() {
+        source.setAll("c", "d", "c", "a");
+        assertEquals(Arrays.asList("c", "d", "a"), list);
+    }
+
+    @Test
+    public void testPermutation() {
+        source.sort(null);
+        mlo.check0();
+        source.sort(Collections.reverseOrder());
+        mlo.check1Permutation(list, 0, 3, new int[]{2, 1, 0});
+        assertEquals(Arrays.asList("c", "b", "a"), list);
+    }
+
+    @Test
+    public void testUpdate() {
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        Person ann = new Person("ann");
+        Person bob = new Person("bob");
+        people.addAll(ann, bob);
+        DistinctList<Person> distinct = new DistinctList<>(people);
+        MockListObserver<Person> observer = new MockListObserver<>();
+        distinct.addListener(observer);
+        bob.name.set("ben");
+        observer.check1Update(distinct, 1, 2);
+    }
+
+    @Test
+    public void testUpdateToEqualElement() {
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        Person ann = new Person("ann");
+        Person bob = new Person("bob");
+        people.addAll(ann, bob);
+        DistinctList<Person> distinct = new DistinctList<>(people);
+        MockListObserver<Person> observer = new MockListObserver<>();
+        distinct.addListener(observer);
+        bob.name.set("ann");
+        observer.check1AddRemove(distinct, Collections.singletonList(bob), 1, 1);
+        assertEquals(Collections.singletonList(ann), distinct);
+        observer.clear();
+        people.remove(bob);
+        observer.check0();
+        people.remove(ann);
+        observer.check1AddRemove(distinct, Collections.singletonList(ann), 0, 0);
+        assertTrue(distinct.isEmpty());
+    }
+
+    @Test
+    public void testUpdateOfShownElement() {
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        Person ann = new Person("ann");
+        Person otherAnn = new Person("ann");
+        Person bob = new Person("bob");
+        people.addAll(ann, bob, otherAnn);
+        DistinctList<Person> distinct = new DistinctList<>(people);
+        ann.name.set("cat");
+        assertEquals(Arrays.asList(ann, bob, otherAnn), distinct);
+        assertSame(otherAnn, distinct.get(2));
+        assertEquals(2, distinct.getSourceIndex(2));
+        people.remove(otherAnn);
+        assertEquals(Arrays.asList(ann, bob), distinct);
+    }
+
+    @Test
+    public void testRandomUpdates() {
+        Random random = new Random(7);
+        String[] names = {"a", "b", "c", "d"};
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        DistinctList<Person> distinct = new DistinctList<>(people);
+        List<Person> replayed = new ArrayList<>();
+        distinct.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<Person> permutated = new ArrayList<>(replayed);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permutated.set(c.getPermutation(i), replayed.get(i));
+                    }
+                    replayed.clear();
+                    replayed.addAll(permutated);
+                } else if (!c.wasUpdated()) {
+                    replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        for (int n = 0; n < 1000; n++) {
+            int size = people.size();
+            switch (random.nextInt(4)) {
+                case 0:
+                    people.add(random.nextInt(size + 1), new Person(names[random.nextInt(names.length)]));
+                    break;
+                case 1:
+                    if (size > 0) {
+                        people.remove(random.nextInt(size));
+                    }
+                    break;
+                default:
+                    if (size > 0) {
+                        people.get(random.nextInt(size)).name.set(names[random.nextInt(names.length)]);
+                    }
+                    break;
+            }
+            List<Person> expected = new ArrayList<>(new LinkedHashSet<>(people));
+            assertEquals(expected, distinct);
+            for (int i = 0; i < distinct.size(); i++) {
+                assertEquals(people.get(distinct.getSourceIndex(i)), distinct.get(i));
+            }
+            assertEquals(distinct, replayed);
+        }
+    }
+
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(42);
+        String[] values = {"a", "b", "c", "d", "e", "f"};
+        List<String> replayed = new ArrayList<>(list);
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<String> permutated = new ArrayList<>(replayed);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permutated.set(c.getPermutation(i), replayed.get(i));
+                    }
+                    replayed.clear();
+                    replayed.addAll(permutated);
+                } else if (!c.wasUpdated()) {
+                    replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        for (int n = 0; n < 500; n++) {
+            int size = source.size();
+            switch (random.nextInt(5)) {
+                case 0:
+                    source.add(random.nextInt(size + 1), values[random.nextInt(values.length)]);
+                    break;
+                case 1:
+                    if (size > 0) {
+                        source.remove(random.nextInt(size));
+                    }
+                    break;
+                case 2:
+                    if (size > 0) {
+                        source.set(random.nextInt(size), values[random.nextInt(values.length)]);
+                    }
+                    break;
+                case 3:
+                    source.setAll(values[random.nextInt(values.length)], values[random.nextInt(values.length)],
+                            values[random.nextInt(values.length)]);
+                    break;
+                default:
+                    ObservableCollections.shuffle(source, random);
+                    break;
+            }
+            assertEquals(new ArrayList<>(new LinkedHashSet<>(source)), list);
+            assertEquals(list, replayed);
+        }
+    }
+
+}
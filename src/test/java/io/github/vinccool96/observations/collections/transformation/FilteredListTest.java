@@ -2,6 +2,7 @@ package io.github.vinccool96.observations.collections.transformation;
 
 import io.github.vinccool96.observations.beans.property.ObjectProperty;
 import io.github.vinccool96.observations.beans.property.SimpleObjectProperty;
+import io.github.vinccool96.observations.collections.ListChangeListener;
 import io.github.vinccool96.observations.collections.MockListObserver;
 import io.github.vinccool96.observations.collections.ObservableCollections;
 import io.github.vinccool96.observations.collections.ObservableList;
@@ -10,12 +11,15 @@ import io.github.vinccool96.observations.sun.collections.ObservableListWrapper;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Predicate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class FilteredListTest {
 
@@ -85,7 +89,7 @@ public class FilteredListTest {
         assertEquals(Arrays.asList("a", "d"), filteredList);
         mlo.check0();
         pProperty.set((String s) -> !s.equals("d"));
-        mlo.check1AddRemove(filteredList, Arrays.asList("a", "d"), 0, 3);
+        mlo.check1AddRemove(filteredList, Collections.singletonList("d"), 1, 3);
     }
 
     @Test
@@ -214,7 +218,8 @@ public class FilteredListTest {
         filteredList.setPredicate(null);
         assertEquals(list.size(), filteredList.size());
         assertEquals(list, filteredList);
-        mlo.check1AddRemove(filteredList, Arrays.asList("a", "d"), 0, 4);
+        mlo.checkAddRemove(0, filteredList, Collections.emptyList(), 1, 2);
+        mlo.checkAddRemove(1, filteredList, Collections.emptyList(), 3, 4);
     }
 
     @Test
@@ -224,4 +229,96 @@ public class FilteredListTest {
         assertEquals(list, filteredList);
     }
 
+    @Test
+    public void testLargeSource() {
+        final ObservableList<Integer> source = ObservableCollections.observableArrayList();
+        final FilteredList<Integer> filtered = new FilteredList<>(source, i -> i % 3 != 0);
+        final List<Integer> replayed = new ArrayList<>();
+        filtered.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                if (!c.wasUpdated()) {
+                    final List<Integer> removed = replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                    assertEquals(c.getRemoved(), removed);
+                    removed.clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        final Random random = new Random(3);
+        for (int round = 0; round < 300; round++) {
+            final int from = random.nextInt(source.size() + 1);
+            if (round < 100 || random.nextBoolean()) {
+                final List<Integer> added = new ArrayList<>();
+                for (int i = random.nextInt(200); i > 0; i--) {
+                    added.add(random.nextInt(1000));
+                }
+                source.addAll(from, added);
+            } else if (random.nextBoolean()) {
+                source.remove(from, Math.min(source.size(), from + random.nextInt(150)));
+            } else if (from < source.size()) {
+                source.set(from, random.nextInt(1000));
+            }
+
+            final List<Integer> expected = new ArrayList<>();
+            for (Integer i : source) {
+                if (i % 3 != 0) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, filtered);
+            assertEquals(expected, replayed);
+            for (int i = 0; i < filtered.size(); i++) {
+                assertEquals(filtered.get(i), source.get(filtered.getSourceIndex(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelRefilter() {
+        final ObservableList<Integer> source = ObservableCollections.observableArrayList();
+        final Random random = new Random(13);
+        for (int i = 0; i < 50000; i++) {
+            source.add(random.nextInt(100));
+        }
+        final FilteredList<Integer> filtered = new FilteredList<>(source, i -> i < 50);
+        filtered.setParallelRefilter(true);
+        assertTrue(filtered.isParallelRefilter());
+        final List<Integer> replayed = new ArrayList<>(filtered);
+        filtered.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                final List<Integer> removed = replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                assertEquals(c.getRemoved(), removed);
+                removed.clear();
+                replayed.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+
+        filtered.setPredicate(i -> i % 7 == 0);
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            if (source.get(i) % 7 == 0) {
+                expected.add(source.get(i));
+            }
+        }
+        assertEquals(expected, filtered);
+        assertEquals(expected, replayed);
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(filtered.get(i), source.get(filtered.getSourceIndex(i)));
+        }
+    }
+
+    @Test
+    public void testRefilterMinimalChange() {
+        list.setAll("a", "b", "c", "d", "e", "f");
+        filteredList.setPredicate(s -> !s.equals("b") && !s.equals("e"));
+        mlo.clear();
+        filteredList.setPredicate(s -> !s.equals("c") && !s.equals("e") && !s.equals("f"));
+        assertEquals(Arrays.asList("a", "b", "d"), filteredList);
+        mlo.checkAddRemove(0, filteredList, Collections.singletonList("c"), 1, 2);
+        mlo.checkAddRemove(1, filteredList, Collections.singletonList("f"), 3, 3);
+        mlo.clear();
+        filteredList.setPredicate(s -> !s.equals("c") && !s.equals("e") && !s.equals("f"));
+        mlo.check0();
+    }
+
 }
@@ -0,0 +1,193 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.collections.MapChangeListener;
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.Person;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GroupedMapTest {
+
+    private ObservableList<String> source;
+
+    private GroupedMap<Character, String> map;
+
+    private List<String> mapChanges;
+
+    @Before
+    public void setUp() {
+        source = ObservableCollections.observableArrayList("apple", "banana", "avocado", "cherry");
+        map = new GroupedMap<>(source, s -> s.charAt(0));
+        mapChanges = new ArrayList<>();
+        map.addListener((MapChangeListener<Character, ObservableList<String>>) c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    mapChanges.add("-" + c.getKey());
+                }
+                if (c.wasAdded()) {
+                    mapChanges.add("+" + c.getKey());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testInitialGroups() {
+        assertEquals(Arrays.asList('a', 'b', 'c'), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("apple", "avocado"), map.get('a'));
+        assertEquals(Collections.singletonList("banana"), map.get('b'));
+        assertSame(source, map.getSource());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        map.put('z', ObservableCollections.observableArrayList());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGroupsAreUnmodifiable() {
+        map.get('a').add("apricot");
+    }
+
+    @Test
+    public void testAddToExistingGroup() {
+        ObservableList<String> a = map.get('a');
+        MockListObserver<String> mlo = new MockListObserver<>();
+        a.addListener(mlo);
+        source.add(1, "apricot");
+        mlo.check1AddRemove(a, null, 1, 2);
+        assertEquals(Arrays.asList("apple", "apricot", "avocado"), a);
+        assertTrue(mapChanges.isEmpty());
+    }
+
+    @Test
+    public void testAddNewGroup() {
+        source.addAll("date", "durian");
+        assertEquals(Collections.singletonList("+d"), mapChanges);
+        assertEquals(Arrays.asList("date", "durian"), map.get('d'));
+    }
+
+    @Test
+    public void testRemove() {
+        source.remove("apple");
+        assertEquals(Collections.singletonList("avocado"), map.get('a'));
+        assertTrue(mapChanges.isEmpty());
+        source.remove("banana");
+        assertEquals(Collections.singletonList("-b"), mapChanges);
+        assertFalse(map.containsKey('b'));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        source.remove(0, 3);
+        assertEquals(Arrays.asList("-a", "-b"), mapChanges);
+        assertEquals(Collections.singleton('c'), map.keySet());
+    }
+
+    @Test
+    public void testReplaceKeepsGroup() {
+        ObservableList<String> b = map.get('b');
+        source.set(1, "blueberry");
+        assertTrue(mapChanges.isEmpty());
+        assertSame(b, map.get('b'));
+        assertEquals(Collections.singletonList("blueberry"), b);
+    }
+
+    @Test
+    public void testReplaceMovesElement() {
+        source.set(0, "cranberry");
+        assertTrue(mapChanges.isEmpty());
+        assertEquals(Collections.singletonList("avocado"), map.get('a'));
+        assertEquals(Arrays.asList("cranberry", "cherry"), map.get('c'));
+    }
+
+    @Test
+    public void testSetAll() {
+        source.setAll("elderberry", "cherry");
+        assertEquals(Arrays.asList("+e", "-a", "-b"), mapChanges);
+        assertEquals(2, map.size());
+        assertEquals(Collections.singletonList("elderberry"), map.get('e'));
+        assertEquals(Collections.singletonList("cherry"), map.get('c'));
+    }
+
+    @Test
+    public void testPermutation() {
+        source.sort((s1, s2) -> s2.compareTo(s1));
+        assertEquals(Arrays.asList("cherry", "banana", "avocado", "apple"), source);
+        assertEquals(Arrays.asList("avocado", "apple"), map.get('a'));
+        assertTrue(mapChanges.isEmpty());
+    }
+
+    @Test
+    public void testUpdateMovesElement() {
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        Person ann = new Person("ann");
+        Person bob = new Person("bob");
+        Person amy = new Person("amy");
+        people.addAll(ann, bob, amy);
+        GroupedMap<Character, Person> byInitial = new GroupedMap<>(people, p -> p.name.get().charAt(0));
+        ann.name.set("beth");
+        assertEquals(Collections.singletonList(amy), byInitial.get('a'));
+        assertEquals(Arrays.asList(ann, bob), byInitial.get('b'));
+        amy.name.set("bea");
+        assertFalse(byInitial.containsKey('a'));
+        assertEquals(Arrays.asList(ann, bob, amy), byInitial.get('b'));
+    }
+
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(11);
+        String[] words = {"apple", "avocado", "banana", "blueberry", "cherry", "date"};
+        for (int n = 0; n < 1000; n++) {
+            int size = source.size();
+            switch (random.nextInt(6)) {
+                case 0:
+                    source.add(random.nextInt(size + 1), words[random.nextInt(words.length)]);
+                    break;
+                case 1:
+                    source.addAll(random.nextInt(size + 1),
+                            Arrays.asList(words[random.nextInt(words.length)], words[random.nextInt(words.length)]));
+                    break;
+                case 2:
+                    if (size > 0) {
+                        int from = random.nextInt(size);
+                        source.remove(from, Math.min(size, from + 1 + random.nextInt(3)));
+                    }
+                    break;
+                case 3:
+                    if (size > 0) {
+                        source.set(random.nextInt(size), words[random.nextInt(words.length)]);
+                    }
+                    break;
+                case 4:
+                    ObservableCollections.sort(source, random.nextBoolean() ? null : Collections.reverseOrder());
+                    break;
+                default:
+                    ObservableCollections.shuffle(source, random);
+                    break;
+            }
+            Map<Character, List<String>> expected = new LinkedHashMap<>();
+            for (String word : source) {
+                expected.computeIfAbsent(word.charAt(0), k -> new ArrayList<>()).add(word);
+            }
+            assertEquals(expected.keySet(), map.keySet());
+            for (Map.Entry<Character, List<String>> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey()));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.Person;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class MappedListTest {
+
+    private ObservableList<Person> source;
+
+    private AtomicInteger calls;
+
+    private MappedList<Person, String> list;
+
+    private MockListObserver<String> mlo;
+
+    @Before
+    public void setUp() {
+        source = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        source.addAll(new Person("a"), new Person("b"), new Person("c"));
+        calls = new AtomicInteger();
+        list = new MappedList<>(source, p -> {
+            calls.incrementAndGet();
+            return p.name.get().toUpperCase();
+        }, 10);
+        mlo = new MockListObserver<>();
+        list.addListener(mlo);
+    }
+
+    @Test
+    public void testMapsLazily() {
+        assertEquals(0, calls.get());
+        assertEquals("B", list.get(1));
+        assertEquals(1, calls.get());
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        assertEquals(3, calls.get());
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testWithoutCache() {
+        list = new MappedList<>(source, p -> {
+            calls.incrementAndGet();
+            return p.name.get();
+        });
+        list.get(0);
+        list.get(0);
+        assertEquals(2, calls.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCacheSize() {
+        new MappedList<>(source, p -> p, -1);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        list = new MappedList<>(source, p -> {
+            calls.incrementAndGet();
+            return p.name.get();
+        }, 2);
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        list.get(2);
+        list.get(1);
+        assertEquals(3, calls.get());
+        list.get(0);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testAdd() {
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        source.add(1, new Person("x"));
+        mlo.check1AddRemove(list, null, 1, 2);
+        assertEquals(Arrays.asList("A", "X", "B", "C"), list);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        source.remove(0, 2);
+        assertEquals(Collections.singletonList("C"), list);
+        assertEquals(3, calls.get());
+        mlo.check1AddRemove(list, Arrays.asList("A", "B"), 0, 0);
+    }
+
+    @Test
+    public void testReplaceInvalidatesCache() {
+        Person b = source.get(1);
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        source.set(1, new Person("y"));
+        assertEquals(Arrays.asList("A", "Y", "C"), list);
+        assertEquals(4, calls.get());
+        mlo.check1AddRemove(list, Collections.singletonList("B"), 1, 2);
+        calls.set(0);
+        source.add(b);
+        assertEquals("B", list.get(3));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testUpdateInvalidatesCache() {
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        source.get(2).name.set("z");
+        mlo.check1Update(list, 2, 3);
+        assertEquals(Arrays.asList("A", "B", "Z"), list);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testPermutation() {
+        assertEquals(Arrays.asList("A", "B", "C"), list);
+        source.sort((p1, p2) -> p2.name.get().compareTo(p1.name.get()));
+        mlo.check1Permutation(list, 0, 3, new int[]{2, 1, 0});
+        assertEquals(Arrays.asList("C", "B", "A"), list);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testSourceIndex() {
+        assertEquals(2, list.getSourceIndex(2));
+        assertSame(source, list.getSource());
+    }
+
+}
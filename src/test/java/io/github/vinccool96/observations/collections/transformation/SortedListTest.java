@@ -133,6 +133,54 @@ public class SortedListTest {
         compareIndices();
     }
 
+    @Test
+    public void testAddSeveral() {
+        list.addAll(1, Arrays.asList("e", "b", "c", "a"));
+        assertEquals(Arrays.asList("a", "a", "b", "c", "c", "c", "d", "e"), sortedList);
+        mockListObserver.checkAddRemove(0, sortedList, Collections.emptyList(), 1, 3);
+        mockListObserver.checkAddRemove(1, sortedList, Collections.emptyList(), 5, 6);
+        mockListObserver.checkAddRemove(2, sortedList, Collections.emptyList(), 7, 8);
+
+        compareIndices();
+    }
+
+    @Test
+    public void testBulkChanges() {
+        final List<String> replayed = new ArrayList<>(sortedList);
+        sortedList.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    final List<String> copy = new ArrayList<>(replayed);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        replayed.set(c.getPermutation(i), copy.get(i));
+                    }
+                } else if (!c.wasUpdated()) {
+                    final List<String> removed = replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize());
+                    assertEquals(c.getRemoved(), removed);
+                    removed.clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        final Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            final int from = random.nextInt(list.size() + 1);
+            final int to = Math.min(list.size(), from + random.nextInt(20));
+            final List<String> added = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                added.add(String.valueOf((char) ('a' + random.nextInt(26))));
+            }
+            list.subList(from, to).clear();
+            list.addAll(from, added);
+
+            final List<String> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            assertEquals(expected, sortedList);
+            assertEquals(sortedList, replayed);
+            compareIndices();
+        }
+    }
+
     @Test
     public void testPureRemove() {
         list.removeAll(Arrays.asList("c", "d"));
@@ -350,6 +398,80 @@ public class SortedListTest {
 
     }
 
+    private static class Updater<E> extends ObservableListWrapper<E> {
+
+        public Updater(List<E> list) {
+            super(list);
+        }
+
+        public void update(int... indexes) {
+            beginChange();
+            for (int index : indexes) {
+                nextUpdate(index);
+            }
+            endChange();
+        }
+
+    }
+
+    private static int value(Person person) {
+        return Integer.parseInt(person.name.get());
+    }
+
+    @Test
+    public void testSeveralUpdatesInOneChange() {
+        Updater<Person> list = new Updater<>(Person.createPersonsFromNames("0", "5", "3", "7"));
+        SortedList<Person> sorted = list.sorted(Comparator.comparingInt(SortedListTest::value));
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+
+        list.get(0).name.set("6");
+        list.get(2).name.set("100");
+        list.update(0, 2);
+        assertEquals(Person.createPersonsList("5", "6", "7", "100"), sorted);
+        listener.checkPermutation(0, sorted, 0, 4, new int[]{1, 3, 0, 2});
+        listener.checkUpdate(1, sorted, 1, 2);
+        listener.checkUpdate(2, sorted, 3, 4);
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testRandomUpdatesInOneChange() {
+        final Random random = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            String[] names = new String[20];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = String.valueOf(random.nextInt(30));
+            }
+            Updater<Person> list = new Updater<>(Person.createPersonsFromNames(names));
+            SortedList<Person> sorted = list.sorted(Comparator.comparingInt(SortedListTest::value));
+            final List<Person> replayed = new ArrayList<>(sorted);
+            sorted.addListener((ListChangeListener<Person>) c -> {
+                while (c.next()) {
+                    if (c.wasPermutated()) {
+                        final List<Person> copy = new ArrayList<>(replayed);
+                        for (int i = c.getFrom(); i < c.getTo(); i++) {
+                            replayed.set(c.getPermutation(i), copy.get(i));
+                        }
+                    }
+                }
+            });
+
+            int[] indexes = new int[1 + random.nextInt(6)];
+            for (int k = 0; k < indexes.length; k++) {
+                indexes[k] = random.nextInt(list.size());
+                list.get(indexes[k]).name.set(String.valueOf(random.nextInt(30)));
+            }
+            list.update(indexes);
+
+            final List<Person> expected = new ArrayList<>(list);
+            expected.sort(Comparator.comparingInt(SortedListTest::value));
+            assertEquals(expected, sorted);
+            assertEquals(sorted, replayed);
+            compareIndices(sorted);
+        }
+    }
+
     /**
      * SortedList cant cope with permutations.
      */
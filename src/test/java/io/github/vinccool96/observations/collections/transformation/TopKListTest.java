@@ -0,0 +1,278 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.beans.Observable;
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ModifiableObservableListBase;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import io.github.vinccool96.observations.collections.Person;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TopKListTest {
+
+    private ObservableList<Integer> source;
+
+    private TopKList<Integer> list;
+
+    private MockListObserver<Integer> mlo;
+
+    @Before
+    public void setUp() {
+        source = ObservableCollections.observableArrayList(5, 3, 8, 1, 9, 7);
+        list = new TopKList<>(source, Comparator.naturalOrder(), 3);
+        mlo = new MockListObserver<>();
+        list.addListener(mlo);
+    }
+
+    @Test
+    public void testInitialElements() {
+        assertEquals(Arrays.asList(1, 3, 5), list);
+        assertEquals(3, list.getK());
+        assertEquals(3, list.getSourceIndex(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        new TopKList<>(source, Comparator.naturalOrder(), -1);
+    }
+
+    @Test
+    public void testFewerElementsThanK() {
+        TopKList<Integer> big = new TopKList<>(source, Comparator.naturalOrder(), 10);
+        assertEquals(Arrays.asList(1, 3, 5, 7, 8, 9), big);
+        source.add(4);
+        assertEquals(Arrays.asList(1, 3, 4, 5, 7, 8, 9), big);
+    }
+
+    @Test
+    public void testAddOutsideTop() {
+        source.add(6);
+        mlo.check0();
+        assertEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    public void testAddInTop() {
+        source.add(0, 2);
+        mlo.checkAddRemove(0, list, null, 1, 2);
+        mlo.checkAddRemove(1, list, Collections.singletonList(5), 3, 3);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+    }
+
+    @Test
+    public void testRemoveOutsideTop() {
+        source.remove(Integer.valueOf(9));
+        mlo.check0();
+    }
+
+    @Test
+    public void testRemoveFromTop() {
+        source.remove(Integer.valueOf(3));
+        mlo.checkAddRemove(0, list, Collections.singletonList(3), 1, 1);
+        mlo.checkAddRemove(1, list, null, 2, 3);
+        assertEquals(Arrays.asList(1, 5, 7), list);
+    }
+
+    @Test
+    public void testPermutation() {
+        ObservableCollections.sort(source);
+        mlo.check0();
+        assertEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    public void testShuffle() {
+        ObservableCollections.shuffle(source, new Random(3));
+        mlo.check0();
+        assertEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    public void testKIsZero() {
+        TopKList<Integer> empty = new TopKList<>(source, Comparator.naturalOrder(), 0);
+        source.addAll(0, 2);
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void testUpdate() {
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        Person ann = new Person("ann");
+        Person bob = new Person("bob");
+        Person cat = new Person("cat");
+        Person dan = new Person("dan");
+        people.addAll(dan, bob, cat, ann);
+        TopKList<Person> first = new TopKList<>(people, Comparator.comparing(p -> p.name.get()), 2);
+        MockListObserver<Person> observer = new MockListObserver<>();
+        first.addListener(observer);
+        assertEquals(Arrays.asList(ann, bob), first);
+
+        bob.name.set("bea");
+        observer.check1Update(first, 1, 2);
+
+        observer.clear();
+        dan.name.set("abe");
+        assertEquals(Arrays.asList(dan, ann), first);
+        observer.checkAddRemove(0, first, null, 0, 1);
+        observer.checkAddRemove(1, first, Collections.singletonList(bob), 2, 2);
+
+        observer.clear();
+        ann.name.set("zoe");
+        assertEquals(Arrays.asList(dan, bob), first);
+
+        observer.clear();
+        cat.name.set("cal");
+        observer.check0();
+    }
+
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(7);
+        ObservableList<Person> people = ObservableCollections.observableArrayList(p -> new Observable[]{p.name});
+        for (int i = 0; i < 50; i++) {
+            people.add(new Person(randomName(random)));
+        }
+        Comparator<Person> byName = Comparator.comparing(p -> p.name.get());
+        TopKList<Person> first = new TopKList<>(people, byName, 10);
+        List<Person> replayed = new ArrayList<>(first);
+        first.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                assertFalse(c.wasPermutated());
+                if (!c.wasUpdated()) {
+                    replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        for (int n = 0; n < 1000; n++) {
+            int size = people.size();
+            switch (random.nextInt(5)) {
+                case 0:
+                    people.add(random.nextInt(size + 1), new Person(randomName(random)));
+                    break;
+                case 1:
+                    if (size > 0) {
+                        people.remove(random.nextInt(size));
+                    }
+                    break;
+                case 2:
+                    if (size > 0) {
+                        people.set(random.nextInt(size), new Person(randomName(random)));
+                    }
+                    break;
+                case 3:
+                    if (size > 0) {
+                        people.get(random.nextInt(size)).name.set(randomName(random));
+                    }
+                    break;
+                default:
+                    ObservableCollections.shuffle(people, random);
+                    break;
+            }
+            List<Person> expected = new ArrayList<>(people);
+            expected.sort(byName);
+            assertEquals(expected.subList(0, Math.min(10, expected.size())), first);
+            assertEquals(first, replayed);
+        }
+    }
+
+    @Test
+    public void testMultipleUpdates() {
+        Random random = new Random(5);
+        for (int run = 0; run < 200; run++) {
+            UpdatableList cells = new UpdatableList();
+            for (int i = 0; i < 20; i++) {
+                cells.add(new int[]{random.nextInt(60)});
+            }
+            Comparator<int[]> byValue = Comparator.comparingInt(cell -> cell[0]);
+            TopKList<int[]> first = new TopKList<>(cells, byValue, 5);
+            List<int[]> replayed = new ArrayList<>(first);
+            first.addListener((ListChangeListener<int[]>) c -> {
+                while (c.next()) {
+                    if (!c.wasUpdated()) {
+                        replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                        replayed.addAll(c.getFrom(), c.getAddedSubList());
+                    }
+                }
+            });
+            for (int n = 0; n < 10; n++) {
+                int[] indexes = new int[1 + random.nextInt(6)];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = random.nextInt(cells.size());
+                    cells.get(indexes[i])[0] = random.nextInt(60);
+                }
+                cells.update(indexes);
+                List<int[]> expected = new ArrayList<>(cells);
+                expected.sort(byValue);
+                List<Integer> expectedValues = new ArrayList<>();
+                for (int[] cell : expected.subList(0, 5)) {
+                    expectedValues.add(cell[0]);
+                }
+                List<Integer> values = new ArrayList<>();
+                for (int[] cell : first) {
+                    values.add(cell[0]);
+                }
+                assertEquals(expectedValues, values);
+                assertEquals(first, replayed);
+            }
+        }
+    }
+
+    /**
+     * A list that reports the elements at several indexes as updated in a single change.
+     */
+    private static class UpdatableList extends ModifiableObservableListBase<int[]> {
+
+        private final List<int[]> cells = new ArrayList<>();
+
+        void update(int... indexes) {
+            beginChange();
+            for (int index : indexes) {
+                nextUpdate(index);
+            }
+            endChange();
+        }
+
+        @Override
+        public int[] get(int index) {
+            return cells.get(index);
+        }
+
+        @Override
+        public int size() {
+            return cells.size();
+        }
+
+        @Override
+        protected void doAdd(int index, int[] element) {
+            cells.add(index, element);
+        }
+
+        @Override
+        protected int[] doSet(int index, int[] element) {
+            return cells.set(index, element);
+        }
+
+        @Override
+        protected int[] doRemove(int index) {
+            return cells.remove(index);
+        }
+
+    }
+
+    private static String randomName(Random random) {
+        return String.format("%09d", random.nextInt(1_000_000_000));
+    }
+
+}
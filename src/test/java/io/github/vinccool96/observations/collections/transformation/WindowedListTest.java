@@ -0,0 +1,187 @@
+package io.github.vinccool96.observations.collections.transformation;
+
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import io.github.vinccool96.observations.collections.MockListObserver;
+import io.github.vinccool96.observations.collections.ObservableCollections;
+import io.github.vinccool96.observations.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class WindowedListTest {
+
+    private ObservableList<String> source;
+
+    private WindowedList<String> list;
+
+    private MockListObserver<String> mlo;
+
+    @Before
+    public void setUp() {
+        source = ObservableCollections.observableArrayList("a", "b", "c", "d", "e", "f", "g", "h");
+        list = new WindowedList<>(source, 2, 3);
+        mlo = new MockListObserver<>();
+        list.addListener(mlo);
+    }
+
+    @Test
+    public void testWindow() {
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+        assertEquals(2, list.getOffset());
+        assertEquals(3, list.getLength());
+        assertEquals(4, list.getSourceIndex(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfWindow() {
+        list.get(3);
+    }
+
+    @Test
+    public void testWindowAfterEnd() {
+        list.setOffset(6);
+        assertEquals(Arrays.asList("g", "h"), list);
+        list.setOffset(10);
+        assertTrue(list.isEmpty());
+        list.setOffset(0);
+        list.setLength(Integer.MAX_VALUE);
+        assertEquals(source, list);
+    }
+
+    @Test
+    public void testChangeAfterWindow() {
+        source.add("i");
+        source.set(6, "x");
+        source.remove(5);
+        mlo.check0();
+    }
+
+    @Test
+    public void testSetInWindow() {
+        source.set(3, "x");
+        mlo.check1AddRemove(list, Collections.singletonList("d"), 1, 2);
+        assertEquals(Arrays.asList("c", "x", "e"), list);
+    }
+
+    @Test
+    public void testSetClipped() {
+        source.setAll("a", "b", "c", "d", "e", "f", "g", "h");
+        mlo.check1AddRemove(list, Arrays.asList("c", "d", "e"), 0, 3);
+    }
+
+    @Test
+    public void testAddBeforeWindow() {
+        source.add(0, "x");
+        mlo.check1AddRemove(list, Arrays.asList("c", "d", "e"), 0, 3);
+        assertEquals(Arrays.asList("b", "c", "d"), list);
+    }
+
+    @Test
+    public void testRemoveInWindow() {
+        source.remove(3);
+        mlo.check1AddRemove(list, Arrays.asList("d", "e"), 1, 3);
+        assertEquals(Arrays.asList("c", "e", "f"), list);
+    }
+
+    @Test
+    public void testPermutationInWindow() {
+        source.subList(2, 5).sort(Collections.reverseOrder());
+        assertEquals(Arrays.asList("e", "d", "c"), list);
+        source.removeAll("a");
+        mlo.clear();
+        ObservableCollections.sort(source, Collections.reverseOrder());
+        assertEquals(Arrays.asList("f", "e", "d"), list);
+    }
+
+    @Test
+    public void testMoveWindow() {
+        list.setOffset(3);
+        mlo.checkAddRemove(0, list, Collections.singletonList("c"), 0, 0);
+        mlo.checkAddRemove(1, list, null, 2, 3);
+        assertEquals(Arrays.asList("d", "e", "f"), list);
+        mlo.clear();
+        list.setOffset(1);
+        mlo.checkAddRemove(0, list, null, 0, 2);
+        mlo.checkAddRemove(1, list, Arrays.asList("e", "f"), 3, 3);
+        assertEquals(Arrays.asList("b", "c", "d"), list);
+        mlo.clear();
+        list.setLength(2);
+        mlo.check1AddRemove(list, Collections.singletonList("d"), 2, 2);
+        assertEquals(Arrays.asList("b", "c"), list);
+    }
+
+    @Test
+    public void testMoveWindowWithoutOverlap() {
+        list.setOffset(5);
+        mlo.check1AddRemove(list, Arrays.asList("c", "d", "e"), 0, 3);
+        assertEquals(Arrays.asList("f", "g", "h"), list);
+    }
+
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(11);
+        List<String> replayed = new ArrayList<>(list);
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<String> permutated = new ArrayList<>(replayed);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permutated.set(c.getPermutation(i), replayed.get(i));
+                    }
+                    replayed.clear();
+                    replayed.addAll(permutated);
+                } else if (!c.wasUpdated()) {
+                    replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    replayed.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        for (int n = 0; n < 2000; n++) {
+            int size = source.size();
+            String value = String.valueOf((char) ('a' + random.nextInt(26)));
+            switch (random.nextInt(8)) {
+                case 0:
+                    source.add(random.nextInt(size + 1), value);
+                    break;
+                case 1:
+                    if (size > 0) {
+                        int from = random.nextInt(size);
+                        source.remove(from, from + random.nextInt(Math.min(size - from, 4) + 1));
+                    }
+                    break;
+                case 2:
+                    if (size > 0) {
+                        source.set(random.nextInt(size), value);
+                    }
+                    break;
+                case 3:
+                    source.removeAll(value, String.valueOf((char) ('a' + random.nextInt(26))));
+                    break;
+                case 4:
+                    ObservableCollections.sort(source);
+                    break;
+                case 5:
+                    ObservableCollections.shuffle(source, random);
+                    break;
+                case 6:
+                    list.setOffset(random.nextInt(size + 3));
+                    break;
+                default:
+                    list.setLength(random.nextInt(10));
+                    break;
+            }
+            int from = Math.min(list.getOffset(), source.size());
+            int to = Math.min(list.getOffset() + list.getLength(), source.size());
+            assertEquals(source.subList(from, to), list);
+            assertEquals(list, replayed);
+        }
+    }
+
+}
@@ -13,6 +13,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("unchecked")
@@ -683,4 +685,71 @@ public class ExpressionHelperTest {
         assertEquals(4, called.get());
     }
 
+    @Test
+    public void testContainsListener() {
+        assertFalse(ExpressionHelper.containsListener(helper, invalidationListener[0]));
+        assertFalse(ExpressionHelper.containsListener(helper, changeListener[0]));
+
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        assertTrue(ExpressionHelper.containsListener(helper, invalidationListener[0]));
+        assertFalse(ExpressionHelper.containsListener(helper, invalidationListener[1]));
+        assertFalse(ExpressionHelper.containsListener(helper, changeListener[0]));
+
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+        assertTrue(ExpressionHelper.containsListener(helper, invalidationListener[0]));
+        assertTrue(ExpressionHelper.containsListener(helper, changeListener[0]));
+        assertFalse(ExpressionHelper.containsListener(helper, changeListener[1]));
+
+        helper = ExpressionHelper.removeListener(helper, invalidationListener[0]);
+        assertFalse(ExpressionHelper.containsListener(helper, invalidationListener[0]));
+        assertTrue(ExpressionHelper.containsListener(helper, changeListener[0]));
+    }
+
+    @Test
+    public void testContainsListenerWithManyListeners() {
+        final int count = 4 * ListenerIndex.THRESHOLD;
+        final InvalidationListenerMock[] listeners = new InvalidationListenerMock[count];
+        for (int i = 0; i < count; i++) {
+            listeners[i] = new InvalidationListenerMock();
+            helper = ExpressionHelper.addListener(helper, observable, listeners[i]);
+        }
+        helper = ExpressionHelper.addListener(helper, observable, listeners[0]);
+        for (int i = 0; i < count; i++) {
+            assertTrue(ExpressionHelper.containsListener(helper, listeners[i]));
+        }
+        assertFalse(ExpressionHelper.containsListener(helper, invalidationListener[0]));
+
+        helper = ExpressionHelper.removeListener(helper, listeners[0]);
+        assertTrue(ExpressionHelper.containsListener(helper, listeners[0]));
+        helper = ExpressionHelper.removeListener(helper, listeners[0]);
+        assertFalse(ExpressionHelper.containsListener(helper, listeners[0]));
+        for (int i = 1; i < count; i++) {
+            helper = ExpressionHelper.removeListener(helper, listeners[i]);
+            assertFalse(ExpressionHelper.containsListener(helper, listeners[i]));
+        }
+        assertNull(helper);
+    }
+
+    @Test
+    public void testContainsListenerWithManyListenersWhileLocked() {
+        final int count = 2 * ListenerIndex.THRESHOLD;
+        final ChangeListenerMock<Object>[] listeners = new ChangeListenerMock[count];
+        for (int i = 0; i < count; i++) {
+            listeners[i] = new ChangeListenerMock<>(UNDEFINED);
+            helper = ExpressionHelper.addListener(helper, observable, listeners[i]);
+        }
+        final ChangeListener<Object> removingListener = (value, o1, o2) -> {
+            helper = ExpressionHelper.removeListener(helper, listeners[1]);
+            helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+        };
+        helper = ExpressionHelper.addListener(helper, observable, removingListener);
+        observable.set(DATA_2);
+        helper.fireValueChangedEvent();
+
+        assertFalse(ExpressionHelper.containsListener(helper, listeners[1]));
+        assertTrue(ExpressionHelper.containsListener(helper, listeners[0]));
+        assertTrue(ExpressionHelper.containsListener(helper, changeListener[0]));
+        assertTrue(ExpressionHelper.containsListener(helper, removingListener));
+    }
+
 }
@@ -0,0 +1,175 @@
+package io.github.vinccool96.observations.sun.binding;
+
+import io.github.vinccool96.observations.beans.value.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveChangeHelperTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testAdd_Null_X() {
+        DoubleChangeHelper.addListener(null, null, (observable, oldValue, newValue) -> {
+        });
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAdd_X_Null() {
+        DoubleChangeHelper.addListener(null, new ObservableDoubleValueStub(), null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRemove_Null() {
+        DoubleChangeHelper.removeListener(null, null);
+    }
+
+    @Test
+    public void testEmptyHelper() {
+        DoubleChangeHelper.fireValueChangedEvent(null);
+        assertNull(DoubleChangeHelper.removeListener(null, (observable, oldValue, newValue) -> {
+        }));
+        assertFalse(DoubleChangeHelper.containsListener(null, (observable, oldValue, newValue) -> {
+        }));
+    }
+
+    @Test
+    public void testDoubleChange() {
+        final ObservableDoubleValueStub observable = new ObservableDoubleValueStub(1.0);
+        final List<double[]> calls = new ArrayList<>();
+        final DoubleChangeListener listener = (obs, oldValue, newValue) -> {
+            assertSame(observable, obs);
+            calls.add(new double[]{oldValue, newValue});
+        };
+        observable.addDoubleChangeListener(listener);
+        assertTrue(observable.isDoubleChangeListenerAlreadyAdded(listener));
+
+        observable.set(2.0);
+        assertEquals(1, calls.size());
+        assertEquals(1.0, calls.get(0)[0], 0.0);
+        assertEquals(2.0, calls.get(0)[1], 0.0);
+
+        observable.set(2.0);
+        assertEquals(1, calls.size());
+
+        observable.set(Double.NaN);
+        observable.set(Double.NaN);
+        assertEquals(2, calls.size());
+
+        observable.set(0.0);
+        observable.set(-0.0);
+        assertEquals(4, calls.size());
+
+        observable.removeDoubleChangeListener(listener);
+        assertFalse(observable.isDoubleChangeListenerAlreadyAdded(listener));
+        observable.set(5.0);
+        assertEquals(4, calls.size());
+    }
+
+    @Test
+    public void testIntegerChangeWithSeveralListeners() {
+        final ObservableIntegerValueStub observable = new ObservableIntegerValueStub(3);
+        final AtomicInteger sum = new AtomicInteger();
+        final IntegerChangeListener listener1 = (obs, oldValue, newValue) -> sum.addAndGet(newValue - oldValue);
+        final IntegerChangeListener listener2 = (obs, oldValue, newValue) -> sum.addAndGet(10 * (newValue - oldValue));
+        observable.addIntegerChangeListener(listener1);
+        observable.addIntegerChangeListener(listener2);
+
+        observable.set(5);
+        assertEquals(22, sum.get());
+
+        observable.removeIntegerChangeListener(listener1);
+        observable.set(6);
+        assertEquals(32, sum.get());
+    }
+
+    @Test
+    public void testBooleanChange() {
+        final ObservableBooleanValueStub observable = new ObservableBooleanValueStub(false);
+        final List<Boolean> values = new ArrayList<>();
+        observable.addBooleanChangeListener((obs, oldValue, newValue) -> {
+            assertNotEquals(oldValue, newValue);
+            values.add(newValue);
+        });
+        observable.set(true);
+        observable.set(true);
+        observable.set(false);
+        assertEquals(2, values.size());
+        assertTrue(values.get(0));
+        assertFalse(values.get(1));
+    }
+
+    @Test
+    public void testFloatAndLongChange() {
+        final ObservableFloatValueStub floatObservable = new ObservableFloatValueStub(-1.5f);
+        final List<float[]> floatCalls = new ArrayList<>();
+        floatObservable.addFloatChangeListener(
+                (obs, oldValue, newValue) -> floatCalls.add(new float[]{oldValue, newValue}));
+        floatObservable.set(0.0f);
+        floatObservable.set(-0.0f);
+        assertEquals(2, floatCalls.size());
+        assertEquals(-1.5f, floatCalls.get(0)[0], 0.0f);
+        assertEquals(Float.floatToIntBits(-0.0f), Float.floatToIntBits(floatCalls.get(1)[1]));
+
+        final ObservableLongValueStub longObservable = new ObservableLongValueStub(Long.MIN_VALUE);
+        final List<long[]> longCalls = new ArrayList<>();
+        longObservable.addLongChangeListener(
+                (obs, oldValue, newValue) -> longCalls.add(new long[]{oldValue, newValue}));
+        longObservable.set(Long.MAX_VALUE);
+        longObservable.set(Long.MAX_VALUE);
+        assertEquals(1, longCalls.size());
+        assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, longCalls.get(0));
+    }
+
+    @Test
+    public void testNestedChange() {
+        final ObservableLongValueStub observable = new ObservableLongValueStub(0L);
+        final List<long[]> calls = new ArrayList<>();
+        observable.addLongChangeListener((obs, oldValue, newValue) -> {
+            if (newValue == 1L) {
+                observable.set(2L);
+            }
+        });
+        observable.addLongChangeListener((obs, oldValue, newValue) -> calls.add(new long[]{oldValue, newValue}));
+
+        observable.set(1L);
+        assertEquals(2, calls.size());
+        assertArrayEquals(new long[]{1L, 2L}, calls.get(0));
+        assertArrayEquals(new long[]{0L, 1L}, calls.get(1));
+    }
+
+    @Test
+    public void testRemoveWhileNotifying() {
+        final ObservableFloatValueStub observable = new ObservableFloatValueStub(0.0f);
+        final AtomicInteger called = new AtomicInteger();
+        final FloatChangeListener listener2 = (obs, oldValue, newValue) -> called.incrementAndGet();
+        observable.addFloatChangeListener((obs, oldValue, newValue) -> observable.removeFloatChangeListener(listener2));
+        observable.addFloatChangeListener(listener2);
+
+        observable.set(1.0f);
+        assertEquals(1, called.get());
+        observable.set(2.0f);
+        assertEquals(1, called.get());
+    }
+
+    @Test
+    public void testExceptionHandledByThreadUncaughtHandler() {
+        final AtomicInteger called = new AtomicInteger();
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> called.incrementAndGet());
+
+        final ObservableDoubleValueStub observable = new ObservableDoubleValueStub();
+        observable.addDoubleChangeListener((obs, oldValue, newValue) -> {
+            throw new RuntimeException();
+        });
+        observable.addDoubleChangeListener((obs, oldValue, newValue) -> {
+            throw new RuntimeException();
+        });
+        observable.set(1.0);
+
+        assertEquals(2, called.get());
+    }
+
+}
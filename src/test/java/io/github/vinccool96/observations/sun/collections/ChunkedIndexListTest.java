@@ -0,0 +1,121 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ChunkedIndexListTest {
+
+    @Test
+    public void testAddGetSet() {
+        final ChunkedIndexList list = new ChunkedIndexList();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i, i * 2);
+        }
+        assertEquals(5000, list.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i * 2, list.get(i));
+        }
+        list.set(4000, 7);
+        assertEquals(7, list.get(4000));
+    }
+
+    @Test
+    public void testAddToAll() {
+        final ChunkedIndexList list = new ChunkedIndexList(new int[]{0, 1, 2, 3}, 3);
+        list.addToAll(1, 10);
+        assertArrayEquals(new int[]{0, 11, 12}, list.toArray());
+    }
+
+    @Test
+    public void testBinarySearch() {
+        final int[] values = new int[3000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+        final ChunkedIndexList list = new ChunkedIndexList(values, values.length);
+        list.addToAll(1500, 1);
+        assertEquals(0, list.binarySearch(0));
+        assertEquals(1499, list.binarySearch(1499 * 3));
+        assertEquals(1500, list.binarySearch(1500 * 3 + 1));
+        assertEquals(~1500, list.binarySearch(1500 * 3));
+        assertEquals(~0, list.binarySearch(-1));
+        assertEquals(~3000, list.binarySearch(10000));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        new ChunkedIndexList().get(0);
+    }
+
+    @Test
+    public void testRandomOperations() {
+        final ChunkedIndexList list = new ChunkedIndexList();
+        final List<Integer> expected = new ArrayList<>();
+        final Random random = new Random(11);
+        for (int round = 0; round < 2000; round++) {
+            final int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(4)) {
+                case 0:
+                    for (int i = random.nextInt(300); i > 0; i--) {
+                        final int value = random.nextInt();
+                        list.add(index, value);
+                        expected.add(index, value);
+                    }
+                    break;
+                case 1:
+                    final int to = Math.min(expected.size(), index + random.nextInt(400));
+                    list.removeRange(index, to);
+                    expected.subList(index, to).clear();
+                    break;
+                case 2:
+                    final int delta = random.nextInt(100) - 50;
+                    list.addToAll(index, delta);
+                    for (int i = index; i < expected.size(); i++) {
+                        expected.set(i, expected.get(i) + delta);
+                    }
+                    break;
+                default:
+                    if (index < expected.size()) {
+                        list.set(index, round);
+                        expected.set(index, round);
+                    }
+            }
+            assertEquals(expected.size(), list.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals((int) expected.get(i), list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSortedRandomOperations() {
+        final ChunkedIndexList list = new ChunkedIndexList();
+        final List<Integer> expected = new ArrayList<>();
+        final Random random = new Random(5);
+        for (int round = 0; round < 3000; round++) {
+            final int value = random.nextInt(20000);
+            int pos = list.binarySearch(value);
+            assertEquals(Collections.binarySearch(expected, value) >= 0, pos >= 0);
+            if (pos < 0) {
+                pos = ~pos;
+                assertEquals(~Collections.binarySearch(expected, value), pos);
+                list.add(pos, value);
+                expected.add(pos, value);
+            } else {
+                assertEquals((int) expected.get(pos), value);
+                list.remove(pos);
+                expected.remove(pos);
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.binarySearch(expected.get(i)));
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ListChangeListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CopyOnWriteObservableListTest {
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        final CopyOnWriteObservableList<String> list = new CopyOnWriteObservableList<>(Arrays.asList("a", "b", "c"));
+        final List<String> seen = new ArrayList<>();
+        for (String s : list) {
+            seen.add(s);
+            list.add(s + s);
+        }
+        assertEquals(Arrays.asList("a", "b", "c"), seen);
+        assertEquals(Arrays.asList("a", "b", "c", "aa", "bb", "cc"), list);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIteratorRemove() {
+        final Iterator<String> it = new CopyOnWriteObservableList<>(Arrays.asList("a", "b")).iterator();
+        it.next();
+        it.remove();
+    }
+
+    @Test
+    public void testRemoveAllReportsRuns() {
+        final CopyOnWriteObservableList<String> list =
+                new CopyOnWriteObservableList<>(Arrays.asList("a", "x", "x", "b", "x", "c"));
+        final List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + " " + c.getRemoved());
+            }
+        });
+        assertTrue(list.removeAll(Arrays.asList("x")));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(Arrays.asList("1 [x, x]", "2 [x]"), changes);
+        assertFalse(list.removeAll(Arrays.asList("x")));
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testConcurrentReads() throws InterruptedException {
+        final CopyOnWriteObservableList<Integer> list = new CopyOnWriteObservableList<>();
+        final Throwable[] failure = new Throwable[1];
+        final Thread reader = new Thread(() -> {
+            try {
+                for (int i = 0; i < 2000; i++) {
+                    int expected = 0;
+                    for (Integer value : list) {
+                        assertEquals(expected++, (int) value);
+                    }
+                }
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2000; i++) {
+            list.add(i);
+        }
+        reader.join();
+        assertNull(failure[0]);
+        assertEquals(2000, list.size());
+    }
+
+    @Test
+    public void testSetAllEmpty() {
+        final CopyOnWriteObservableList<String> list = new CopyOnWriteObservableList<>();
+        final List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> changes.add(c.toString()));
+        assertFalse(list.setAll(new ArrayList<>()));
+        assertTrue(changes.isEmpty());
+        assertTrue(list.setAll(Arrays.asList("a")));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final CopyOnWriteObservableList<Integer> list = new CopyOnWriteObservableList<>();
+        final Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    list.add(i);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals(2000, list.size());
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.MapChangeListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class ObservableConcurrentMapWrapperTest {
+
+    private static final int THREADS = 8;
+
+    private static final int INCREMENTS = 2000;
+
+    @Test
+    public void testConcurrentMergeNotifiesInOrder() throws InterruptedException {
+        final ObservableConcurrentMapWrapper<String, Integer> map = new ObservableConcurrentMapWrapper<>();
+        final Map<String, Integer> lastSeen = new HashMap<>();
+        final AtomicBoolean inListener = new AtomicBoolean();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final AtomicBoolean outOfOrder = new AtomicBoolean();
+        map.addListener((MapChangeListener<String, Integer>) c -> {
+            if (!inListener.compareAndSet(false, true)) {
+                overlapped.set(true);
+            }
+            while (c.next()) {
+                final Integer previous = lastSeen.put(c.getKey(), c.getValueAdded());
+                if (c.getValueAdded() != (previous == null ? 1 : previous + 1)) {
+                    outOfOrder.set(true);
+                }
+            }
+            inListener.set(false);
+        });
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final String key = "key" + (t % 3);
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < INCREMENTS; i++) {
+                    map.merge(key, 1, Integer::sum);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(overlapped.get());
+        assertFalse(outOfOrder.get());
+        int total = 0;
+        for (Integer value : map.values()) {
+            total += value;
+        }
+        assertEquals(THREADS * INCREMENTS, total);
+        assertEquals(map, lastSeen);
+    }
+
+    @Test
+    public void testAtomicOperations() {
+        final ObservableConcurrentMapWrapper<String, String> map = new ObservableConcurrentMapWrapper<>();
+        final List<String> changes = new ArrayList<>();
+        map.addListener((MapChangeListener<String, String>) c -> changes.add(c.toString()));
+
+        assertNull(map.putIfAbsent("a", "1"));
+        assertEquals("1", map.putIfAbsent("a", "2"));
+        assertFalse(map.replace("a", "2", "3"));
+        assertTrue(map.replace("a", "1", "3"));
+        assertEquals("3", map.computeIfAbsent("a", k -> "4"));
+        assertEquals("5", map.computeIfAbsent("b", k -> "5"));
+        assertFalse(map.remove("b", "4"));
+        assertNull(map.computeIfPresent("b", (k, v) -> null));
+        map.entrySet().iterator().next().setValue("6");
+        map.keySet().clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(6, changes.size());
+        assertEquals("1 added at key a", changes.get(0));
+        assertEquals("1 replaced by 3 at key a", changes.get(1));
+        assertEquals("5 added at key b", changes.get(2));
+        assertEquals("5 removed at key b", changes.get(3));
+        assertEquals("3 replaced by 6 at key a", changes.get(4));
+        assertEquals("6 removed at key a", changes.get(5));
+    }
+
+}
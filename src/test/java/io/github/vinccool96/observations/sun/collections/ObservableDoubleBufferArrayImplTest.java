@@ -0,0 +1,88 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import io.github.vinccool96.observations.collections.ObservableDoubleArray;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.*;
+
+public class ObservableDoubleBufferArrayImplTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("observable-array", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        assertTrue(file.delete());
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Test
+    public void testDirectGrowth() {
+        final ObservableDoubleBufferArrayImpl array = new ObservableDoubleBufferArrayImpl(2);
+        for (int i = 0; i < 100; i++) {
+            array.addAll(i, -i);
+        }
+        assertEquals(200, array.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, array.get(2 * i), 0.0);
+            assertEquals(-i, array.get(2 * i + 1), 0.0);
+        }
+        array.trimToSize();
+        assertEquals(99.0, array.get(198), 0.0);
+    }
+
+    @Test
+    public void testMappedValuesPersist() throws IOException {
+        try (FileChannel channel = open()) {
+            final ObservableDoubleArray array = new ObservableDoubleBufferArrayImpl(channel, 16, 0);
+            for (int i = 0; i < 1000; i++) {
+                array.addAll(i / 2.0);
+            }
+            array.set(500, -1.5);
+        }
+        assertTrue(file.length() >= 16 + 1000 * Double.BYTES);
+        try (FileChannel channel = open()) {
+            final ObservableDoubleArray array = new ObservableDoubleBufferArrayImpl(channel, 16, 1000);
+            assertEquals(1000, array.size());
+            assertEquals(0.0, array.get(0), 0.0);
+            assertEquals(-1.5, array.get(500), 0.0);
+            assertEquals(499.5, array.get(999), 0.0);
+        }
+    }
+
+    @Test
+    public void testMappedResizeClearsNewElements() throws IOException {
+        try (FileChannel channel = open()) {
+            final ObservableDoubleArray array = new ObservableDoubleBufferArrayImpl(channel, 0, 0);
+            array.setAll(1, 2, 3);
+            array.resize(1);
+            array.resize(3);
+            assertArrayEquals(new double[]{1, 0, 0}, array.toArray(null), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new ObservableDoubleBufferArrayImpl(-1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        new ObservableDoubleBufferArrayImpl(10).get(0);
+    }
+
+}
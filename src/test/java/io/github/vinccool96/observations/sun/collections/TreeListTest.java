@@ -0,0 +1,90 @@
+package io.github.vinccool96.observations.sun.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TreeListTest {
+
+    @Test
+    public void testBuildFromCollection() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(i);
+        }
+        final TreeList<Integer> list = new TreeList<>(expected);
+        assertEquals(expected, list);
+        final List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    public void testForEachRange() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        final TreeList<Integer> list = new TreeList<>(expected);
+        for (int from = 0; from <= 100; from += 7) {
+            for (int to = from; to <= 100; to += 5) {
+                final List<Integer> visited = new ArrayList<>();
+                list.forEach(from, to, visited::add);
+                assertEquals(expected.subList(from, to), visited);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testForEachRangeOutOfBounds() {
+        new TreeList<>(Arrays.asList("a")).forEach(0, 2, s -> {
+        });
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        new TreeList<>(Arrays.asList("a")).add(2, "b");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        new TreeList<String>().get(0);
+    }
+
+    @Test
+    public void testRandomOperations() {
+        final TreeList<Integer> list = new TreeList<>();
+        final List<Integer> expected = new ArrayList<>();
+        final Random random = new Random(3);
+        for (int round = 0; round < 20000; round++) {
+            final int op = random.nextInt(5);
+            if (op <= 1 || expected.isEmpty()) {
+                final int index = random.nextInt(expected.size() + 1);
+                list.add(index, round);
+                expected.add(index, round);
+            } else if (op == 2) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 3) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -round), list.set(index, -round));
+            } else {
+                final int from = random.nextInt(expected.size());
+                final int to = Math.min(expected.size(), from + random.nextInt(20));
+                list.subList(from, to).clear();
+                expected.subList(from, to).clear();
+            }
+            assertEquals(expected.size(), list.size());
+            if (round % 500 == 0) {
+                assertEquals(expected, list);
+            }
+        }
+        assertEquals(expected, list);
+    }
+
+}